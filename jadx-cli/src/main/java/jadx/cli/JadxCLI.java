@@ -1,5 +1,10 @@
 package jadx.cli;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -7,7 +12,9 @@ import jadx.api.JadxArgs;
 import jadx.api.JadxDecompiler;
 import jadx.api.impl.NoOpCodeCache;
 import jadx.api.impl.SimpleCodeWriter;
+import jadx.cli.server.JadxServer;
 import jadx.core.utils.exceptions.JadxArgsValidateException;
+import jadx.core.utils.exceptions.JadxRuntimeException;
 import jadx.core.utils.files.FileUtils;
 
 public class JadxCLI {
@@ -32,16 +39,22 @@ public class JadxCLI {
 	public static int execute(String[] args) {
 		JadxCLIArgs jadxArgs = new JadxCLIArgs();
 		if (jadxArgs.processArgs(args)) {
-			return processAndSave(jadxArgs.toJadxArgs());
+			if (jadxArgs.isServerMode()) {
+				return runServer(jadxArgs.toJadxArgs());
+			}
+			return processAndSave(jadxArgs.toJadxArgs(), jadxArgs.getMetricsFile());
 		}
 		return 0;
 	}
 
-	private static int processAndSave(JadxArgs jadxArgs) {
+	private static int processAndSave(JadxArgs jadxArgs, @Nullable String metricsFile) {
 		jadxArgs.setCodeCache(new NoOpCodeCache());
 		jadxArgs.setCodeWriterProvider(SimpleCodeWriter::new);
 		try (JadxDecompiler jadx = new JadxDecompiler(jadxArgs)) {
 			jadx.load();
+			if (metricsFile != null) {
+				jadx.addMetricsListener(new MetricsFileWriter(Paths.get(metricsFile)));
+			}
 			jadx.save();
 			int errorsCount = jadx.getErrorsCount();
 			if (errorsCount != 0) {
@@ -53,4 +66,18 @@ public class JadxCLI {
 		}
 		return 0;
 	}
+
+	private static int runServer(JadxArgs jadxArgs) {
+		// stdout used for responses, redirect all other output (including logs) to stderr
+		PrintStream out = System.out;
+		System.setOut(System.err);
+		jadxArgs.setCodeWriterProvider(SimpleCodeWriter::new);
+		try (JadxDecompiler jadx = new JadxDecompiler(jadxArgs)) {
+			jadx.load();
+			new JadxServer(jadx, jadxArgs.getThreadsCount()).serve(System.in, out);
+		} catch (IOException e) {
+			throw new JadxRuntimeException("Query server error", e);
+		}
+		return 0;
+	}
 }
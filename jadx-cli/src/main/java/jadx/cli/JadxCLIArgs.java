@@ -111,12 +111,51 @@ public class JadxCLIArgs {
 	@Parameter(names = { "--fs-case-sensitive" }, description = "treat filesystem as case sensitive, false by default")
 	protected boolean fsCaseSensitive = false;
 
+	@Parameter(
+			names = { "--classpath" },
+			description = "comma-separated library files (.jar, .aar, .dex, .jcst) used only for types resolving"
+	)
+	protected List<String> classpathFiles = new ArrayList<>();
+
+	@Parameter(names = { "--classpath-cache-dir" }, description = "directory to cache classpath sets generated from library files")
+	protected String classpathCacheDir;
+
+	@Parameter(
+			names = { "--method-time-limit" },
+			description = "CPU time limit in ms for one method processing, method dumped in fallback mode if exceeded (0 - no limit)"
+	)
+	protected int methodTimeLimit = 0;
+
+	@Parameter(
+			names = { "--class-time-limit" },
+			description = "CPU time limit in ms for one class processing, remaining methods dumped in fallback mode (0 - no limit)"
+	)
+	protected int classTimeLimit = 0;
+
+	@Parameter(
+			names = { "--incremental" },
+			description = "save only classes changed since previous run into same output directory, remove files of deleted classes"
+	)
+	protected boolean incrementalSave = false;
+
 	@Parameter(names = { "--cfg" }, description = "save methods control flow graph to dot file")
 	protected boolean cfgOutput = false;
 
 	@Parameter(names = { "--raw-cfg" }, description = "save methods control flow graph (use raw instructions)")
 	protected boolean rawCfgOutput = false;
 
+	@Parameter(
+			names = { "--server" },
+			description = "start query server: keep input loaded, read JSON requests from stdin and write responses to stdout"
+	)
+	protected boolean serverMode = false;
+
+	@Parameter(
+			names = { "--metrics-file" },
+			description = "periodically write processing metrics in Prometheus text format to this file during save"
+	)
+	protected String metricsFile;
+
 	@Parameter(names = { "-f", "--fallback" }, description = "make simple dump (using goto instead of 'if', 'for', etc)")
 	protected boolean fallbackMode = false;
 
@@ -219,6 +258,11 @@ public class JadxCLIArgs {
 		args.setRenameValid(isRenameValid());
 		args.setRenamePrintable(isRenamePrintable());
 		args.setFsCaseSensitive(fsCaseSensitive);
+		args.setClasspathFiles(classpathFiles.stream().map(FileUtils::toFile).collect(Collectors.toList()));
+		args.setClasspathCacheDir(FileUtils.toFile(classpathCacheDir));
+		args.setMethodTimeLimit(methodTimeLimit);
+		args.setClassTimeLimit(classTimeLimit);
+		args.setIncrementalSave(incrementalSave);
 		return args;
 	}
 
@@ -250,6 +294,34 @@ public class JadxCLIArgs {
 		return threadsCount;
 	}
 
+	public List<String> getClasspathFiles() {
+		return classpathFiles;
+	}
+
+	public String getClasspathCacheDir() {
+		return classpathCacheDir;
+	}
+
+	public int getMethodTimeLimit() {
+		return methodTimeLimit;
+	}
+
+	public int getClassTimeLimit() {
+		return classTimeLimit;
+	}
+
+	public boolean isIncrementalSave() {
+		return incrementalSave;
+	}
+
+	public boolean isServerMode() {
+		return serverMode;
+	}
+
+	public String getMetricsFile() {
+		return metricsFile;
+	}
+
 	public boolean isFallbackMode() {
 		return fallbackMode;
 	}
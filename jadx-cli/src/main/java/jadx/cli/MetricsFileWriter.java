@@ -0,0 +1,41 @@
+package jadx.cli;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.metrics.IMetricsListener;
+import jadx.api.metrics.MetricsSnapshot;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Write metrics in Prometheus text format (suitable for node exporter textfile collector).
+ * File replaced atomically to not expose partially written content.
+ */
+public class MetricsFileWriter implements IMetricsListener {
+	private static final Logger LOG = LoggerFactory.getLogger(MetricsFileWriter.class);
+
+	private final Path file;
+
+	public MetricsFileWriter(Path file) {
+		this.file = file.toAbsolutePath();
+	}
+
+	@Override
+	public void onUpdate(MetricsSnapshot snapshot) {
+		try {
+			FileUtils.makeDirsForFile(file);
+			Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+			Files.write(tmpFile, snapshot.toPrometheusText().getBytes(StandardCharsets.UTF_8));
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOG.warn("Failed to write metrics file: {}", file, e);
+		}
+		LOG.debug("Metrics: {}", snapshot);
+	}
+}
@@ -2,8 +2,6 @@ package jadx.cli.clst;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -11,14 +9,8 @@ import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import jadx.api.JadxArgs;
-import jadx.api.plugins.JadxPluginManager;
-import jadx.api.plugins.input.JadxInputPlugin;
-import jadx.api.plugins.input.data.ILoadResult;
 import jadx.core.clsp.ClsSet;
-import jadx.core.dex.nodes.ClassNode;
-import jadx.core.dex.nodes.RootNode;
-import jadx.core.dex.visitors.SignatureProcessor;
+import jadx.core.clsp.ClsSetGenerator;
 
 /**
  * Utility class for convert dex or jar to jadx classes set (.jcst)
@@ -38,26 +30,7 @@ public class ConvertToClsSet {
 		List<Path> inputPaths = Stream.of(args).map(Paths::get).collect(Collectors.toList());
 		Path output = inputPaths.remove(0);
 
-		JadxPluginManager pluginManager = new JadxPluginManager();
-		List<ILoadResult> loadedInputs = new ArrayList<>();
-		for (JadxInputPlugin inputPlugin : pluginManager.getInputPlugins()) {
-			loadedInputs.add(inputPlugin.loadFiles(inputPaths));
-		}
-
-		JadxArgs jadxArgs = new JadxArgs();
-		jadxArgs.setRenameFlags(EnumSet.noneOf(JadxArgs.RenameEnum.class));
-		RootNode root = new RootNode(jadxArgs);
-		root.loadClasses(loadedInputs);
-
-		// from pre-decompilation stage run only SignatureProcessor
-		SignatureProcessor signatureProcessor = new SignatureProcessor();
-		signatureProcessor.init(root);
-		for (ClassNode classNode : root.getClasses()) {
-			signatureProcessor.visit(classNode);
-		}
-
-		ClsSet set = new ClsSet(root);
-		set.loadFrom(root);
+		ClsSet set = ClsSetGenerator.generate(inputPaths);
 		set.save(output);
 
 		LOG.info("Output: {}", output);
@@ -0,0 +1,268 @@
+package jadx.cli.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+
+import jadx.api.JadxDecompiler;
+import jadx.api.JavaClass;
+import jadx.api.JavaField;
+import jadx.api.JavaMethod;
+import jadx.api.JavaNode;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.Utils;
+
+/**
+ * Long-running query server over already loaded decompiler.
+ * <p>
+ * Read one JSON request per line: {@code {"id": 1, "method": "code", "params": {"cls": "a.b.C"}}}
+ * and write one JSON response per line: {@code {"id": 1, "result": ...}} or {@code {"id": 1, "error": "..."}}.
+ * <p>
+ * Requests processed concurrently, so responses can be written in different order.
+ * Classes decompiled lazily on first request and kept in decompiler code cache.
+ */
+public class JadxServer {
+	private static final Logger LOG = LoggerFactory.getLogger(JadxServer.class);
+
+	private static final int QUEUE_SIZE_PER_THREAD = 16;
+	private static final int DEFAULT_SEARCH_LIMIT = 100;
+
+	private static final Gson GSON = new GsonBuilder()
+			.disableHtmlEscaping()
+			.create();
+
+	private final JadxDecompiler decompiler;
+	private final int threadsCount;
+
+	private Map<String, JavaClass> classesMap;
+
+	public JadxServer(JadxDecompiler decompiler, int threadsCount) {
+		this.decompiler = decompiler;
+		this.threadsCount = threadsCount;
+	}
+
+	public void serve(InputStream in, OutputStream out) throws IOException {
+		PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		ExecutorService executor = new ThreadPoolExecutor(threadsCount, threadsCount,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(threadsCount * QUEUE_SIZE_PER_THREAD),
+				new ThreadPoolExecutor.CallerRunsPolicy()); // block reading on full queue
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			LOG.info("server ready, threads: {}", threadsCount);
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+				ServerRequest request;
+				try {
+					request = GSON.fromJson(line, ServerRequest.class);
+				} catch (JsonParseException e) {
+					write(writer, ServerResponse.error(null, "Request parse error: " + e.getMessage()));
+					continue;
+				}
+				if (request == null || request.getMethod() == null) {
+					JsonElement id = request == null ? null : request.getId();
+					write(writer, ServerResponse.error(id, "Request parse error: missing method"));
+					continue;
+				}
+				if ("shutdown".equals(request.getMethod())) {
+					break;
+				}
+				executor.execute(() -> write(writer, process(request)));
+			}
+		} finally {
+			executor.shutdown();
+			try {
+				executor.awaitTermination(1, TimeUnit.DAYS);
+			} catch (InterruptedException e) {
+				LOG.error("Server shutdown interrupted", e);
+				Thread.currentThread().interrupt();
+			}
+			writer.flush();
+		}
+	}
+
+	private static void write(PrintWriter writer, ServerResponse response) {
+		String str = GSON.toJson(response);
+		synchronized (writer) {
+			writer.println(str);
+			writer.flush();
+		}
+	}
+
+	ServerResponse process(ServerRequest request) {
+		try {
+			return ServerResponse.result(request.getId(), processMethod(request));
+		} catch (IllegalArgumentException e) {
+			return ServerResponse.error(request.getId(), e.getMessage());
+		} catch (Exception e) {
+			LOG.error("Request failed: {}", request.getMethod(), e);
+			String msg = e.getMessage();
+			return ServerResponse.error(request.getId(), msg != null ? msg : e.getClass().getSimpleName());
+		}
+	}
+
+	private Object processMethod(ServerRequest request) {
+		String method = request.getMethod();
+		switch (method) {
+			case "classes":
+				return Utils.collectionMap(decompiler.getClasses(), JavaClass::getFullName);
+
+			case "code":
+				return getCls(request).getCode();
+
+			case "smali":
+				return getCls(request).getSmali();
+
+			case "members":
+				return getMembers(getCls(request));
+
+			case "usage":
+				return getUsage(request);
+
+			case "search":
+				return search(request.getRequiredParam("query"), request.getIntParam("limit", DEFAULT_SEARCH_LIMIT));
+
+			default:
+				throw new IllegalArgumentException("Unknown method: " + method);
+		}
+	}
+
+	private JavaClass getCls(ServerRequest request) {
+		String clsName = request.getRequiredParam("cls");
+		JavaClass cls = searchClass(clsName);
+		if (cls == null) {
+			throw new IllegalArgumentException("Class not found: " + clsName);
+		}
+		return cls;
+	}
+
+	@Nullable
+	private JavaClass searchClass(String clsName) {
+		JavaClass cls = getClassesMap().get(clsName);
+		if (cls != null) {
+			return cls;
+		}
+		// inner class or original (not renamed) name
+		return decompiler.searchJavaClassByOrigFullName(clsName);
+	}
+
+	private synchronized Map<String, JavaClass> getClassesMap() {
+		if (classesMap == null) {
+			List<JavaClass> classes = decompiler.getClasses();
+			Map<String, JavaClass> map = new HashMap<>(classes.size());
+			for (JavaClass cls : classes) {
+				map.put(cls.getFullName(), cls);
+			}
+			classesMap = map;
+		}
+		return classesMap;
+	}
+
+	private static Map<String, List<ServerNode>> getMembers(JavaClass cls) {
+		Map<String, List<ServerNode>> map = new LinkedHashMap<>();
+		map.put("classes", Utils.collectionMap(cls.getInnerClasses(), ServerNode::new));
+		map.put("fields", Utils.collectionMap(cls.getFields(), ServerNode::new));
+		map.put("methods", Utils.collectionMap(cls.getMethods(), ServerNode::new));
+		return map;
+	}
+
+	/**
+	 * Usage of class or class member if 'member' param provided (all overloaded methods included)
+	 */
+	private List<ServerNode> getUsage(ServerRequest request) {
+		JavaClass cls = getCls(request);
+		String memberName = request.getStringParam("member");
+		List<JavaNode> nodes = new ArrayList<>();
+		if (memberName == null) {
+			nodes.add(cls);
+		} else {
+			for (JavaField fld : cls.getFields()) {
+				if (fld.getName().equals(memberName)) {
+					nodes.add(fld);
+				}
+			}
+			for (JavaMethod mth : cls.getMethods()) {
+				if (mth.getName().equals(memberName)) {
+					nodes.add(mth);
+				}
+			}
+			if (nodes.isEmpty()) {
+				throw new IllegalArgumentException("Member not found: " + memberName + " in " + cls);
+			}
+		}
+		List<ServerNode> usage = new ArrayList<>();
+		for (JavaNode node : nodes) {
+			for (JavaNode useNode : node.getUseIn()) {
+				usage.add(new ServerNode(useNode));
+			}
+		}
+		return usage;
+	}
+
+	/**
+	 * Case insensitive search in class, method and field names. Don't trigger decompilation.
+	 */
+	private List<String> search(String query, int limit) {
+		String str = query.toLowerCase(Locale.ROOT);
+		List<String> result = new ArrayList<>();
+		for (JavaClass javaCls : decompiler.getClasses()) {
+			searchInClass(javaCls.getClassNode(), str, result);
+			if (result.size() >= limit) {
+				return result.subList(0, limit);
+			}
+		}
+		return result;
+	}
+
+	private static void searchInClass(ClassNode cls, String str, List<String> result) {
+		String clsName = cls.getFullName();
+		if (match(clsName, str)) {
+			result.add(clsName);
+		}
+		for (MethodNode mth : cls.getMethods()) {
+			if (match(mth.getAlias(), str)) {
+				result.add(clsName + '.' + mth.getAlias());
+			}
+		}
+		for (FieldNode fld : cls.getFields()) {
+			if (match(fld.getAlias(), str)) {
+				result.add(clsName + '.' + fld.getAlias());
+			}
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			searchInClass(innerCls, str, result);
+		}
+	}
+
+	private static boolean match(String name, String lowerCaseQuery) {
+		return name.toLowerCase(Locale.ROOT).contains(lowerCaseQuery);
+	}
+}
@@ -0,0 +1,30 @@
+package jadx.cli.server;
+
+import jadx.api.JavaNode;
+
+/**
+ * Short node description used in server responses
+ */
+public class ServerNode {
+	private final String name;
+	private final String cls;
+	private final int line;
+
+	public ServerNode(JavaNode node) {
+		this.name = node.getFullName();
+		this.cls = node.getTopParentClass().getFullName();
+		this.line = node.getDecompiledLine();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getCls() {
+		return cls;
+	}
+
+	public int getLine() {
+		return line;
+	}
+}
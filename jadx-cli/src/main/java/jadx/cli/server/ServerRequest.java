@@ -0,0 +1,48 @@
+package jadx.cli.server;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ServerRequest {
+	private JsonElement id;
+	private String method;
+	private JsonObject params;
+
+	public JsonElement getId() {
+		return id;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	@Nullable
+	public String getStringParam(String name) {
+		if (params == null) {
+			return null;
+		}
+		JsonElement element = params.get(name);
+		if (element == null || element.isJsonNull()) {
+			return null;
+		}
+		return element.getAsString();
+	}
+
+	public String getRequiredParam(String name) {
+		String value = getStringParam(name);
+		if (value == null) {
+			throw new IllegalArgumentException("Missing parameter: " + name);
+		}
+		return value;
+	}
+
+	public int getIntParam(String name, int defValue) {
+		String value = getStringParam(name);
+		if (value == null) {
+			return defValue;
+		}
+		return Integer.parseInt(value);
+	}
+}
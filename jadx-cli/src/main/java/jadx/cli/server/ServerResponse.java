@@ -0,0 +1,35 @@
+package jadx.cli.server;
+
+import com.google.gson.JsonElement;
+
+public class ServerResponse {
+	private final JsonElement id;
+	private final Object result;
+	private final String error;
+
+	public static ServerResponse result(JsonElement id, Object result) {
+		return new ServerResponse(id, result, null);
+	}
+
+	public static ServerResponse error(JsonElement id, String error) {
+		return new ServerResponse(id, null, error);
+	}
+
+	private ServerResponse(JsonElement id, Object result, String error) {
+		this.id = id;
+		this.result = result;
+		this.error = error;
+	}
+
+	public JsonElement getId() {
+		return id;
+	}
+
+	public Object getResult() {
+		return result;
+	}
+
+	public String getError() {
+		return error;
+	}
+}
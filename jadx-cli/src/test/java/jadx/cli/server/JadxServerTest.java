@@ -0,0 +1,67 @@
+package jadx.cli.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JadxServerTest {
+
+	@Test
+	public void testRequests() throws Exception {
+		List<JsonObject> responses = serve(
+				"{\"id\": 1, \"method\": \"classes\"}",
+				"{\"id\": 2, \"method\": \"code\", \"params\": {\"cls\": \"defpackage.HelloWorld\"}}",
+				"{\"id\": 3, \"method\": \"search\", \"params\": {\"query\": \"MAIN\"}}",
+				"{\"id\": 4, \"method\": \"code\", \"params\": {\"cls\": \"not.Exists\"}}",
+				"{\"id\": 5, \"method\": \"unknown\"}",
+				"{\"method\": \"shutdown\"}",
+				"{\"id\": 6, \"method\": \"classes\"}");
+
+		assertThat(responses).hasSize(5);
+		assertThat(getResponse(responses, 1).get("result").toString()).isEqualTo("[\"defpackage.HelloWorld\"]");
+		assertThat(getResponse(responses, 2).get("result").getAsString()).contains("System.out.println(\"Hello, World\");");
+		assertThat(getResponse(responses, 3).get("result").toString()).isEqualTo("[\"defpackage.HelloWorld.main\"]");
+		assertThat(getResponse(responses, 4).get("error").getAsString()).isEqualTo("Class not found: not.Exists");
+		assertThat(getResponse(responses, 5).get("error").getAsString()).isEqualTo("Unknown method: unknown");
+	}
+
+	private List<JsonObject> serve(String... requests) throws Exception {
+		URL resource = getClass().getClassLoader().getResource("samples/hello.dex");
+		assertThat(resource).isNotNull();
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(new File(resource.toURI()));
+
+		ByteArrayInputStream in = new ByteArrayInputStream(String.join("\n", requests).getBytes(StandardCharsets.UTF_8));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			new JadxServer(jadx, 2).serve(in, out);
+		}
+		List<JsonObject> responses = new ArrayList<>();
+		for (String line : new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+			responses.add(JsonParser.parseString(line).getAsJsonObject());
+		}
+		return responses;
+	}
+
+	private static JsonObject getResponse(List<JsonObject> responses, int id) {
+		return responses.stream()
+				.filter(r -> r.has("id") && r.get("id").getAsInt() == id)
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("Response not found for id: " + id));
+	}
+}
@@ -10,4 +10,8 @@ public interface ICodeCache {
 
 	@Nullable
 	ICodeInfo get(String clsFullName);
+
+	default boolean contains(String clsFullName) {
+		return get(clsFullName) != null;
+	}
 }
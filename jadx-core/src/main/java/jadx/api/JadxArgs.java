@@ -81,6 +81,46 @@ public class JadxArgs {
 
 	private ICodeData codeData;
 
+	/**
+	 * File to store results of load and pre-decompile stages for faster reload of same input files
+	 */
+	private File snapshotFile = null;
+
+	/**
+	 * Library files (.jar, .aar, .dex or prebuilt .jcst) used only as classpath for type resolving
+	 */
+	private List<File> classpathFiles = new ArrayList<>();
+
+	/**
+	 * Directory to cache classpath sets generated from {@link #classpathFiles}.
+	 * If not set, sets will be generated on every load.
+	 */
+	private File classpathCacheDir = null;
+
+	/**
+	 * CPU time limit (in milliseconds) for processing of one method.
+	 * If exceeded method code will be dumped in fallback mode. Zero or negative value disables limit.
+	 */
+	private int methodTimeLimit = 0;
+
+	/**
+	 * CPU time limit (in milliseconds) for processing of one top level class (including inner classes).
+	 * If exceeded all not yet processed methods will be dumped in fallback mode. Zero or negative value disables limit.
+	 */
+	private int classTimeLimit = 0;
+
+	/**
+	 * Minimal methods count in top level class (including inner classes) to process its methods
+	 * in several threads. Used only if {@link #threadsCount} is greater than 1. Zero or negative value disables it.
+	 */
+	private int parallelMethodsThreshold = 64;
+
+	/**
+	 * Save only classes changed since previous save into same output directory.
+	 * Classes hashes stored in manifest file next to sources output directory.
+	 */
+	private boolean incrementalSave = false;
+
 	public JadxArgs() {
 		// use default options
 	}
@@ -395,6 +435,62 @@ public class JadxArgs {
 		this.codeData = codeData;
 	}
 
+	public File getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	public void setSnapshotFile(File snapshotFile) {
+		this.snapshotFile = snapshotFile;
+	}
+
+	public List<File> getClasspathFiles() {
+		return classpathFiles;
+	}
+
+	public void setClasspathFiles(List<File> classpathFiles) {
+		this.classpathFiles = classpathFiles;
+	}
+
+	public File getClasspathCacheDir() {
+		return classpathCacheDir;
+	}
+
+	public void setClasspathCacheDir(File classpathCacheDir) {
+		this.classpathCacheDir = classpathCacheDir;
+	}
+
+	public int getMethodTimeLimit() {
+		return methodTimeLimit;
+	}
+
+	public void setMethodTimeLimit(int methodTimeLimit) {
+		this.methodTimeLimit = methodTimeLimit;
+	}
+
+	public int getClassTimeLimit() {
+		return classTimeLimit;
+	}
+
+	public void setClassTimeLimit(int classTimeLimit) {
+		this.classTimeLimit = classTimeLimit;
+	}
+
+	public int getParallelMethodsThreshold() {
+		return parallelMethodsThreshold;
+	}
+
+	public void setParallelMethodsThreshold(int parallelMethodsThreshold) {
+		this.parallelMethodsThreshold = parallelMethodsThreshold;
+	}
+
+	public boolean isIncrementalSave() {
+		return incrementalSave;
+	}
+
+	public void setIncrementalSave(boolean incrementalSave) {
+		this.incrementalSave = incrementalSave;
+	}
+
 	@Override
 	public String toString() {
 		return "JadxArgs{" + "inputFiles=" + inputFiles
@@ -423,6 +519,11 @@ public class JadxArgs {
 				+ ", fsCaseSensitive=" + fsCaseSensitive
 				+ ", renameFlags=" + renameFlags
 				+ ", outputFormat=" + outputFormat
+				+ ", classpathFiles=" + classpathFiles
+				+ ", methodTimeLimit=" + methodTimeLimit
+				+ ", classTimeLimit=" + classTimeLimit
+				+ ", parallelMethodsThreshold=" + parallelMethodsThreshold
+				+ ", incrementalSave=" + incrementalSave
 				+ ", codeCache=" + codeCache
 				+ ", codeWriter=" + codeWriterProvider.apply(this).getClass().getSimpleName()
 				+ '}';
@@ -13,8 +13,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -23,11 +28,15 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.metrics.DecompileMetrics;
+import jadx.api.metrics.IMetricsListener;
+import jadx.api.metrics.MetricsSnapshot;
 import jadx.api.plugins.JadxPlugin;
 import jadx.api.plugins.JadxPluginManager;
 import jadx.api.plugins.input.JadxInputPlugin;
 import jadx.api.plugins.input.data.ILoadResult;
 import jadx.core.Jadx;
+import jadx.core.clsp.ClspGraph;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.attributes.nodes.LineAttrNode;
 import jadx.core.dex.nodes.ClassNode;
@@ -37,6 +46,7 @@ import jadx.core.dex.nodes.RootNode;
 import jadx.core.dex.nodes.VariableNode;
 import jadx.core.dex.visitors.SaveCode;
 import jadx.core.export.ExportGradleProject;
+import jadx.core.incremental.IncrementalSave;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 import jadx.core.xmlgen.BinaryXMLParser;
@@ -72,6 +82,8 @@ import jadx.core.xmlgen.ResourcesSaver;
 public final class JadxDecompiler implements Closeable {
 	private static final Logger LOG = LoggerFactory.getLogger(JadxDecompiler.class);
 
+	private static final long METRICS_UPDATE_INTERVAL_MS = 1000;
+
 	private final JadxArgs args;
 	private final JadxPluginManager pluginManager = new JadxPluginManager();
 	private final List<ILoadResult> loadedInputs = new ArrayList<>();
@@ -87,6 +99,8 @@ public final class JadxDecompiler implements Closeable {
 	private final Map<MethodNode, JavaMethod> methodsMap = new ConcurrentHashMap<>();
 	private final Map<FieldNode, JavaField> fieldsMap = new ConcurrentHashMap<>();
 
+	private final List<IMetricsListener> metricsListeners = new CopyOnWriteArrayList<>();
+
 	public JadxDecompiler() {
 		this(new JadxArgs());
 	}
@@ -99,28 +113,83 @@ public final class JadxDecompiler implements Closeable {
 		reset();
 		JadxArgsValidator.validate(args);
 		LOG.info("loading ...");
-		loadInputFiles();
-
 		root = new RootNode(args);
-		root.loadClasses(loadedInputs);
-		root.initClassPath();
-		root.loadResources(getResources());
+		// inputs, classpath and resources are independent, load them concurrently
+		ExecutorService loadExecutor = Executors.newFixedThreadPool(getLoadThreadsCount());
+		try {
+			Future<ClspGraph> clspFuture = loadExecutor.submit(root::loadClassPath);
+			Future<List<ResourceFile>> resFuture = loadExecutor.submit(() -> new ResourcesLoader(this).load());
+			loadExecutor.submit(() -> root.parseResTable(waitLoad(resFuture)));
+			loadInputFiles(loadExecutor);
+
+			root.loadClasses(loadedInputs);
+			root.initClassPath(waitLoad(clspFuture));
+			root.loadSnapshot();
+			resources = waitLoad(resFuture);
+			root.loadResources(resources);
+		} finally {
+			loadExecutor.shutdownNow();
+		}
 		root.runPreDecompileStage();
+		root.saveSnapshot();
 		root.initPasses();
 	}
 
-	private void loadInputFiles() {
+	private int getLoadThreadsCount() {
+		int tasksCount = pluginManager.getInputPlugins().size() + 3;
+		return Math.max(1, Math.min(args.getThreadsCount(), tasksCount));
+	}
+
+	private void loadInputFiles(ExecutorService executor) {
 		loadedInputs.clear();
 		List<Path> inputPaths = Utils.collectionMap(args.getInputFiles(), File::toPath);
+		List<Future<ILoadResult>> futures = new ArrayList<>();
 		for (JadxInputPlugin inputPlugin : pluginManager.getInputPlugins()) {
-			ILoadResult loadResult = inputPlugin.loadFiles(inputPaths);
-			if (loadResult != null && !loadResult.isEmpty()) {
-				loadedInputs.add(loadResult);
+			futures.add(executor.submit(() -> inputPlugin.loadFiles(inputPaths)));
+		}
+		// wait all plugins and keep results in plugins order
+		RuntimeException error = null;
+		for (Future<ILoadResult> future : futures) {
+			try {
+				ILoadResult loadResult = waitLoad(future);
+				if (loadResult != null && !loadResult.isEmpty()) {
+					loadedInputs.add(loadResult);
+				}
+			} catch (RuntimeException e) {
+				if (error == null) {
+					error = e;
+				} else {
+					error.addSuppressed(e);
+				}
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	private static <T> T waitLoad(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JadxRuntimeException("Loading interrupted", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
 			}
+			throw new JadxRuntimeException("Loading failed", cause);
 		}
 	}
 
 	private void reset() {
+		if (root != null) {
+			root.close();
+		}
 		root = null;
 		classes = null;
 		resources = null;
@@ -174,13 +243,56 @@ public final class JadxDecompiler implements Closeable {
 		ExecutorService ex = getSaveExecutor(saveSources, saveResources);
 		ex.shutdown();
 		try {
-			ex.awaitTermination(1, TimeUnit.DAYS);
+			if (metricsListeners.isEmpty()) {
+				ex.awaitTermination(1, TimeUnit.DAYS);
+			} else {
+				while (!ex.awaitTermination(METRICS_UPDATE_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+					notifyMetricsListeners();
+				}
+				notifyMetricsListeners();
+			}
 		} catch (InterruptedException e) {
 			LOG.error("Save interrupted", e);
 			Thread.currentThread().interrupt();
 		}
 	}
 
+	/**
+	 * Register listener for periodic metrics updates during {@link #save()}
+	 */
+	public void addMetricsListener(IMetricsListener listener) {
+		metricsListeners.add(listener);
+	}
+
+	public void removeMetricsListener(IMetricsListener listener) {
+		metricsListeners.remove(listener);
+	}
+
+	/**
+	 * Live metrics of loaded files processing
+	 */
+	public DecompileMetrics getMetrics() {
+		if (root == null) {
+			throw new JadxRuntimeException("No loaded files");
+		}
+		return root.getMetrics();
+	}
+
+	private void notifyMetricsListeners() {
+		MetricsSnapshot snapshot = root.getMetrics().snapshot();
+		for (IMetricsListener listener : metricsListeners) {
+			try {
+				listener.onUpdate(snapshot);
+			} catch (Exception e) {
+				LOG.warn("Metrics listener error", e);
+			}
+		}
+	}
+
+	/**
+	 * Executor with all save tasks submitted, progress can be tracked by {@link #getMetrics()}.
+	 * Incremental save manifest written on executor termination, so caller should call shutdown() after use.
+	 */
 	public ExecutorService getSaveExecutor() {
 		return getSaveExecutor(!args.isSkipSources(), !args.isSkipResources());
 	}
@@ -193,7 +305,8 @@ public final class JadxDecompiler implements Closeable {
 		LOG.debug("processing threads count: {}", threadsCount);
 
 		LOG.info("processing ...");
-		ExecutorService executor = Executors.newFixedThreadPool(threadsCount);
+		SaveExecutor executor = new SaveExecutor(threadsCount);
+		root.getMetrics().startSave();
 
 		File sourcesOutDir;
 		File resOutDir;
@@ -226,12 +339,13 @@ public final class JadxDecompiler implements Closeable {
 			appendResourcesSave(executor, resOutDir);
 		}
 		if (saveSources) {
-			appendSourcesSave(executor, sourcesOutDir);
+			executor.setIncrementalSave(appendSourcesSave(executor, sourcesOutDir));
 		}
 		return executor;
 	}
 
 	private void appendResourcesSave(ExecutorService executor, File outDir) {
+		DecompileMetrics metrics = root.getMetrics();
 		Set<String> inputFileNames = args.getInputFiles().stream().map(File::getAbsolutePath).collect(Collectors.toSet());
 		for (ResourceFile resourceFile : getResources()) {
 			if (resourceFile.getType() != ResourceType.ARSC
@@ -239,11 +353,24 @@ public final class JadxDecompiler implements Closeable {
 				// ignore resource made from input file
 				continue;
 			}
-			executor.execute(new ResourcesSaver(outDir, resourceFile));
+			metrics.addTask(0);
+			executor.execute(() -> {
+				long start = metrics.taskStarted();
+				ResourcesSaver saver = new ResourcesSaver(outDir, resourceFile);
+				try {
+					saver.run();
+				} finally {
+					metrics.addBytesWritten(saver.getWrittenBytes());
+					metrics.taskCompleted(start, 0);
+				}
+			});
 		}
 	}
 
-	private void appendSourcesSave(ExecutorService executor, File outDir) {
+	@Nullable
+	private IncrementalSave appendSourcesSave(ExecutorService executor, File outDir) {
+		DecompileMetrics metrics = root.getMetrics();
+		IncrementalSave incremental = args.isIncrementalSave() ? new IncrementalSave(root, outDir) : null;
 		Predicate<String> classFilter = args.getClassFilter();
 		for (JavaClass cls : getClasses()) {
 			if (cls.getClassNode().contains(AFlag.DONT_GENERATE)) {
@@ -252,15 +379,43 @@ public final class JadxDecompiler implements Closeable {
 			if (classFilter != null && !classFilter.test(cls.getFullName())) {
 				continue;
 			}
+			int insnsCount = countInsns(cls.getClassNode());
+			metrics.addTask(insnsCount);
 			executor.execute(() -> {
+				long start = metrics.taskStarted();
 				try {
+					ClassNode clsNode = cls.getClassNode();
+					byte[] key = null;
+					if (incremental != null) {
+						key = incremental.getClassKey(clsNode);
+						if (incremental.isUpToDate(clsNode, key)) {
+							return;
+						}
+					}
 					ICodeInfo code = cls.getCodeInfo();
-					SaveCode.save(outDir, cls.getClassNode(), code);
+					metrics.addBytesWritten(SaveCode.save(outDir, clsNode, code));
+					if (key != null) {
+						incremental.markSaved(clsNode, key);
+					}
 				} catch (Exception e) {
 					LOG.error("Error saving class: {}", cls.getFullName(), e);
+				} finally {
+					metrics.taskCompleted(start, insnsCount);
 				}
 			});
 		}
+		return incremental;
+	}
+
+	private static int countInsns(ClassNode cls) {
+		int count = 0;
+		for (MethodNode mth : cls.getMethods()) {
+			count += mth.getInsnsCount();
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			count += countInsns(innerCls);
+		}
+		return count;
 	}
 
 	public List<JavaClass> getClasses() {
@@ -515,4 +670,32 @@ public final class JadxDecompiler implements Closeable {
 	public String toString() {
 		return "jadx decompiler " + getVersion();
 	}
+
+	/**
+	 * Finish incremental save after all tasks completed (or canceled)
+	 */
+	private static final class SaveExecutor extends ThreadPoolExecutor {
+		@Nullable
+		private volatile IncrementalSave incrementalSave;
+
+		private SaveExecutor(int threadsCount) {
+			super(threadsCount, threadsCount, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+		}
+
+		void setIncrementalSave(@Nullable IncrementalSave incrementalSave) {
+			this.incrementalSave = incrementalSave;
+		}
+
+		@Override
+		protected void terminated() {
+			IncrementalSave incremental = incrementalSave;
+			if (incremental != null) {
+				try {
+					incremental.finish();
+				} catch (Exception e) {
+					LOG.error("Failed to finish incremental save", e);
+				}
+			}
+		}
+	}
 }
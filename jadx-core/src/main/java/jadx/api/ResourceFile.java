@@ -79,6 +79,10 @@ public class ResourceFile {
 				index == -1 ? "" : name.substring(index));
 	}
 
+	public void setDeobfName(String deobfName) {
+		this.deobfName = deobfName;
+	}
+
 	public ZipRef getZipRef() {
 		return zipRef;
 	}
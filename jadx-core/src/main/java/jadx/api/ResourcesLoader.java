@@ -24,7 +24,6 @@ import jadx.core.utils.exceptions.JadxException;
 import jadx.core.utils.files.FileUtils;
 import jadx.core.xmlgen.ResContainer;
 import jadx.core.xmlgen.ResProtoParser;
-import jadx.core.xmlgen.ResTableParser;
 
 import static jadx.core.utils.files.FileUtils.READ_BUFFER_SIZE;
 import static jadx.core.utils.files.FileUtils.copyStream;
@@ -81,6 +80,10 @@ public final class ResourcesLoader {
 
 	static ResContainer loadContent(JadxDecompiler jadxRef, ResourceFile rf) {
 		try {
+			RootNode root = jadxRef.getRoot();
+			if (rf.getType() == ResourceType.ARSC && !root.isProto()) {
+				return root.getResTableCache().getFiles(rf);
+			}
 			return decodeStream(rf, (size, is) -> loadContent(jadxRef, rf, is));
 		} catch (JadxException e) {
 			LOG.error("Decode error", e);
@@ -107,11 +110,8 @@ public final class ResourcesLoader {
 			}
 
 			case ARSC:
-				if (root.isProto()) {
-					return new ResProtoParser(root).decodeFiles(inputStream);
-				} else {
-					return new ResTableParser(root).decodeFiles(inputStream);
-				}
+				// binary resources table loaded from shared cache, only proto table parsed here
+				return new ResProtoParser(root).decodeFiles(inputStream);
 
 			case IMG:
 				return decodeImage(rf, inputStream);
@@ -0,0 +1,259 @@
+package jadx.api.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.CodePosition;
+import jadx.api.ICodeCache;
+import jadx.api.ICodeInfo;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Code cache with compressed code strings stored outside of java heap.
+ * <p>
+ * Code compressed with deflate and appended into direct byte buffers (segments).
+ * Line mapping and annotations kept in plain arrays, annotation values are references
+ * to already loaded nodes, so maps are restored on request without decompilation.
+ * Segment memory released after all entries in it are removed or replaced.
+ * <p>
+ * Several recently requested entries kept decoded in small LRU cache.
+ */
+public class CompressedCodeCache implements ICodeCache {
+	private static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+	private static final int DEFAULT_HOT_ENTRIES = 32;
+
+	private static final Entry EMPTY_ENTRY = new Entry(null, 0, 0, 0, new int[0], new int[0], new Object[0]);
+
+	private final int segmentSize;
+	private final Map<String, Entry> storage = new ConcurrentHashMap<>();
+	private final Map<String, ICodeInfo> hotEntries;
+
+	private Segment curSegment;
+
+	public CompressedCodeCache() {
+		this(DEFAULT_SEGMENT_SIZE, DEFAULT_HOT_ENTRIES);
+	}
+
+	public CompressedCodeCache(int segmentSize, int hotEntriesCount) {
+		this.segmentSize = segmentSize;
+		this.hotEntries = Collections.synchronizedMap(new LinkedHashMap<String, ICodeInfo>(hotEntriesCount, 0.75f, true) {
+			private static final long serialVersionUID = 3451212733219524383L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ICodeInfo> eldest) {
+				return size() > hotEntriesCount;
+			}
+		});
+	}
+
+	@Override
+	public void add(String clsFullName, ICodeInfo codeInfo) {
+		storage.put(clsFullName, encode(codeInfo));
+		hotEntries.put(clsFullName, codeInfo);
+	}
+
+	@Override
+	public void remove(String clsFullName) {
+		hotEntries.remove(clsFullName);
+		storage.remove(clsFullName);
+	}
+
+	@Override
+	public @Nullable ICodeInfo get(String clsFullName) {
+		ICodeInfo hot = hotEntries.get(clsFullName);
+		if (hot != null) {
+			return hot;
+		}
+		Entry entry = storage.get(clsFullName);
+		if (entry == null) {
+			return null;
+		}
+		ICodeInfo codeInfo = decode(entry);
+		if (storage.get(clsFullName) == entry) {
+			// don't keep decoded entry if it was replaced or removed concurrently
+			hotEntries.put(clsFullName, codeInfo);
+		}
+		return codeInfo;
+	}
+
+	@Override
+	public boolean contains(String clsFullName) {
+		return storage.containsKey(clsFullName);
+	}
+
+	/**
+	 * @return total size of compressed code for stored entries
+	 */
+	public long getCompressedSize() {
+		long size = 0;
+		for (Entry entry : storage.values()) {
+			size += entry.compressedLen;
+		}
+		return size;
+	}
+
+	private Entry encode(ICodeInfo codeInfo) {
+		if (codeInfo == ICodeInfo.EMPTY) {
+			return EMPTY_ENTRY;
+		}
+		byte[] codeBytes = codeInfo.getCodeStr().getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = compress(codeBytes);
+		int[] lines = encodeLines(codeInfo.getLineMapping());
+
+		Map<CodePosition, Object> annotations = codeInfo.getAnnotations();
+		int annCount = annotations.size();
+		int[] annPositions = new int[annCount * 3];
+		Object[] annValues = new Object[annCount];
+		int k = 0;
+		for (Map.Entry<CodePosition, Object> ann : annotations.entrySet()) {
+			CodePosition pos = ann.getKey();
+			annPositions[k * 3] = pos.getLine();
+			annPositions[k * 3 + 1] = pos.getOffset();
+			annPositions[k * 3 + 2] = pos.getPos();
+			annValues[k] = ann.getValue();
+			k++;
+		}
+		return store(compressed, codeBytes.length, lines, annPositions, annValues);
+	}
+
+	private synchronized Entry store(byte[] compressed, int codeLen, int[] lines, int[] annPositions, Object[] annValues) {
+		int len = compressed.length;
+		Segment segment = curSegment;
+		if (segment == null || segment.buf.remaining() < len) {
+			segment = new Segment(Math.max(len, segmentSize));
+			if (len < segmentSize) {
+				// keep too big entries in separate segments
+				curSegment = segment;
+			}
+		}
+		int offset = segment.buf.position();
+		segment.buf.put(compressed);
+		return new Entry(segment, offset, len, codeLen, lines, annPositions, annValues);
+	}
+
+	private static ICodeInfo decode(Entry entry) {
+		if (entry == EMPTY_ENTRY) {
+			return ICodeInfo.EMPTY;
+		}
+		byte[] compressed = new byte[entry.compressedLen];
+		ByteBuffer buf = entry.segment.buf.duplicate();
+		buf.position(entry.offset);
+		buf.get(compressed);
+		String code = new String(decompress(compressed, entry.codeLen), StandardCharsets.UTF_8);
+
+		int[] lines = entry.lines;
+		int[] annPositions = entry.annPositions;
+		if (lines.length == 0 && annPositions.length == 0) {
+			return new SimpleCodeInfo(code);
+		}
+		Map<Integer, Integer> lineMapping = new HashMap<>(lines.length);
+		for (int i = 0; i < lines.length; i += 2) {
+			lineMapping.put(lines[i], lines[i + 1]);
+		}
+		Object[] annValues = entry.annValues;
+		Map<CodePosition, Object> annotations = new HashMap<>(annValues.length * 4 / 3 + 1);
+		for (int i = 0; i < annValues.length; i++) {
+			int p = i * 3;
+			annotations.put(new CodePosition(annPositions[p], annPositions[p + 1], annPositions[p + 2]), annValues[i]);
+		}
+		return new AnnotatedCodeInfo(code, lineMapping, annotations);
+	}
+
+	private static int[] encodeLines(Map<Integer, Integer> lineMapping) {
+		int[] lines = new int[lineMapping.size() * 2];
+		int k = 0;
+		for (Map.Entry<Integer, Integer> line : lineMapping.entrySet()) {
+			lines[k++] = line.getKey();
+			lines[k++] = line.getValue();
+		}
+		return lines;
+	}
+
+	private static byte[] compress(byte[] data) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			byte[] buf = new byte[Math.max(64, data.length / 2)];
+			int len = 0;
+			while (!deflater.finished()) {
+				if (len == buf.length) {
+					buf = Arrays.copyOf(buf, buf.length * 2);
+				}
+				len += deflater.deflate(buf, len, buf.length - len);
+			}
+			return Arrays.copyOf(buf, len);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] decompress(byte[] data, int resultLen) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			byte[] result = new byte[resultLen];
+			int len = 0;
+			while (len < resultLen) {
+				int n = inflater.inflate(result, len, resultLen - len);
+				if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+					break;
+				}
+				len += n;
+			}
+			if (len != resultLen) {
+				throw new JadxRuntimeException("Code cache data corrupted, expected size: " + resultLen + ", got: " + len);
+			}
+			return result;
+		} catch (DataFormatException e) {
+			throw new JadxRuntimeException("Code cache data corrupted", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static final class Segment {
+		private final ByteBuffer buf;
+
+		private Segment(int size) {
+			this.buf = ByteBuffer.allocateDirect(size);
+		}
+	}
+
+	private static final class Entry {
+		private final Segment segment;
+		private final int offset;
+		private final int compressedLen;
+		private final int codeLen;
+		private final int[] lines;
+		private final int[] annPositions;
+		private final Object[] annValues;
+
+		private Entry(Segment segment, int offset, int compressedLen, int codeLen,
+				int[] lines, int[] annPositions, Object[] annValues) {
+			this.segment = segment;
+			this.offset = offset;
+			this.compressedLen = compressedLen;
+			this.codeLen = codeLen;
+			this.lines = lines;
+			this.annPositions = annPositions;
+			this.annValues = annValues;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CompressedCodeCache";
+	}
+}
@@ -27,6 +27,11 @@ public class InMemoryCodeCache implements ICodeCache {
 		return storage.get(clsFullName);
 	}
 
+	@Override
+	public boolean contains(String clsFullName) {
+		return storage.containsKey(clsFullName);
+	}
+
 	@Override
 	public String toString() {
 		return "InMemoryCodeCache";
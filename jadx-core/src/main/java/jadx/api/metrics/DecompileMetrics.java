@@ -0,0 +1,110 @@
+package jadx.api.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live decompilation counters, thread safe.
+ * Use {@link #snapshot()} to get consistent view with computed rates and ETA.
+ */
+public final class DecompileMetrics {
+
+	private final LongAdder classesLoaded = new LongAdder();
+	private final LongAdder passesCompleted = new LongAdder();
+	private final LongAdder classesGenerated = new LongAdder();
+
+	private final LongAdder tasksTotal = new LongAdder();
+	private final LongAdder tasksStarted = new LongAdder();
+	private final LongAdder tasksCompleted = new LongAdder();
+	private final LongAdder insnsTotal = new LongAdder();
+	private final LongAdder insnsCompleted = new LongAdder();
+	private final LongAdder bytesWritten = new LongAdder();
+
+	private final Map<String, LongAdder> threadBusyTime = new ConcurrentHashMap<>();
+
+	private volatile long saveStartTime;
+
+	public void addClassesLoaded(int count) {
+		classesLoaded.add(count);
+	}
+
+	public void addPassesCompleted(int count) {
+		passesCompleted.add(count);
+	}
+
+	public void incClassesGenerated() {
+		classesGenerated.increment();
+	}
+
+	/**
+	 * Reset save counters, should be called before new save tasks added
+	 */
+	public void startSave() {
+		tasksTotal.reset();
+		tasksStarted.reset();
+		tasksCompleted.reset();
+		insnsTotal.reset();
+		insnsCompleted.reset();
+		bytesWritten.reset();
+		threadBusyTime.clear();
+		saveStartTime = System.nanoTime();
+	}
+
+	/**
+	 * Register save task
+	 *
+	 * @param insnsCount instructions count of saved class, used as task weight for ETA
+	 */
+	public void addTask(int insnsCount) {
+		tasksTotal.increment();
+		insnsTotal.add(insnsCount);
+	}
+
+	/**
+	 * @return task start time for {@link #taskCompleted(long, int)}
+	 */
+	public long taskStarted() {
+		tasksStarted.increment();
+		return System.nanoTime();
+	}
+
+	public void taskCompleted(long startTime, int insnsCount) {
+		long busyTime = System.nanoTime() - startTime;
+		threadBusyTime.computeIfAbsent(Thread.currentThread().getName(), n -> new LongAdder()).add(busyTime);
+		insnsCompleted.add(insnsCount);
+		tasksCompleted.increment();
+	}
+
+	public void addBytesWritten(long bytes) {
+		bytesWritten.add(bytes);
+	}
+
+	public MetricsSnapshot snapshot() {
+		long startTime = saveStartTime;
+		long elapsed = startTime == 0 ? 0 : System.nanoTime() - startTime;
+		Map<String, Long> busyTime;
+		if (threadBusyTime.isEmpty()) {
+			busyTime = Collections.emptyMap();
+		} else {
+			busyTime = new HashMap<>(threadBusyTime.size());
+			threadBusyTime.forEach((name, time) -> busyTime.put(name, time.sum()));
+		}
+		// read 'completed' counters before 'started' to keep derived values non negative
+		long completed = tasksCompleted.sum();
+		long started = tasksStarted.sum();
+		return new MetricsSnapshot(elapsed,
+				classesLoaded.sum(),
+				passesCompleted.sum(),
+				classesGenerated.sum(),
+				tasksTotal.sum(),
+				started,
+				completed,
+				insnsTotal.sum(),
+				insnsCompleted.sum(),
+				bytesWritten.sum(),
+				busyTime);
+	}
+}
@@ -0,0 +1,12 @@
+package jadx.api.metrics;
+
+/**
+ * Receive periodic metrics updates during {@link jadx.api.JadxDecompiler#save()}
+ */
+public interface IMetricsListener {
+
+	/**
+	 * Called from thread waiting for save completion, last call made after all tasks finished.
+	 */
+	void onUpdate(MetricsSnapshot snapshot);
+}
@@ -0,0 +1,189 @@
+package jadx.api.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable view of {@link DecompileMetrics} values.
+ * Rates and utilization computed relative to save start.
+ */
+public final class MetricsSnapshot {
+
+	private final long elapsedNanos;
+	private final long classesLoaded;
+	private final long passesCompleted;
+	private final long classesGenerated;
+	private final long tasksTotal;
+	private final long tasksStarted;
+	private final long tasksCompleted;
+	private final long insnsTotal;
+	private final long insnsCompleted;
+	private final long bytesWritten;
+	private final Map<String, Long> threadBusyNanos;
+
+	MetricsSnapshot(long elapsedNanos, long classesLoaded, long passesCompleted, long classesGenerated,
+			long tasksTotal, long tasksStarted, long tasksCompleted, long insnsTotal, long insnsCompleted,
+			long bytesWritten, Map<String, Long> threadBusyNanos) {
+		this.elapsedNanos = elapsedNanos;
+		this.classesLoaded = classesLoaded;
+		this.passesCompleted = passesCompleted;
+		this.classesGenerated = classesGenerated;
+		this.tasksTotal = tasksTotal;
+		this.tasksStarted = tasksStarted;
+		this.tasksCompleted = tasksCompleted;
+		this.insnsTotal = insnsTotal;
+		this.insnsCompleted = insnsCompleted;
+		this.bytesWritten = bytesWritten;
+		this.threadBusyNanos = threadBusyNanos;
+	}
+
+	/**
+	 * Time since save start, 0 if save not started
+	 */
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+	}
+
+	public long getClassesLoaded() {
+		return classesLoaded;
+	}
+
+	/**
+	 * Passes applied to top level classes (each pass counted once per class)
+	 */
+	public long getPassesCompleted() {
+		return passesCompleted;
+	}
+
+	/**
+	 * Classes code generated since decompiler load (not reset on save start)
+	 */
+	public long getClassesGenerated() {
+		return classesGenerated;
+	}
+
+	public long getTasksTotal() {
+		return tasksTotal;
+	}
+
+	public long getTasksCompleted() {
+		return tasksCompleted;
+	}
+
+	/**
+	 * Tasks submitted but not started yet
+	 */
+	public long getQueueDepth() {
+		return tasksTotal - tasksStarted;
+	}
+
+	/**
+	 * Tasks currently running
+	 */
+	public long getTasksInProgress() {
+		return tasksStarted - tasksCompleted;
+	}
+
+	public long getBytesWritten() {
+		return bytesWritten;
+	}
+
+	/**
+	 * Save progress in percents weighted by instructions count of saved classes
+	 */
+	public int getProgress() {
+		if (insnsTotal == 0) {
+			return tasksTotal == 0 ? 0 : (int) (tasksCompleted * 100 / tasksTotal);
+		}
+		return (int) (insnsCompleted * 100 / insnsTotal);
+	}
+
+	/**
+	 * Classes saved per second in current save.
+	 * Computed from save tasks, not from {@link #getClassesGenerated()},
+	 * because code generation counted for whole decompiler lifetime.
+	 */
+	public double getClassesPerSecond() {
+		return perSecond(tasksCompleted);
+	}
+
+	public double getBytesPerSecond() {
+		return perSecond(bytesWritten);
+	}
+
+	/**
+	 * Estimated time to save completion based on instructions throughput.
+	 *
+	 * @return -1 if not enough data for estimation
+	 */
+	public long getEtaMillis() {
+		if (insnsCompleted == 0 || elapsedNanos == 0) {
+			return -1;
+		}
+		long remaining = insnsTotal - insnsCompleted;
+		return TimeUnit.NANOSECONDS.toMillis((long) ((double) elapsedNanos * remaining / insnsCompleted));
+	}
+
+	/**
+	 * Busy time fraction (0..1) of each thread executed save tasks
+	 */
+	public Map<String, Double> getThreadsUtilization() {
+		Map<String, Double> map = new TreeMap<>();
+		for (Map.Entry<String, Long> entry : threadBusyNanos.entrySet()) {
+			double utilization = elapsedNanos == 0 ? 0 : (double) entry.getValue() / elapsedNanos;
+			map.put(entry.getKey(), Math.min(1.0, utilization));
+		}
+		return map;
+	}
+
+	private double perSecond(long value) {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return value * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+
+	/**
+	 * Format metrics in Prometheus text exposition format
+	 */
+	public String toPrometheusText() {
+		StringBuilder sb = new StringBuilder();
+		appendMetric(sb, "jadx_classes_loaded_total", "counter", classesLoaded);
+		appendMetric(sb, "jadx_passes_completed_total", "counter", passesCompleted);
+		appendMetric(sb, "jadx_classes_generated_total", "counter", classesGenerated);
+		appendMetric(sb, "jadx_save_tasks_total", "counter", tasksTotal);
+		appendMetric(sb, "jadx_save_tasks_completed_total", "counter", tasksCompleted);
+		appendMetric(sb, "jadx_save_queue_depth", "gauge", getQueueDepth());
+		appendMetric(sb, "jadx_save_insns_total", "counter", insnsTotal);
+		appendMetric(sb, "jadx_save_insns_completed_total", "counter", insnsCompleted);
+		appendMetric(sb, "jadx_bytes_written_total", "counter", bytesWritten);
+		appendMetric(sb, "jadx_save_elapsed_seconds", "gauge", elapsedNanos / 1e9);
+		long eta = getEtaMillis();
+		appendMetric(sb, "jadx_save_eta_seconds", "gauge", eta == -1 ? Double.NaN : eta / 1e3);
+		Map<String, Double> utilization = getThreadsUtilization();
+		if (!utilization.isEmpty()) {
+			sb.append("# TYPE jadx_thread_utilization gauge\n");
+			for (Map.Entry<String, Double> entry : utilization.entrySet()) {
+				sb.append("jadx_thread_utilization{thread=\"")
+						.append(entry.getKey().replace("\\", "\\\\").replace("\"", "\\\""))
+						.append("\"} ").append(entry.getValue()).append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+	private static void appendMetric(StringBuilder sb, String name, String type, Number value) {
+		sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+		sb.append(name).append(' ').append(value).append('\n');
+	}
+
+	@Override
+	public String toString() {
+		return "progress: " + getProgress() + '%'
+				+ ", classes: " + tasksCompleted + '/' + tasksTotal
+				+ ", queue: " + getQueueDepth()
+				+ ", written: " + bytesWritten + " bytes"
+				+ ", eta: " + getEtaMillis() + "ms";
+	}
+}
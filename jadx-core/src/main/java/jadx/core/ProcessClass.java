@@ -1,15 +1,27 @@
 package jadx.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import jadx.api.ICodeInfo;
+import jadx.api.JadxArgs;
+import jadx.api.metrics.DecompileMetrics;
 import jadx.core.codegen.CodeGen;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.LoadStage;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
 import jadx.core.dex.visitors.DepthTraversal;
 import jadx.core.dex.visitors.IDexTreeVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
+import jadx.core.utils.ProcessTimeLimit;
+import jadx.core.utils.exceptions.JadxInterruptedException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
 import static jadx.core.dex.nodes.ProcessState.GENERATED_AND_UNLOADED;
@@ -54,19 +66,29 @@ public final class ProcessClass {
 				}
 				if (cls.getState() == LOADED) {
 					cls.setState(PROCESS_STARTED);
-					for (IDexTreeVisitor visitor : cls.root().getPasses()) {
-						DepthTraversal.visit(visitor, cls);
+					if (cls.root().getArgs().getClassTimeLimit() > 0) {
+						cls.setProcessStartTime(ProcessTimeLimit.currentTime());
+					}
+					try {
+						runPasses(cls);
+					} finally {
+						cls.setProcessStartTime(0);
 					}
 					cls.setState(PROCESS_COMPLETE);
 				}
 				if (codegen) {
 					ICodeInfo code = CodeGen.generate(cls);
+					cls.root().getMetrics().incClassesGenerated();
 					if (!cls.contains(AFlag.DONT_UNLOAD_CLASS)) {
 						cls.unload();
 						cls.setState(GENERATED_AND_UNLOADED);
 					}
 					return code;
 				}
+			} catch (JadxInterruptedException e) {
+				// drop partially processed class
+				cls.unload();
+				throw e;
 			} catch (Throwable e) {
 				cls.addError("Class process error: " + e.getClass().getSimpleName(), e);
 			}
@@ -74,6 +96,155 @@ public final class ProcessClass {
 		}
 	}
 
+	/**
+	 * Apply passes to class.
+	 * For big classes sequences of {@link IMethodLocalVisitor} passes executed
+	 * for different methods concurrently (using {@link RootNode#getMethodsExecutor()}),
+	 * other passes act as barriers and visit whole class as usual.
+	 * If current thread interrupted, processing stops before next pass.
+	 */
+	private static void runPasses(ClassNode cls) {
+		List<IDexTreeVisitor> passes = cls.root().getPasses();
+		DecompileMetrics metrics = cls.root().getMetrics();
+		boolean parallel = canProcessMethodsInParallel(cls);
+		int count = passes.size();
+		int i = 0;
+		while (i < count) {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new JadxInterruptedException("Processing interrupted for class: " + cls);
+			}
+			IDexTreeVisitor visitor = passes.get(i);
+			if (parallel && visitor instanceof IMethodLocalVisitor) {
+				int end = i + 1;
+				while (end < count && passes.get(end) instanceof IMethodLocalVisitor) {
+					end++;
+				}
+				List<IDexTreeVisitor> group = passes.subList(i, end);
+				visitMethodsInParallel(cls, group);
+				metrics.addPassesCompleted(group.size());
+				i = end;
+			} else {
+				DepthTraversal.visit(visitor, cls);
+				metrics.addPassesCompleted(1);
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * Current thread takes part in processing, so methods processed even if all executor threads are busy.
+	 */
+	private static void visitMethodsInParallel(ClassNode cls, List<IDexTreeVisitor> group) {
+		List<MethodNode> methods = collectMethods(cls, new ArrayList<>());
+		RootNode root = cls.root();
+		MethodsBatch batch = new MethodsBatch(methods, group);
+		try {
+			int helpers = Math.min(root.getArgs().getThreadsCount() - 1, methods.size() - 1);
+			ExecutorService executor = root.getMethodsExecutor();
+			for (int k = 0; k < helpers; k++) {
+				executor.execute(batch);
+			}
+			batch.process();
+		} finally {
+			batch.closeAndWait();
+		}
+	}
+
+	private static final class MethodsBatch implements Runnable {
+		private final List<MethodNode> methods;
+		private final List<IDexTreeVisitor> passes;
+		private final AtomicInteger nextMth = new AtomicInteger();
+		private int activeHelpers;
+		private boolean closed;
+
+		private MethodsBatch(List<MethodNode> methods, List<IDexTreeVisitor> passes) {
+			this.methods = methods;
+			this.passes = passes;
+		}
+
+		/**
+		 * Executed by helper thread, skipped if batch already completed
+		 */
+		@Override
+		public void run() {
+			synchronized (this) {
+				if (closed) {
+					return;
+				}
+				activeHelpers++;
+			}
+			try {
+				process();
+			} finally {
+				synchronized (this) {
+					activeHelpers--;
+					notifyAll();
+				}
+			}
+		}
+
+		private void process() {
+			int count = methods.size();
+			int idx;
+			while ((idx = nextMth.getAndIncrement()) < count) {
+				MethodNode mth = methods.get(idx);
+				for (IDexTreeVisitor visitor : passes) {
+					DepthTraversal.visit(visitor, mth);
+				}
+			}
+		}
+
+		/**
+		 * Wait for helpers even if interrupted, next passes can't run while methods still changed
+		 */
+		private synchronized void closeAndWait() {
+			closed = true;
+			boolean interrupted = false;
+			while (activeHelpers > 0) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static boolean canProcessMethodsInParallel(ClassNode cls) {
+		JadxArgs args = cls.root().getArgs();
+		if (args.getThreadsCount() <= 1) {
+			return false;
+		}
+		if (args.getClassTimeLimit() > 0) {
+			// class time measured as CPU time of processing thread
+			return false;
+		}
+		int threshold = args.getParallelMethodsThreshold();
+		return threshold > 0 && countMethods(cls) >= threshold;
+	}
+
+	private static int countMethods(ClassNode cls) {
+		int count = cls.getMethods().size();
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			count += countMethods(innerCls);
+		}
+		return count;
+	}
+
+	/**
+	 * Collect methods in same order as {@link DepthTraversal#visit(IDexTreeVisitor, ClassNode)}
+	 */
+	private static List<MethodNode> collectMethods(ClassNode cls, List<MethodNode> list) {
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			collectMethods(innerCls, list);
+		}
+		list.addAll(cls.getMethods());
+		return list;
+	}
+
 	@NotNull
 	public static ICodeInfo generateCode(ClassNode cls) {
 		ClassNode topParentClass = cls.getTopParentClass();
@@ -89,6 +260,8 @@ public final class ProcessClass {
 				throw new JadxRuntimeException("Codegen failed");
 			}
 			return code;
+		} catch (JadxInterruptedException e) {
+			throw e;
 		} catch (Throwable e) {
 			throw new JadxRuntimeException("Failed to generate code for class: " + cls.getFullName(), e);
 		}
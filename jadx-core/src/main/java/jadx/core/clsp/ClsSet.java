@@ -1,23 +1,30 @@
 package jadx.core.clsp;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.jar.JarEntry;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -37,6 +44,7 @@ import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.utils.exceptions.DecodeException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.ByteBufferInputStream;
 import jadx.core.utils.files.FileUtils;
 
 /**
@@ -50,7 +58,9 @@ public class ClsSet {
 	private static final String CLST_PATH = "/clst/" + CLST_FILENAME;
 
 	private static final String JADX_CLS_SET_HEADER = "jadx-cst";
-	private static final int VERSION = 3;
+	static final int VERSION = 4;
+
+	private static final String CLST_CACHE_DIR = "jadx-clst";
 
 	private static final String STRING_CHARSET = "US-ASCII";
 
@@ -69,23 +79,87 @@ public class ClsSet {
 		OUTER_GENERIC,
 		OBJECT,
 		ARRAY,
-		PRIMITIVE
+		PRIMITIVE,
+		// types not included in this set (stored by name), used in sets for library classes
+		EXTERNAL_OBJECT,
+		EXTERNAL_GENERIC
 	}
 
 	private ClspClass[] classes;
 
+	/**
+	 * Loaded set data, used for lazy decoding of class details
+	 */
+	private ByteBuffer data;
+
 	public void loadFromClstFile() throws IOException, DecodeException {
 		long startTime = System.currentTimeMillis();
-		try (InputStream input = ClsSet.class.getResourceAsStream(CLST_PATH)) {
-			if (input == null) {
-				throw new JadxRuntimeException("Can't load classpath file: " + CLST_PATH);
-			}
-			load(input);
-		}
+		load(getClstFileData());
 		if (LOG.isDebugEnabled()) {
 			long time = System.currentTimeMillis() - startTime;
-			int methodsCount = Stream.of(classes).mapToInt(clspClass -> clspClass.getMethodsMap().size()).sum();
-			LOG.debug("Clst file loaded in {}ms, classes: {}, methods: {}", time, classes.length, methodsCount);
+			LOG.debug("Clst file loaded in {}ms, classes: {}", time, classes.length);
+		}
+	}
+
+	/**
+	 * Map bundled classpath file directly if possible,
+	 * for resource inside jar use extracted copy from cache dir
+	 */
+	private static ByteBuffer getClstFileData() throws IOException {
+		URL url = ClsSet.class.getResource(CLST_PATH);
+		if (url == null) {
+			throw new JadxRuntimeException("Can't load classpath file: " + CLST_PATH);
+		}
+		if (url.getProtocol().equals("file")) {
+			try {
+				return mapFile(Paths.get(url.toURI()));
+			} catch (URISyntaxException | IllegalArgumentException e) {
+				LOG.debug("Can't map classpath file: {}", url, e);
+			}
+		} else {
+			Path extracted = extractClstFile(url);
+			if (extracted != null) {
+				return mapFile(extracted);
+			}
+		}
+		try (InputStream input = url.openStream()) {
+			return ByteBuffer.wrap(FileUtils.streamToByteArray(input));
+		}
+	}
+
+	@Nullable
+	private static Path extractClstFile(URL url) {
+		try {
+			URLConnection connection = url.openConnection();
+			if (!(connection instanceof JarURLConnection)) {
+				return null;
+			}
+			JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+			Path cacheDir = Paths.get(System.getProperty("java.io.tmpdir"), CLST_CACHE_DIR);
+			String fileName = String.format("core-v%d-%08x-%d%s", VERSION, entry.getCrc(), entry.getSize(), CLST_EXTENSION);
+			Path cacheFile = cacheDir.resolve(fileName);
+			if (Files.isRegularFile(cacheFile) && Files.size(cacheFile) == entry.getSize()) {
+				return cacheFile;
+			}
+			Files.createDirectories(cacheDir);
+			Path tmpFile = Files.createTempFile(cacheDir, "core-", ".tmp");
+			try (InputStream input = connection.getInputStream()) {
+				Files.copy(input, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+				Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmpFile);
+			}
+			LOG.debug("Classpath file extracted to: {}", cacheFile);
+			return cacheFile;
+		} catch (Exception e) {
+			LOG.debug("Failed to extract classpath file to cache dir", e);
+			return null;
+		}
+	}
+
+	private static ByteBuffer mapFile(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
 		}
 	}
 
@@ -158,10 +232,6 @@ public class ClsSet {
 		return getCls(cls.getRawName(), names);
 	}
 
-	private static ClspClass getCls(ArgType clsType, Map<String, ClspClass> names) {
-		return getCls(clsType.getObject(), names);
-	}
-
 	private static ClspClass getCls(String fullName, Map<String, ClspClass> names) {
 		ClspClass cls = names.get(fullName);
 		if (cls == null) {
@@ -214,22 +284,34 @@ public class ClsSet {
 		out.writeBytes(JADX_CLS_SET_HEADER);
 		out.writeByte(VERSION);
 
-		Map<String, ClspClass> names = new HashMap<>(classes.length);
-		out.writeInt(classes.length);
+		int clsCount = classes.length;
+		Map<String, ClspClass> names = new HashMap<>(clsCount);
+		out.writeInt(clsCount);
 		for (ClspClass cls : classes) {
 			String clsName = cls.getName();
 			writeString(out, clsName);
 			names.put(clsName, cls);
 		}
-		for (ClspClass cls : classes) {
-			writeArgTypesArray(out, cls.getParents(), names);
-			writeArgTypesList(out, cls.getTypeParameters(), names);
+		// write details in separate buffer to fill offsets table for random access on load
+		ByteArrayOutputStream detailsBytes = new ByteArrayOutputStream();
+		DataOutputStream details = new DataOutputStream(detailsBytes);
+		int[] offsets = new int[clsCount];
+		for (int i = 0; i < clsCount; i++) {
+			ClspClass cls = classes[i];
+			offsets[i] = details.size();
+			writeArgTypesArray(details, cls.getParents(), names);
+			writeArgTypesList(details, cls.getTypeParameters(), names);
 			List<ClspMethod> methods = cls.getSortedMethodsList();
-			out.writeShort(methods.size());
+			details.writeShort(methods.size());
 			for (ClspMethod method : methods) {
-				writeMethod(out, method, names);
+				writeMethod(details, method, names);
 			}
 		}
+		int detailsStart = out.size() + clsCount * 4;
+		for (int offset : offsets) {
+			out.writeInt(detailsStart + offset);
+		}
+		detailsBytes.writeTo(out);
 		int methodsCount = Stream.of(classes).mapToInt(c -> c.getMethodsMap().size()).sum();
 		LOG.info("Classes: {}, methods: {}, file size: {} bytes", classes.length, methodsCount, out.size());
 	}
@@ -291,16 +373,28 @@ public class ClsSet {
 				writeArgType(out, argType.getWildcardType(), names);
 			}
 		} else if (argType.isGeneric()) {
-			out.writeByte(TypeEnum.GENERIC.ordinal());
-			out.writeInt(getCls(argType, names).getId());
+			ClspClass cls = names.get(argType.getObject());
+			if (cls != null) {
+				out.writeByte(TypeEnum.GENERIC.ordinal());
+				out.writeInt(cls.getId());
+			} else {
+				out.writeByte(TypeEnum.EXTERNAL_GENERIC.ordinal());
+				writeString(out, argType.getObject());
+			}
 			writeArgTypesList(out, argType.getGenericTypes(), names);
 		} else if (argType.isGenericType()) {
 			out.writeByte(TypeEnum.GENERIC_TYPE_VARIABLE.ordinal());
 			writeString(out, argType.getObject());
 			writeArgTypesList(out, argType.getExtendTypes(), names);
 		} else if (argType.isObject()) {
-			out.writeByte(TypeEnum.OBJECT.ordinal());
-			out.writeInt(getCls(argType, names).getId());
+			ClspClass cls = names.get(argType.getObject());
+			if (cls != null) {
+				out.writeByte(TypeEnum.OBJECT.ordinal());
+				out.writeInt(cls.getId());
+			} else {
+				out.writeByte(TypeEnum.EXTERNAL_OBJECT.ordinal());
+				writeString(out, argType.getObject());
+			}
 		} else if (argType.isArray()) {
 			out.writeByte(TypeEnum.ARRAY.ordinal());
 			writeArgType(out, argType.getArrayElement(), names);
@@ -309,19 +403,17 @@ public class ClsSet {
 		}
 	}
 
-	private void load(File input) throws IOException, DecodeException {
-		String name = input.getName();
+	public void load(Path input) throws IOException, DecodeException {
+		String name = input.getFileName().toString();
 		if (name.endsWith(CLST_EXTENSION)) {
-			try (InputStream inputStream = new FileInputStream(input)) {
-				load(inputStream);
-			}
+			load(mapFile(input));
 		} else if (name.endsWith(".jar")) {
-			ZipSecurity.readZipEntries(input, (entry, in) -> {
+			ZipSecurity.readZipEntries(input.toFile(), (entry, in) -> {
 				if (entry.getName().endsWith(CLST_EXTENSION)) {
 					try {
-						load(in);
+						load(ByteBuffer.wrap(FileUtils.streamToByteArray(in)));
 					} catch (Exception e) {
-						throw new JadxRuntimeException("Failed to load jadx class set");
+						throw new JadxRuntimeException("Failed to load jadx class set", e);
 					}
 				}
 			});
@@ -330,32 +422,51 @@ public class ClsSet {
 		}
 	}
 
-	private void load(InputStream input) throws IOException, DecodeException {
-		try (DataInputStream in = new DataInputStream(new BufferedInputStream(input))) {
-			byte[] header = new byte[JADX_CLS_SET_HEADER.length()];
-			int readHeaderLength = in.read(header);
-			int version = in.readByte();
-			if (readHeaderLength != JADX_CLS_SET_HEADER.length()
-					|| !JADX_CLS_SET_HEADER.equals(new String(header, STRING_CHARSET))
-					|| version != VERSION) {
-				throw new DecodeException("Wrong jadx class set header");
-			}
-			int clsCount = in.readInt();
-			classes = new ClspClass[clsCount];
-			for (int i = 0; i < clsCount; i++) {
-				String name = readString(in);
-				classes[i] = new ClspClass(ArgType.object(name), i);
-			}
-			for (int i = 0; i < clsCount; i++) {
-				ClspClass nClass = classes[i];
-				ClassInfo clsInfo = ClassInfo.fromType(root, nClass.getClsType());
-				nClass.setParents(readArgTypesArray(in));
-				nClass.setTypeParameters(readArgTypesList(in));
-				nClass.setMethods(readClsMethods(in, clsInfo));
-			}
+	/**
+	 * Read only classes names and details offsets,
+	 * class details decoded on first access in {@link #loadClassDetails(ClspClass, int)}
+	 */
+	private void load(ByteBuffer buf) throws IOException, DecodeException {
+		DataInputStream in = getDataInput(buf, 0);
+		byte[] header = new byte[JADX_CLS_SET_HEADER.length()];
+		int readHeaderLength = in.read(header);
+		int version = in.readByte();
+		if (readHeaderLength != JADX_CLS_SET_HEADER.length()
+				|| !JADX_CLS_SET_HEADER.equals(new String(header, STRING_CHARSET))
+				|| version != VERSION) {
+			throw new DecodeException("Wrong jadx class set header");
+		}
+		int clsCount = in.readInt();
+		ClspClass[] clsArr = new ClspClass[clsCount];
+		for (int i = 0; i < clsCount; i++) {
+			String name = readString(in);
+			clsArr[i] = new ClspClass(ArgType.object(name), i);
+		}
+		for (int i = 0; i < clsCount; i++) {
+			clsArr[i].setLazyLoad(this, in.readInt());
+		}
+		this.data = buf;
+		this.classes = clsArr;
+	}
+
+	void loadClassDetails(ClspClass cls, int offset) {
+		try {
+			DataInputStream in = getDataInput(data, offset);
+			ClassInfo clsInfo = ClassInfo.fromType(root, cls.getClsType());
+			cls.setParents(readArgTypesArray(in));
+			cls.setTypeParameters(readArgTypesList(in));
+			cls.setMethods(readClsMethods(in, clsInfo));
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to load class details: " + cls, e);
 		}
 	}
 
+	private static DataInputStream getDataInput(ByteBuffer buf, int offset) {
+		ByteBuffer dataBuf = buf.duplicate();
+		dataBuf.position(offset);
+		return new DataInputStream(new ByteBufferInputStream(dataBuf));
+	}
+
 	private List<ClspMethod> readClsMethods(DataInputStream in, ClassInfo clsInfo) throws IOException {
 		int mCount = in.readShort();
 		List<ClspMethod> methods = new ArrayList<>(mCount);
@@ -455,6 +566,13 @@ public class ClsSet {
 				char shortName = (char) in.readByte();
 				return ArgType.parse(shortName);
 
+			case EXTERNAL_OBJECT:
+				return ArgType.object(readString(in));
+
+			case EXTERNAL_GENERIC:
+				ArgType extClsType = ArgType.object(readString(in));
+				return ArgType.generic(extClsType, readArgTypesList(in));
+
 			default:
 				throw new JadxRuntimeException("Unsupported Arg Type: " + ordinal);
 		}
@@ -504,9 +622,12 @@ public class ClsSet {
 		return classes.length;
 	}
 
+	/**
+	 * Add classes to map, already added classes not replaced
+	 */
 	public void addToMap(Map<String, ClspClass> nameMap) {
 		for (ClspClass cls : classes) {
-			nameMap.put(cls.getName(), cls);
+			nameMap.putIfAbsent(cls.getName(), cls);
 		}
 	}
 }
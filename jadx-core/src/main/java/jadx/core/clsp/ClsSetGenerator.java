@@ -0,0 +1,157 @@
+package jadx.core.clsp;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JadxArgs;
+import jadx.api.plugins.JadxPluginManager;
+import jadx.api.plugins.input.JadxInputPlugin;
+import jadx.api.plugins.input.data.ILoadResult;
+import jadx.core.Jadx;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.visitors.SignatureProcessor;
+import jadx.core.utils.exceptions.JadxException;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Generate classes sets (.jcst) from library files (.jar, .aar, .dex)
+ * and cache them to skip library parsing on next loads.
+ */
+public class ClsSetGenerator {
+	private static final Logger LOG = LoggerFactory.getLogger(ClsSetGenerator.class);
+
+	private static final String CLST_EXTENSION = ".jcst";
+
+	private ClsSetGenerator() {
+	}
+
+	/**
+	 * Load classes from input files and collect classpath info.
+	 * Returned set can be saved with {@link ClsSet#save(Path)}.
+	 */
+	public static ClsSet generate(List<Path> inputPaths) throws JadxException {
+		JadxPluginManager pluginManager = new JadxPluginManager();
+		List<ILoadResult> loadedInputs = new ArrayList<>();
+		try {
+			for (JadxInputPlugin inputPlugin : pluginManager.getInputPlugins()) {
+				ILoadResult loadResult = inputPlugin.loadFiles(inputPaths);
+				if (loadResult != null) {
+					loadedInputs.add(loadResult);
+				}
+			}
+			JadxArgs jadxArgs = new JadxArgs();
+			jadxArgs.setRenameFlags(EnumSet.noneOf(JadxArgs.RenameEnum.class));
+			RootNode root = new RootNode(jadxArgs);
+			root.loadClasses(loadedInputs);
+
+			// from pre-decompilation stage run only SignatureProcessor
+			SignatureProcessor signatureProcessor = new SignatureProcessor();
+			signatureProcessor.init(root);
+			for (ClassNode classNode : root.getClasses()) {
+				signatureProcessor.visit(classNode);
+			}
+
+			ClsSet set = new ClsSet(root);
+			set.loadFrom(root);
+			return set;
+		} finally {
+			for (ILoadResult loadResult : loadedInputs) {
+				FileUtils.close(loadResult);
+			}
+		}
+	}
+
+	/**
+	 * Get paths to classes sets for all classpath files from jadx args.
+	 * Library files converted only if cached set not found.
+	 * Failed files reported and skipped.
+	 */
+	public static List<Path> getClasspathSets(JadxArgs args) {
+		List<File> classpathFiles = args.getClasspathFiles();
+		if (classpathFiles.isEmpty()) {
+			return Collections.emptyList();
+		}
+		File cacheDir = args.getClasspathCacheDir();
+		List<Path> sets = new ArrayList<>(classpathFiles.size());
+		for (File file : classpathFiles) {
+			try {
+				Path setPath = getClasspathSet(file.toPath().toAbsolutePath(), cacheDir);
+				if (setPath != null) {
+					sets.add(setPath);
+				}
+			} catch (Exception e) {
+				LOG.warn("Failed to generate classpath set for file: {}", file, e);
+			}
+		}
+		return sets;
+	}
+
+	@Nullable
+	private static Path getClasspathSet(Path file, @Nullable File cacheDir) throws Exception {
+		if (!Files.isRegularFile(file)) {
+			LOG.warn("Classpath file not found: {}", file);
+			return null;
+		}
+		if (file.getFileName().toString().endsWith(CLST_EXTENSION)) {
+			// already converted
+			return file;
+		}
+		Path setPath;
+		if (cacheDir == null) {
+			setPath = null;
+		} else {
+			setPath = cacheDir.toPath().resolve(FileUtils.getPathBaseName(file) + '-' + buildCacheKey(file) + CLST_EXTENSION);
+			if (Files.isRegularFile(setPath)) {
+				LOG.debug("Use cached classpath set: {} for {}", setPath, file);
+				return setPath;
+			}
+		}
+		long start = System.currentTimeMillis();
+		ClsSet set = generate(Collections.singletonList(file));
+		if (set.getClassesCount() == 0) {
+			LOG.warn("No classes loaded from classpath file: {}", file);
+			return null;
+		}
+		Path tmpPath = FileUtils.createTempFile(CLST_EXTENSION);
+		set.save(tmpPath);
+		if (setPath == null) {
+			setPath = tmpPath;
+		} else {
+			FileUtils.makeDirsForFile(setPath);
+			Files.move(tmpPath, setPath, StandardCopyOption.REPLACE_EXISTING);
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Classpath set generated in {}ms, classes: {}, file: {}",
+					System.currentTimeMillis() - start, set.getClassesCount(), setPath);
+		}
+		return setPath;
+	}
+
+	private static String buildCacheKey(Path file) throws Exception {
+		String key = Jadx.getVersion()
+				+ ':' + ClsSet.VERSION
+				+ ':' + file
+				+ ':' + Files.size(file)
+				+ ':' + Files.getLastModifiedTime(file).toMillis();
+		MessageDigest md = MessageDigest.getInstance("SHA-1");
+		byte[] digest = md.digest(key.getBytes(StandardCharsets.UTF_8));
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 8; i++) {
+			sb.append(String.format("%02x", digest[i]));
+		}
+		return sb.toString();
+	}
+}
@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.jetbrains.annotations.Nullable;
+
 import jadx.core.dex.instructions.args.ArgType;
 
 /**
@@ -20,6 +22,13 @@ public class ClspClass {
 	private Map<String, ClspMethod> methodsMap = Collections.emptyMap();
 	private List<ArgType> typeParameters = Collections.emptyList();
 
+	/**
+	 * Set to decode class details on first access, null if details already loaded
+	 */
+	@Nullable
+	private volatile ClsSet lazyLoadSet;
+	private int lazyLoadOffset;
+
 	public ClspClass(ArgType clsType, int id) {
 		this.clsType = clsType;
 		this.id = id;
@@ -37,7 +46,27 @@ public class ClspClass {
 		return id;
 	}
 
+	void setLazyLoad(ClsSet set, int offset) {
+		this.lazyLoadOffset = offset;
+		this.lazyLoadSet = set;
+	}
+
+	private void ensureLoaded() {
+		if (lazyLoadSet != null) {
+			loadDetails();
+		}
+	}
+
+	private synchronized void loadDetails() {
+		ClsSet set = lazyLoadSet;
+		if (set != null) {
+			set.loadClassDetails(this, lazyLoadOffset);
+			lazyLoadSet = null;
+		}
+	}
+
 	public ArgType[] getParents() {
+		ensureLoaded();
 		return parents;
 	}
 
@@ -46,12 +75,14 @@ public class ClspClass {
 	}
 
 	public Map<String, ClspMethod> getMethodsMap() {
+		ensureLoaded();
 		return methodsMap;
 	}
 
 	public List<ClspMethod> getSortedMethodsList() {
-		List<ClspMethod> list = new ArrayList<>(methodsMap.size());
-		list.addAll(methodsMap.values());
+		Map<String, ClspMethod> map = getMethodsMap();
+		List<ClspMethod> list = new ArrayList<>(map.size());
+		list.addAll(map.values());
 		Collections.sort(list);
 		return list;
 	}
@@ -69,6 +100,7 @@ public class ClspClass {
 	}
 
 	public List<ArgType> getTypeParameters() {
+		ensureLoaded();
 		return typeParameters;
 	}
 
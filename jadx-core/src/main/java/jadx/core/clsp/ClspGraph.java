@@ -1,16 +1,15 @@
 package jadx.core.clsp;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,10 +29,10 @@ public class ClspGraph {
 	private static final Logger LOG = LoggerFactory.getLogger(ClspGraph.class);
 
 	private final RootNode root;
-	private final Map<String, Set<String>> superTypesCache = Collections.synchronizedMap(new WeakHashMap<>());
 	private Map<String, ClspClass> nameMap;
+	private ClspHierarchy hierarchy;
 
-	private final Set<String> missingClasses = new HashSet<>();
+	private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
 
 	public ClspGraph(RootNode rootNode) {
 		this.root = rootNode;
@@ -43,15 +42,27 @@ public class ClspGraph {
 		ClsSet set = new ClsSet(root);
 		set.loadFromClstFile();
 		addClasspath(set);
+		for (Path setPath : ClsSetGenerator.getClasspathSets(root.getArgs())) {
+			try {
+				ClsSet libSet = new ClsSet(root);
+				libSet.load(setPath);
+				addClasspath(libSet);
+				LOG.debug("Classpath set loaded: {}, classes: {}", setPath, libSet.getClassesCount());
+			} catch (Exception e) {
+				LOG.warn("Failed to load classpath set: {}", setPath, e);
+			}
+		}
 	}
 
+	/**
+	 * Merge classes set into classpath. Classes from previously added sets have priority.
+	 */
 	public void addClasspath(ClsSet set) {
 		if (nameMap == null) {
 			nameMap = new HashMap<>(set.getClassesCount());
-			set.addToMap(nameMap);
-		} else {
-			throw new JadxRuntimeException("Classpath already loaded");
 		}
+		set.addToMap(nameMap);
+		hierarchy = new ClspHierarchy(nameMap);
 	}
 
 	public void addApp(List<ClassNode> classes) {
@@ -61,6 +72,7 @@ public class ClspGraph {
 		for (ClassNode cls : classes) {
 			addClass(cls);
 		}
+		hierarchy = new ClspHierarchy(nameMap);
 	}
 
 	public boolean isClsKnown(String fullName) {
@@ -111,92 +123,36 @@ public class ClspGraph {
 	 * @return {@code clsName} instanceof {@code implClsName}
 	 */
 	public boolean isImplements(String clsName, String implClsName) {
-		Set<String> anc = getSuperTypes(clsName);
-		return anc.contains(implClsName);
+		Boolean result = hierarchy.isImplements(clsName, implClsName);
+		if (result == null) {
+			missingClasses.add(clsName);
+			return false;
+		}
+		return result;
 	}
 
 	public List<String> getImplementations(String clsName) {
-		List<String> list = new ArrayList<>();
-		for (String cls : nameMap.keySet()) {
-			if (isImplements(cls, clsName)) {
-				list.add(cls);
-			}
-		}
-		return list;
+		return hierarchy.getImplementations(clsName);
 	}
 
 	public String getCommonAncestor(String clsName, String implClsName) {
 		if (clsName.equals(implClsName)) {
 			return clsName;
 		}
-		ClspClass cls = nameMap.get(implClsName);
-		if (cls == null) {
+		if (!hierarchy.isKnown(implClsName) || !hierarchy.isKnown(clsName)) {
 			missingClasses.add(clsName);
 			return null;
 		}
-		if (isImplements(clsName, implClsName)) {
-			return implClsName;
-		}
-		Set<String> anc = getSuperTypes(clsName);
-		return searchCommonParent(anc, cls);
-	}
-
-	private String searchCommonParent(Set<String> anc, ClspClass cls) {
-		for (ArgType p : cls.getParents()) {
-			String name = p.getObject();
-			if (anc.contains(name)) {
-				return name;
-			}
-			ClspClass nCls = getClspClass(p);
-			if (nCls != null) {
-				String r = searchCommonParent(anc, nCls);
-				if (r != null) {
-					return r;
-				}
-			}
-		}
-		return null;
+		return hierarchy.getCommonAncestor(clsName, implClsName);
 	}
 
 	public Set<String> getSuperTypes(String clsName) {
-		Set<String> fromCache = superTypesCache.get(clsName);
-		if (fromCache != null) {
-			return fromCache;
-		}
-		ClspClass cls = nameMap.get(clsName);
-		if (cls == null) {
+		Set<String> superTypes = hierarchy.getSuperTypes(clsName);
+		if (superTypes == null) {
 			missingClasses.add(clsName);
 			return Collections.emptySet();
 		}
-		Set<String> result = new HashSet<>();
-		addSuperTypes(cls, result);
-		return putInSuperTypesCache(clsName, result);
-	}
-
-	@NotNull
-	private Set<String> putInSuperTypesCache(String clsName, Set<String> result) {
-		if (result.isEmpty()) {
-			Set<String> empty = Collections.emptySet();
-			superTypesCache.put(clsName, result);
-			return empty;
-		}
-		superTypesCache.put(clsName, result);
-		return result;
-	}
-
-	private void addSuperTypes(ClspClass cls, Set<String> result) {
-		for (ArgType parentType : cls.getParents()) {
-			if (parentType == null) {
-				continue;
-			}
-			ClspClass parentCls = getClspClass(parentType);
-			if (parentCls != null) {
-				boolean isNew = result.add(parentCls.getName());
-				if (isNew) {
-					addSuperTypes(parentCls, result);
-				}
-			}
-		}
+		return superTypes;
 	}
 
 	@Nullable
@@ -0,0 +1,202 @@
+package jadx.core.clsp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.dex.instructions.args.ArgType;
+
+/**
+ * Read-only index of classpath classes hierarchy.
+ * <p>
+ * Each class gets integer id, ancestors sets stored as sorted id arrays.
+ * All results computed on first request and memoized without locks
+ * (concurrent computation of same entry is possible, but gives equal results).
+ */
+final class ClspHierarchy {
+	private static final Logger LOG = LoggerFactory.getLogger(ClspHierarchy.class);
+
+	private static final String NO_ANCESTOR = "";
+
+	private static final class Node {
+		private final int id;
+		private final ClspClass cls;
+
+		private volatile Set<String> superTypes;
+		private volatile int[] ancestors;
+		private volatile List<String> implementations;
+
+		private Node(int id, ClspClass cls) {
+			this.id = id;
+			this.cls = cls;
+		}
+	}
+
+	private final Map<String, ClspClass> nameMap;
+	private final Map<String, Node> nodes;
+	private final Map<Long, String> commonAncestorCache = new ConcurrentHashMap<>();
+
+	ClspHierarchy(Map<String, ClspClass> nameMap) {
+		this.nameMap = nameMap;
+		this.nodes = new HashMap<>(nameMap.size());
+		int id = 0;
+		for (Map.Entry<String, ClspClass> entry : nameMap.entrySet()) {
+			nodes.put(entry.getKey(), new Node(id, entry.getValue()));
+			id++;
+		}
+	}
+
+	boolean isKnown(String clsName) {
+		return nodes.containsKey(clsName);
+	}
+
+	/**
+	 * @return null if class not found
+	 */
+	@Nullable
+	Set<String> getSuperTypes(String clsName) {
+		Node node = nodes.get(clsName);
+		if (node == null) {
+			return null;
+		}
+		return getSuperTypes(node);
+	}
+
+	private Set<String> getSuperTypes(Node node) {
+		Set<String> superTypes = node.superTypes;
+		if (superTypes == null) {
+			Set<String> result = new HashSet<>();
+			addSuperTypes(node.cls, result);
+			superTypes = result.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(result);
+			node.superTypes = superTypes;
+		}
+		return superTypes;
+	}
+
+	private int[] getAncestors(Node node) {
+		int[] ancestors = node.ancestors;
+		if (ancestors == null) {
+			Set<String> superTypes = getSuperTypes(node);
+			int[] arr = new int[superTypes.size()];
+			int k = 0;
+			for (String superType : superTypes) {
+				arr[k++] = nodes.get(superType).id;
+			}
+			Arrays.sort(arr);
+			ancestors = arr;
+			node.ancestors = ancestors;
+		}
+		return ancestors;
+	}
+
+	/**
+	 * @return null if class not found
+	 */
+	@Nullable
+	Boolean isImplements(String clsName, String implClsName) {
+		Node node = nodes.get(clsName);
+		if (node == null) {
+			return null;
+		}
+		Node implNode = nodes.get(implClsName);
+		if (implNode == null) {
+			return Boolean.FALSE;
+		}
+		return Arrays.binarySearch(getAncestors(node), implNode.id) >= 0;
+	}
+
+	List<String> getImplementations(String clsName) {
+		Node node = nodes.get(clsName);
+		if (node == null) {
+			return Collections.emptyList();
+		}
+		List<String> implementations = node.implementations;
+		if (implementations == null) {
+			List<String> list = new ArrayList<>();
+			for (String cls : nameMap.keySet()) {
+				if (Arrays.binarySearch(getAncestors(nodes.get(cls)), node.id) >= 0) {
+					list.add(cls);
+				}
+			}
+			implementations = list.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(list);
+			node.implementations = implementations;
+		}
+		return implementations;
+	}
+
+	/**
+	 * Nearest (in depth-first order over {@code implClsName} parents) common super type.
+	 * Both classes must be known.
+	 */
+	@Nullable
+	String getCommonAncestor(String clsName, String implClsName) {
+		Node node = nodes.get(clsName);
+		Node implNode = nodes.get(implClsName);
+		long key = ((long) node.id << 32) | implNode.id;
+		String cached = commonAncestorCache.get(key);
+		if (cached != null) {
+			return cached == NO_ANCESTOR ? null : cached;
+		}
+		String result;
+		if (Arrays.binarySearch(getAncestors(node), implNode.id) >= 0) {
+			result = implClsName;
+		} else {
+			result = searchCommonParent(getSuperTypes(node), implNode.cls);
+		}
+		commonAncestorCache.put(key, result == null ? NO_ANCESTOR : result);
+		return result;
+	}
+
+	private String searchCommonParent(Set<String> anc, ClspClass cls) {
+		for (ArgType p : cls.getParents()) {
+			String name = p.getObject();
+			if (anc.contains(name)) {
+				return name;
+			}
+			ClspClass nCls = getClspClass(p);
+			if (nCls != null) {
+				String r = searchCommonParent(anc, nCls);
+				if (r != null) {
+					return r;
+				}
+			}
+		}
+		return null;
+	}
+
+	private void addSuperTypes(ClspClass cls, Set<String> result) {
+		for (ArgType parentType : cls.getParents()) {
+			if (parentType == null) {
+				continue;
+			}
+			ClspClass parentCls = getClspClass(parentType);
+			if (parentCls != null) {
+				boolean isNew = result.add(parentCls.getName());
+				if (isNew) {
+					addSuperTypes(parentCls, result);
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private ClspClass getClspClass(ArgType clsType) {
+		ClspClass clspClass = nameMap.get(clsType.getObject());
+		if (clspClass == null) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("External class not found: {}", clsType.getObject());
+			}
+		}
+		return clspClass;
+	}
+}
@@ -62,6 +62,8 @@ public class ClassGen {
 
 	@Nullable
 	private NameGen outerNameGen;
+	@Nullable
+	private Set<String> clsUsedNames;
 
 	public ClassGen(ClassNode cls, JadxArgs jadxArgs) {
 		this(cls, null, jadxArgs.isUseImports(), jadxArgs.isFallbackMode(), jadxArgs.isShowInconsistentCode());
@@ -758,4 +760,20 @@ public class ClassGen {
 	public void setOuterNameGen(@NotNull NameGen outerNameGen) {
 		this.outerNameGen = outerNameGen;
 	}
+
+	/**
+	 * Names used in class, cached for current class because
+	 * new {@link NameGen} created for every method and every field init
+	 */
+	Set<String> getNamesUsedInClass(ClassNode mthCls) {
+		if (mthCls != cls) {
+			return NameGen.collectNamesUsedInClass(mthCls);
+		}
+		Set<String> names = clsUsedNames;
+		if (names == null) {
+			names = NameGen.collectNamesUsedInClass(cls);
+			clsUsedNames = names;
+		}
+		return names;
+	}
 }
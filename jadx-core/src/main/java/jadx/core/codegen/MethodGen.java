@@ -3,8 +3,6 @@ package jadx.core.codegen;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +27,7 @@ import jadx.core.dex.instructions.args.ArgType;
 import jadx.core.dex.instructions.args.CodeVar;
 import jadx.core.dex.instructions.args.RegisterArg;
 import jadx.core.dex.instructions.args.SSAVar;
+import jadx.core.dex.nodes.InsnArray;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.VariableNode;
@@ -304,18 +303,20 @@ public class MethodGen {
 				return;
 			}
 		}
-		InsnNode[] insnArr = mth.getInstructions();
+		InsnArray insnArr = mth.getInstructions();
 		if (insnArr == null) {
 			code.startLine("// Can't load method instructions.");
 			return;
 		}
 		if (fallbackOption == COMMENTED_DUMP) {
-			long insnCountEstimate = Stream.of(insnArr)
-					.filter(Objects::nonNull)
-					.filter(insn -> insn.getType() != InsnType.NOP)
-					.count();
+			long insnCountEstimate = 0;
+			for (InsnNode insn : insnArr) {
+				if (insn.getType() != InsnType.NOP) {
+					insnCountEstimate++;
+				}
+			}
 			if (insnCountEstimate > 100) {
-				code.startLine("// Method dump skipped, instructions count: " + insnArr.length);
+				code.startLine("// Method dump skipped, instructions count: " + mth.getInsnsCount());
 				return;
 			}
 		}
@@ -333,7 +334,7 @@ public class MethodGen {
 		COMMENTED_DUMP
 	}
 
-	public static void addFallbackInsns(ICodeWriter code, MethodNode mth, InsnNode[] insnArr, FallbackOption option) {
+	public static void addFallbackInsns(ICodeWriter code, MethodNode mth, Iterable<InsnNode> insnArr, FallbackOption option) {
 		int startIndent = code.getIndent();
 		InsnGen insnGen = new InsnGen(getFallbackMethodGen(mth), true);
 		InsnNode prevInsn = null;
@@ -30,6 +30,10 @@ public class NameGen {
 
 	private static final Map<String, String> OBJ_ALIAS;
 
+	/**
+	 * Names used in class (fields, inner classes, root packages), shared between methods of one class
+	 */
+	private final Set<String> clsNames;
 	private final Set<String> varNames = new HashSet<>();
 	private final MethodNode mth;
 	private final boolean fallback;
@@ -56,27 +60,31 @@ public class NameGen {
 	public NameGen(MethodNode mth, ClassGen classGen) {
 		this.mth = mth;
 		this.fallback = classGen.isFallbackMode();
+		this.clsNames = classGen.getNamesUsedInClass(mth.getParentClass());
 		NameGen outerNameGen = classGen.getOuterNameGen();
 		if (outerNameGen != null) {
 			inheritUsedNames(outerNameGen);
 		}
-		addNamesUsedInClass();
 	}
 
 	public void inheritUsedNames(NameGen otherNameGen) {
 		varNames.addAll(otherNameGen.varNames);
+		if (otherNameGen.clsNames != clsNames) {
+			varNames.addAll(otherNameGen.clsNames);
+		}
 	}
 
-	private void addNamesUsedInClass() {
-		ClassNode parentClass = mth.getParentClass();
-		for (FieldNode field : parentClass.getFields()) {
-			varNames.add(field.getAlias());
+	static Set<String> collectNamesUsedInClass(ClassNode cls) {
+		Set<String> names = new HashSet<>();
+		for (FieldNode field : cls.getFields()) {
+			names.add(field.getAlias());
 		}
-		for (ClassNode innerClass : parentClass.getInnerClasses()) {
-			varNames.add(innerClass.getClassInfo().getAliasShortName());
+		for (ClassNode innerClass : cls.getInnerClasses()) {
+			names.add(innerClass.getClassInfo().getAliasShortName());
 		}
 		// add all root package names to avoid collisions with full class names
-		varNames.addAll(mth.root().getCacheStorage().getRootPkgs());
+		names.addAll(cls.root().getCacheStorage().getRootPkgs());
+		return names;
 	}
 
 	public String assignArg(CodeVar var) {
@@ -119,7 +127,7 @@ public class NameGen {
 	private String getUniqueVarName(String name) {
 		String r = name;
 		int i = 2;
-		while (varNames.contains(r)) {
+		while (varNames.contains(r) || clsNames.contains(r)) {
 			r = name + i;
 			i++;
 		}
@@ -69,7 +69,7 @@ public class ConstStorage {
 
 	private final boolean replaceEnabled;
 	private final ValueStorage globalValues = new ValueStorage();
-	private final Map<ClassNode, ValueStorage> classes = new HashMap<>();
+	private final Map<ClassNode, ValueStorage> classes = new ConcurrentHashMap<>();
 
 	private Map<Integer, String> resourcesNames = new HashMap<>();
 
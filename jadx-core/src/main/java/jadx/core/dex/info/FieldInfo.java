@@ -27,9 +27,10 @@ public final class FieldInfo {
 	}
 
 	public static FieldInfo fromData(RootNode root, IFieldData fieldData) {
+		InfoStorage infoStorage = root.getInfoStorage();
 		ClassInfo declClass = ClassInfo.fromName(root, fieldData.getParentClassType());
-		FieldInfo field = new FieldInfo(declClass, fieldData.getName(), ArgType.parse(fieldData.getType()));
-		return root.getInfoStorage().getField(field);
+		FieldInfo field = new FieldInfo(declClass, fieldData.getName(), infoStorage.getType(fieldData.getType()));
+		return infoStorage.getField(field);
 	}
 
 	public String getName() {
@@ -1,61 +1,101 @@
 package jadx.core.dex.info;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import jadx.core.dex.instructions.args.ArgType;
 
+/**
+ * Interning storage for class, method and field infos.
+ * Safe for concurrent access without locks.
+ */
 public class InfoStorage {
+	/**
+	 * Methods uniq ids split into page index (high bits) and index in page (low bits).
+	 * For dex input high bits contains dex index and low bits method index in that dex.
+	 */
+	private static final int METHODS_PAGE_BITS = 16;
+	private static final int METHODS_PAGE_SIZE = 1 << METHODS_PAGE_BITS;
+	private static final int METHODS_PAGE_MASK = METHODS_PAGE_SIZE - 1;
+	private static final int METHODS_PAGES_COUNT = 1 << (32 - METHODS_PAGE_BITS);
 
-	private final Map<ArgType, ClassInfo> classes = new HashMap<>();
-	private final Map<FieldInfo, FieldInfo> fields = new HashMap<>();
+	private final Map<ArgType, ClassInfo> classes = new ConcurrentHashMap<>();
+	private final Map<FieldInfo, FieldInfo> fields = new ConcurrentHashMap<>();
 	// use only one MethodInfo instance
-	private final Map<MethodInfo, MethodInfo> uniqueMethods = new HashMap<>();
+	private final Map<MethodInfo, MethodInfo> uniqueMethods = new ConcurrentHashMap<>();
 	// can contain same method with different ids (from different dex files)
-	private final Map<Integer, MethodInfo> methods = new HashMap<>();
+	private final AtomicReferenceArray<AtomicReferenceArray<MethodInfo>> methods = new AtomicReferenceArray<>(METHODS_PAGES_COUNT);
+	// shared instances of immutable object and array types
+	private final Map<String, ArgType> types = new ConcurrentHashMap<>();
+
+	/**
+	 * Parse type descriptor and return shared instance for object and array types.
+	 * Generic type variables are mutable, so new instance returned for each call.
+	 */
+	public ArgType getType(String descriptor) {
+		ArgType type = types.get(descriptor);
+		if (type != null) {
+			return type;
+		}
+		ArgType newType;
+		switch (descriptor.isEmpty() ? 0 : descriptor.charAt(0)) {
+			case 'L':
+				newType = ArgType.object(descriptor);
+				break;
+			case '[':
+				ArgType elementType = getType(descriptor.substring(1));
+				if (elementType.isGenericType()) {
+					return ArgType.array(elementType);
+				}
+				newType = ArgType.array(elementType);
+				break;
+			default:
+				// primitives are constants
+				return ArgType.parse(descriptor);
+		}
+		ArgType prev = types.putIfAbsent(descriptor, newType);
+		return prev == null ? newType : prev;
+	}
 
 	public ClassInfo getCls(ArgType type) {
 		return classes.get(type);
 	}
 
 	public ClassInfo putCls(ClassInfo cls) {
-		synchronized (classes) {
-			ClassInfo prev = classes.put(cls.getType(), cls);
-			return prev == null ? cls : prev;
-		}
+		ClassInfo prev = classes.putIfAbsent(cls.getType(), cls);
+		return prev == null ? cls : prev;
 	}
 
 	public MethodInfo getByUniqId(int id) {
-		synchronized (methods) {
-			return methods.get(id);
+		AtomicReferenceArray<MethodInfo> page = methods.get(id >>> METHODS_PAGE_BITS);
+		if (page == null) {
+			return null;
 		}
+		return page.get(id & METHODS_PAGE_MASK);
 	}
 
 	public void putByUniqId(int id, MethodInfo mth) {
-		synchronized (methods) {
-			methods.put(id, mth);
+		int pageIdx = id >>> METHODS_PAGE_BITS;
+		AtomicReferenceArray<MethodInfo> page = methods.get(pageIdx);
+		if (page == null) {
+			AtomicReferenceArray<MethodInfo> newPage = new AtomicReferenceArray<>(METHODS_PAGE_SIZE);
+			if (methods.compareAndSet(pageIdx, null, newPage)) {
+				page = newPage;
+			} else {
+				page = methods.get(pageIdx);
+			}
 		}
+		page.set(id & METHODS_PAGE_MASK, mth);
 	}
 
 	public MethodInfo putMethod(MethodInfo newMth) {
-		synchronized (uniqueMethods) {
-			MethodInfo prev = uniqueMethods.get(newMth);
-			if (prev != null) {
-				return prev;
-			}
-			uniqueMethods.put(newMth, newMth);
-			return newMth;
-		}
+		MethodInfo prev = uniqueMethods.putIfAbsent(newMth, newMth);
+		return prev == null ? newMth : prev;
 	}
 
 	public FieldInfo getField(FieldInfo field) {
-		synchronized (fields) {
-			FieldInfo f = fields.get(field);
-			if (f != null) {
-				return f;
-			}
-			fields.put(field, field);
-			return field;
-		}
+		FieldInfo prev = fields.putIfAbsent(field, field);
+		return prev == null ? field : prev;
 	}
 }
@@ -44,10 +44,10 @@ public final class MethodInfo implements Comparable<MethodInfo> {
 			return prevMth;
 		}
 		methodRef.load();
-		ArgType parentClsType = ArgType.parse(methodRef.getParentClassType());
+		ArgType parentClsType = infoStorage.getType(methodRef.getParentClassType());
 		ClassInfo parentClass = ClassInfo.fromType(root, parentClsType);
-		ArgType returnType = ArgType.parse(methodRef.getReturnType());
-		List<ArgType> args = Utils.collectionMap(methodRef.getArgTypes(), ArgType::parse);
+		ArgType returnType = infoStorage.getType(methodRef.getReturnType());
+		List<ArgType> args = Utils.collectionMap(methodRef.getArgTypes(), infoStorage::getType);
 		MethodInfo newMth = new MethodInfo(parentClass, methodRef.getName(), args, returnType);
 		MethodInfo uniqMth = infoStorage.putMethod(newMth);
 		infoStorage.putByUniqId(uniqId, uniqMth);
@@ -60,8 +60,9 @@ public final class MethodInfo implements Comparable<MethodInfo> {
 	}
 
 	public static MethodInfo fromMethodProto(RootNode root, ClassInfo declClass, String name, IMethodProto proto) {
-		List<ArgType> args = Utils.collectionMap(proto.getArgTypes(), ArgType::parse);
-		ArgType returnType = ArgType.parse(proto.getReturnType());
+		InfoStorage infoStorage = root.getInfoStorage();
+		List<ArgType> args = Utils.collectionMap(proto.getArgTypes(), infoStorage::getType);
+		ArgType returnType = infoStorage.getType(proto.getReturnType());
 		return fromDetails(root, declClass, name, args, returnType);
 	}
 
@@ -18,6 +18,7 @@ import jadx.core.dex.instructions.args.InsnArg;
 import jadx.core.dex.instructions.args.LiteralArg;
 import jadx.core.dex.instructions.args.RegisterArg;
 import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.InsnArray;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
@@ -34,8 +35,9 @@ public class InsnDecoder {
 		this.root = method.root();
 	}
 
-	public InsnNode[] process(ICodeReader codeReader) {
-		InsnNode[] instructions = new InsnNode[codeReader.getInsnsCount()];
+	public InsnArray process(ICodeReader codeReader) {
+		// instruction occupy at least one code unit, average is about two
+		InsnArray.Builder instructions = new InsnArray.Builder(codeReader.getInsnsCount() / 2);
 		codeReader.visitInstructions(rawInsn -> {
 			int offset = rawInsn.getOffset();
 			InsnNode insn;
@@ -48,9 +50,9 @@ public class InsnDecoder {
 				insn.addAttr(AType.JADX_ERROR, new JadxError("decode failed: " + e.getMessage(), e));
 			}
 			insn.setOffset(offset);
-			instructions[offset] = insn;
+			instructions.add(offset, insn);
 		});
-		return instructions;
+		return instructions.build();
 	}
 
 	@NotNull
@@ -77,7 +79,7 @@ public class InsnDecoder {
 				return constStrInsn;
 
 			case CONST_CLASS: {
-				ArgType clsType = ArgType.parse(insn.getIndexAsType());
+				ArgType clsType = parseType(insn.getIndexAsType());
 				InsnNode constClsInsn = new ConstClassNode(clsType);
 				constClsInsn.setResult(InsnArg.reg(insn, 0, ArgType.generic(Consts.CLASS_CLASS, clsType)));
 				return constClsInsn;
@@ -330,13 +332,13 @@ public class InsnDecoder {
 						InsnArg.reg(insn, 0, method.getReturnType()));
 
 			case INSTANCE_OF:
-				InsnNode instInsn = new IndexInsnNode(InsnType.INSTANCE_OF, ArgType.parse(insn.getIndexAsType()), 1);
+				InsnNode instInsn = new IndexInsnNode(InsnType.INSTANCE_OF, parseType(insn.getIndexAsType()), 1);
 				instInsn.setResult(InsnArg.reg(insn, 0, ArgType.BOOLEAN));
 				instInsn.addArg(InsnArg.reg(insn, 1, ArgType.UNKNOWN_OBJECT));
 				return instInsn;
 
 			case CHECK_CAST:
-				ArgType castType = ArgType.parse(insn.getIndexAsType());
+				ArgType castType = parseType(insn.getIndexAsType());
 				InsnNode checkCastInsn = new IndexInsnNode(InsnType.CHECK_CAST, castType, 1);
 				checkCastInsn.setResult(InsnArg.reg(insn, 0, castType));
 				checkCastInsn.addArg(InsnArg.reg(insn, 0, ArgType.UNKNOWN_OBJECT));
@@ -433,13 +435,13 @@ public class InsnDecoder {
 				return invoke(insn, InvokeType.CUSTOM, true);
 
 			case NEW_INSTANCE:
-				ArgType clsType = ArgType.parse(insn.getIndexAsType());
+				ArgType clsType = parseType(insn.getIndexAsType());
 				IndexInsnNode newInstInsn = new IndexInsnNode(InsnType.NEW_INSTANCE, clsType, 0);
 				newInstInsn.setResult(InsnArg.reg(insn, 0, clsType));
 				return newInstInsn;
 
 			case NEW_ARRAY:
-				ArgType arrType = ArgType.parse(insn.getIndexAsType());
+				ArgType arrType = parseType(insn.getIndexAsType());
 				return new NewArrayNode(arrType,
 						InsnArg.reg(insn, 0, arrType),
 						InsnArg.typeImmutableReg(insn, 1, ArgType.INT));
@@ -487,7 +489,7 @@ public class InsnDecoder {
 	}
 
 	private InsnNode filledNewArray(InsnData insn, boolean isRange) {
-		ArgType arrType = ArgType.parse(insn.getIndexAsType());
+		ArgType arrType = parseType(insn.getIndexAsType());
 		ArgType elType = arrType.getArrayElement();
 		boolean typeImmutable = elType.isPrimitive();
 		int regsCount = insn.getRegsCount();
@@ -573,6 +575,10 @@ public class InsnDecoder {
 		return inode;
 	}
 
+	private ArgType parseType(String type) {
+		return root.getInfoStorage().getType(type);
+	}
+
 	private InsnNode insn(InsnType type, RegisterArg res) {
 		InsnNode node = new InsnNode(type, 0);
 		node.setResult(res);
@@ -78,7 +78,7 @@ public abstract class ArgType {
 	}
 
 	public static ArgType object(String obj) {
-		// TODO: add caching
+		// for shared instances use InfoStorage.getType()
 		String cleanObjectName = Utils.cleanObjectName(obj);
 		switch (cleanObjectName) {
 			case Consts.CLASS_OBJECT:
@@ -122,7 +122,14 @@ public class SSAVar {
 	}
 
 	public void removeUse(RegisterArg arg) {
-		useList.removeIf(registerArg -> registerArg == arg);
+		// arg can't be added twice (see 'use' method), so stop at first found
+		int size = useList.size();
+		for (int i = 0; i < size; i++) {
+			if (useList.get(i) == arg) {
+				useList.remove(i);
+				return;
+			}
+		}
 	}
 
 	public void addUsedInPhi(PhiInsn phiInsn) {
@@ -67,6 +67,8 @@ public class ClassNode extends NotificationAttrNode implements ILoadable, ICodeN
 
 	private volatile ProcessState state = ProcessState.NOT_LOADED;
 	private LoadStage loadStage = LoadStage.NONE;
+	// passes start time, set only if time limits enabled
+	private long processStartTime;
 
 	/** Top level classes used in this class (only for top level classes, empty for inners) */
 	private List<ClassNode> dependencies = Collections.emptyList();
@@ -77,6 +79,7 @@ public class ClassNode extends NotificationAttrNode implements ILoadable, ICodeN
 
 	// cache maps
 	private Map<MethodInfo, MethodNode> mthInfoMap = Collections.emptyMap();
+	private Map<FieldInfo, FieldNode> fieldInfoMap = Collections.emptyMap();
 
 	public ClassNode(RootNode root, IClassData cls) {
 		this.root = root;
@@ -284,11 +287,30 @@ public class ClassNode extends NotificationAttrNode implements ILoadable, ICodeN
 		this.smali = null;
 	}
 
+	public void setProcessStartTime(long processStartTime) {
+		this.processStartTime = processStartTime;
+	}
+
+	/**
+	 * @param now current time from {@link jadx.core.utils.ProcessTimeLimit#currentTime()}
+	 * @return time spent in passes or zero if passes not running
+	 */
+	public long getProcessTime(long now) {
+		if (processStartTime == 0) {
+			return 0;
+		}
+		return now - processStartTime;
+	}
+
 	private void buildCache() {
 		mthInfoMap = new HashMap<>(methods.size());
 		for (MethodNode mth : methods) {
 			mthInfoMap.put(mth.getMethodInfo(), mth);
 		}
+		fieldInfoMap = new HashMap<>(fields.size());
+		for (FieldNode fld : fields) {
+			fieldInfoMap.putIfAbsent(fld.getFieldInfo(), fld);
+		}
 	}
 
 	@Nullable
@@ -322,6 +344,10 @@ public class ClassNode extends NotificationAttrNode implements ILoadable, ICodeN
 
 	public void addField(FieldNode fld) {
 		fields.add(fld);
+		if (fieldInfoMap.isEmpty()) {
+			fieldInfoMap = new HashMap<>();
+		}
+		fieldInfoMap.putIfAbsent(fld.getFieldInfo(), fld);
 	}
 
 	public FieldNode getConstField(Object obj) {
@@ -339,12 +365,7 @@ public class ClassNode extends NotificationAttrNode implements ILoadable, ICodeN
 	}
 
 	public FieldNode searchField(FieldInfo field) {
-		for (FieldNode f : fields) {
-			if (f.getFieldInfo().equals(field)) {
-				return f;
-			}
-		}
-		return null;
+		return fieldInfoMap.get(field);
 	}
 
 	public FieldNode searchFieldByNameAndType(FieldInfo field) {
@@ -575,6 +596,15 @@ public class ClassNode extends NotificationAttrNode implements ILoadable, ICodeN
 		sb.append(this.clsData.getDisassembledCode());
 	}
 
+	/**
+	 * Raw class data from input, null for synthetic classes.
+	 * Not thread safe, use copy for concurrent reading.
+	 */
+	@Nullable
+	public IClassData getClsData() {
+		return clsData;
+	}
+
 	public String getSmaliV2() {
 		StringBuilder sb = new StringBuilder();
 		getSmaliV2(sb);
@@ -0,0 +1,156 @@
+package jadx.core.dex.nodes;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.dex.instructions.InsnType;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Decoded method instructions stored densely in offset order.
+ * Instruction offsets kept in separate sorted array for binary search.
+ * <p>
+ * Removed instructions leave {@code null} in its slot, iterator skips such slots.
+ */
+public final class InsnArray implements Iterable<InsnNode> {
+
+	private final InsnNode[] insns;
+	private final int[] offsets;
+
+	private InsnArray(InsnNode[] insns, int[] offsets) {
+		this.insns = insns;
+		this.offsets = offsets;
+	}
+
+	public int size() {
+		return insns.length;
+	}
+
+	@Nullable
+	public InsnNode get(int index) {
+		return insns[index];
+	}
+
+	public int getOffset(int index) {
+		return offsets[index];
+	}
+
+	/**
+	 * @return instruction index or negative value if no instruction starts at this offset
+	 */
+	public int indexOf(int offset) {
+		return Arrays.binarySearch(offsets, offset);
+	}
+
+	/**
+	 * @return index of first instruction with offset equal or greater than {@code offset}
+	 */
+	public int lowerBound(int offset) {
+		int idx = Arrays.binarySearch(offsets, offset);
+		return idx >= 0 ? idx : -idx - 1;
+	}
+
+	@Nullable
+	public InsnNode getByOffset(int offset) {
+		int idx = Arrays.binarySearch(offsets, offset);
+		return idx >= 0 ? insns[idx] : null;
+	}
+
+	/**
+	 * @return index of next not removed and not NOP instruction after {@code index} or -1 if not found
+	 */
+	public int nextInsnIndex(int index) {
+		int len = insns.length;
+		for (int i = index + 1; i < len; i++) {
+			InsnNode insn = insns[i];
+			if (insn != null && insn.getType() != InsnType.NOP) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void remove(int index) {
+		insns[index] = null;
+	}
+
+	@NotNull
+	@Override
+	public Iterator<InsnNode> iterator() {
+		return new Iterator<InsnNode>() {
+			private int next = skipRemoved(0);
+
+			private int skipRemoved(int from) {
+				int i = from;
+				while (i < insns.length && insns[i] == null) {
+					i++;
+				}
+				return i;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next < insns.length;
+			}
+
+			@Override
+			public InsnNode next() {
+				if (next >= insns.length) {
+					throw new NoSuchElementException();
+				}
+				InsnNode insn = insns[next];
+				next = skipRemoved(next + 1);
+				return insn;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return "InsnArray{size=" + insns.length + '}';
+	}
+
+	/**
+	 * Collect instructions in increasing offsets order
+	 */
+	public static final class Builder {
+		private InsnNode[] insns;
+		private int[] offsets;
+		private int count;
+
+		/**
+		 * @param sizeHint expected instructions count
+		 */
+		public Builder(int sizeHint) {
+			int size = Math.max(sizeHint, 4);
+			this.insns = new InsnNode[size];
+			this.offsets = new int[size];
+		}
+
+		public void add(int offset, InsnNode insn) {
+			if (count != 0 && offsets[count - 1] >= offset) {
+				throw new JadxRuntimeException("Instructions offsets not in increasing order: "
+						+ offsets[count - 1] + " >= " + offset);
+			}
+			if (count == insns.length) {
+				int newSize = count + (count >> 1);
+				insns = Arrays.copyOf(insns, newSize);
+				offsets = Arrays.copyOf(offsets, newSize);
+			}
+			insns[count] = insn;
+			offsets[count] = offset;
+			count++;
+		}
+
+		public InsnArray build() {
+			if (count == insns.length) {
+				return new InsnArray(insns, offsets);
+			}
+			return new InsnArray(Arrays.copyOf(insns, count), Arrays.copyOf(offsets, count));
+		}
+	}
+}
@@ -59,7 +59,7 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 	// decompilation data, reset on unload
 	private RegisterArg thisArg;
 	private List<RegisterArg> argsList;
-	private InsnNode[] instructions;
+	private InsnArray instructions;
 	private List<BlockNode> blocks;
 	private BlockNode enterBlock;
 	private List<BlockNode> exitBlocks;
@@ -68,6 +68,10 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 	private List<LoopInfo> loops;
 	private Region region;
 
+	// CPU time spent in passes (in nanoseconds), collected only if time limits enabled
+	private long processTime;
+	private long passStartTime;
+
 	private List<MethodNode> useIn = Collections.emptyList();
 	private List<VariableNode> variables = new ArrayList<>();
 
@@ -157,6 +161,8 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 		region = null;
 		exceptionHandlers = Collections.emptyList();
 		loops = Collections.emptyList();
+		processTime = 0;
+		passStartTime = 0;
 		unloadAttributes();
 	}
 
@@ -203,9 +209,6 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 	public void checkInstructions() {
 		List<RegisterArg> list = new ArrayList<>();
 		for (InsnNode insnNode : instructions) {
-			if (insnNode == null) {
-				continue;
-			}
 			list.clear();
 			RegisterArg resultArg = insnNode.getResult();
 			if (resultArg != null) {
@@ -347,7 +350,28 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 		return noCode;
 	}
 
-	public InsnNode[] getInstructions() {
+	public void startPass(long time) {
+		passStartTime = time;
+	}
+
+	public void finishPass(long time) {
+		if (passStartTime != 0) {
+			processTime += time - passStartTime;
+			passStartTime = 0;
+		}
+	}
+
+	/**
+	 * @param now current time from {@link jadx.core.utils.ProcessTimeLimit#currentTime()}
+	 */
+	public long getProcessTime(long now) {
+		if (passStartTime == 0) {
+			return processTime;
+		}
+		return processTime + (now - passStartTime);
+	}
+
+	public InsnArray getInstructions() {
 		return instructions;
 	}
 
@@ -617,7 +641,7 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 	 */
 	public long countInsns() {
 		if (instructions != null) {
-			return instructions.length;
+			return instructions.size();
 		}
 		if (blocks != null) {
 			return blocks.stream().mapToLong(block -> block.getInstructions().size()).sum();
@@ -5,6 +5,9 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
@@ -17,7 +20,7 @@ import jadx.api.ICodeWriter;
 import jadx.api.JadxArgs;
 import jadx.api.ResourceFile;
 import jadx.api.ResourceType;
-import jadx.api.ResourcesLoader;
+import jadx.api.metrics.DecompileMetrics;
 import jadx.api.plugins.input.data.IClassData;
 import jadx.api.plugins.input.data.ILoadResult;
 import jadx.core.Jadx;
@@ -35,11 +38,13 @@ import jadx.core.dex.visitors.DepthTraversal;
 import jadx.core.dex.visitors.IDexTreeVisitor;
 import jadx.core.dex.visitors.typeinference.TypeCompare;
 import jadx.core.dex.visitors.typeinference.TypeUpdate;
+import jadx.core.snapshot.PreDecompileSnapshot;
 import jadx.core.utils.CacheStorage;
 import jadx.core.utils.ErrorsCounter;
 import jadx.core.utils.StringUtils;
 import jadx.core.utils.android.AndroidResourcesUtils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.xmlgen.ResTableCache;
 import jadx.core.xmlgen.ResTableParser;
 import jadx.core.xmlgen.ResourceStorage;
 import jadx.core.xmlgen.entry.ResourceEntry;
@@ -53,6 +58,7 @@ public class RootNode {
 	private final List<IDexTreeVisitor> passes;
 
 	private final ErrorsCounter errorsCounter = new ErrorsCounter();
+	private final DecompileMetrics metrics = new DecompileMetrics();
 	private final StringUtils stringUtils;
 	private final ConstStorage constValues;
 	private final InfoStorage infoStorage = new InfoStorage();
@@ -62,6 +68,8 @@ public class RootNode {
 	private final TypeUtils typeUtils;
 
 	private final ICodeCache codeCache;
+	private final PreDecompileSnapshot snapshot;
+	private final ResTableCache resTableCache;
 
 	private final Map<ClassInfo, ClassNode> clsMap = new HashMap<>();
 	private List<ClassNode> classes = new ArrayList<>();
@@ -72,6 +80,10 @@ public class RootNode {
 	@Nullable
 	private ClassNode appResClass;
 	private boolean isProto;
+	private volatile boolean classesLoaded;
+
+	@Nullable
+	private ExecutorService methodsExecutor;
 
 	public RootNode(JadxArgs args) {
 		this.args = args;
@@ -83,6 +95,8 @@ public class RootNode {
 		this.codeCache = args.getCodeCache();
 		this.methodUtils = new MethodUtils(this);
 		this.typeUtils = new TypeUtils(this);
+		this.snapshot = new PreDecompileSnapshot(this);
+		this.resTableCache = new ResTableCache(this);
 		this.isProto = args.getInputFiles().size() > 0 && args.getInputFiles().get(0).getName().toLowerCase().endsWith(".aab");
 	}
 
@@ -116,6 +130,8 @@ public class RootNode {
 		int mthCount = classes.stream().mapToInt(c -> c.getMethods().size()).sum();
 		int insnsCount = classes.stream().flatMap(c -> c.getMethods().stream()).mapToInt(MethodNode::getInsnsCount).sum();
 		LOG.info("Loaded classes: {}, methods: {}, instructions: {}", classes.size(), mthCount, insnsCount);
+		metrics.addClassesLoaded(classes.size());
+		classesLoaded = true;
 	}
 
 	private void addDummyClass(IClassData classData, Exception exc) {
@@ -141,33 +157,61 @@ public class RootNode {
 		clsMap.put(clsNode.getClassInfo(), clsNode);
 	}
 
+	public void loadSnapshot() {
+		snapshot.load();
+	}
+
+	public void saveSnapshot() {
+		snapshot.save();
+	}
+
+	/**
+	 * Parse resources table ('.arsc' file) into cache, can run concurrently with classes loading
+	 */
+	public void parseResTable(List<ResourceFile> resources) {
+		ResourceFile arsc = searchArsc(resources);
+		if (arsc == null) {
+			return;
+		}
+		try {
+			resTableCache.getParser(arsc);
+		} catch (Exception e) {
+			// error will be reported on resources loading
+			LOG.debug("Failed to parse '.arsc' file", e);
+		}
+	}
+
 	public void loadResources(List<ResourceFile> resources) {
-		ResourceFile arsc = null;
-		for (ResourceFile rf : resources) {
-			if (rf.getType() == ResourceType.ARSC) {
-				arsc = rf;
-				break;
-			}
+		if (snapshot.restoreResources(resources)) {
+			return;
 		}
+		ResourceFile arsc = searchArsc(resources);
 		if (arsc == null) {
 			LOG.debug("'.arsc' file not found");
 			return;
 		}
 		try {
-			ResTableParser parser = ResourcesLoader.decodeStream(arsc, (size, is) -> {
-				ResTableParser tableParser = new ResTableParser(this);
-				tableParser.decode(is);
-				return tableParser;
-			});
+			ResTableParser parser = resTableCache.getParser(arsc);
 			if (parser != null) {
 				processResources(parser.getResStorage());
 				updateObfuscatedFiles(parser, resources);
+				snapshot.collectResources(parser.getResStorage(), resources);
 			}
 		} catch (Exception e) {
 			LOG.error("Failed to parse '.arsc' file", e);
 		}
 	}
 
+	@Nullable
+	private static ResourceFile searchArsc(List<ResourceFile> resources) {
+		for (ResourceFile rf : resources) {
+			if (rf.getType() == ResourceType.ARSC) {
+				return rf;
+			}
+		}
+		return null;
+	}
+
 	public void processResources(ResourceStorage resStorage) {
 		constValues.setResourcesNames(resStorage.getResourcesNames());
 		appPackage = resStorage.getAppPackage();
@@ -175,18 +219,33 @@ public class RootNode {
 	}
 
 	public void initClassPath() {
+		if (this.clsp == null) {
+			initClassPath(loadClassPath());
+		}
+	}
+
+	/**
+	 * Load classpath sets.
+	 * Don't depend on app classes, so can be executed concurrently with classes loading.
+	 */
+	public ClspGraph loadClassPath() {
 		try {
-			if (this.clsp == null) {
-				ClspGraph newClsp = new ClspGraph(this);
-				newClsp.load();
-				newClsp.addApp(classes);
-				this.clsp = newClsp;
-			}
+			ClspGraph newClsp = new ClspGraph(this);
+			newClsp.load();
+			return newClsp;
 		} catch (Exception e) {
 			throw new JadxRuntimeException("Error loading jadx class set", e);
 		}
 	}
 
+	/**
+	 * Add app classes to already loaded classpath
+	 */
+	public void initClassPath(ClspGraph loadedClsp) {
+		loadedClsp.addApp(classes);
+		this.clsp = loadedClsp;
+	}
+
 	private void updateObfuscatedFiles(ResTableParser parser, List<ResourceFile> resources) {
 		if (args.isSkipResources()) {
 			return;
@@ -451,10 +510,21 @@ public class RootNode {
 		return jadxArgs.getCodeWriterProvider().apply(jadxArgs);
 	}
 
+	/**
+	 * All classes from inputs loaded and const fields collected
+	 */
+	public boolean isClassesLoaded() {
+		return classesLoaded;
+	}
+
 	public ClspGraph getClsp() {
 		return clsp;
 	}
 
+	public DecompileMetrics getMetrics() {
+		return metrics;
+	}
+
 	public ErrorsCounter getErrorsCounter() {
 		return errorsCounter;
 	}
@@ -501,6 +571,14 @@ public class RootNode {
 		return codeCache;
 	}
 
+	public ResTableCache getResTableCache() {
+		return resTableCache;
+	}
+
+	public PreDecompileSnapshot getSnapshot() {
+		return snapshot;
+	}
+
 	public MethodUtils getMethodUtils() {
 		return methodUtils;
 	}
@@ -512,4 +590,27 @@ public class RootNode {
 	public boolean isProto() {
 		return isProto;
 	}
+
+	/**
+	 * Shared executor for concurrent processing of methods from one class.
+	 * Contains {@code threadsCount - 1} threads, thread which process class also used for methods processing.
+	 */
+	public synchronized ExecutorService getMethodsExecutor() {
+		if (methodsExecutor == null) {
+			AtomicInteger threadNum = new AtomicInteger();
+			methodsExecutor = Executors.newFixedThreadPool(Math.max(1, args.getThreadsCount() - 1), r -> {
+				Thread thread = new Thread(r, "jadx-methods-" + threadNum.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return methodsExecutor;
+	}
+
+	public synchronized void close() {
+		if (methodsExecutor != null) {
+			methodsExecutor.shutdownNow();
+			methodsExecutor = null;
+		}
+	}
 }
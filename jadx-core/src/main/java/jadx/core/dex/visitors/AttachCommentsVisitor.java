@@ -18,6 +18,7 @@ import jadx.core.dex.attributes.IAttributeNode;
 import jadx.core.dex.instructions.args.RegisterArg;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.InsnArray;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.utils.exceptions.JadxRuntimeException;
@@ -83,12 +84,12 @@ public class AttachCommentsVisitor extends AbstractVisitor {
 	}
 
 	private static InsnNode getInsnByOffset(MethodNode mth, int offset) {
-		try {
-			return mth.getInstructions()[offset];
-		} catch (Exception e) {
+		InsnArray insns = mth.getInstructions();
+		InsnNode insn = insns != null ? insns.getByOffset(offset) : null;
+		if (insn == null) {
 			LOG.warn("Insn reference not found in: {} with offset: {}", mth, offset);
-			return null;
 		}
+		return insn;
 	}
 
 	private static void processCustomAttach(MethodNode mth, ICodeComment comment) {
@@ -20,7 +20,7 @@ import jadx.core.utils.exceptions.JadxException;
 				MethodInvokeVisitor.class
 		}
 )
-public class AttachMethodDetails extends AbstractVisitor {
+public class AttachMethodDetails extends AbstractVisitor implements IMethodLocalVisitor {
 
 	private MethodUtils methodUtils;
 
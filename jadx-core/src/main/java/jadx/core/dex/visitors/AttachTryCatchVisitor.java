@@ -11,6 +11,7 @@ import jadx.api.plugins.input.data.ITry;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.info.ClassInfo;
 import jadx.core.dex.instructions.InsnType;
+import jadx.core.dex.nodes.InsnArray;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.trycatch.ExcHandlerAttr;
@@ -18,8 +19,6 @@ import jadx.core.dex.trycatch.ExceptionHandler;
 import jadx.core.dex.trycatch.TryCatchBlock;
 import jadx.core.utils.exceptions.JadxException;
 
-import static jadx.core.dex.visitors.ProcessInstructionsVisitor.getNextInsnOffset;
-
 @JadxVisitor(
 		name = "Attach Try/Catch Visitor",
 		desc = "Attach try/catch info to instructions",
@@ -27,7 +26,7 @@ import static jadx.core.dex.visitors.ProcessInstructionsVisitor.getNextInsnOffse
 				ProcessInstructionsVisitor.class
 		}
 )
-public class AttachTryCatchVisitor extends AbstractVisitor {
+public class AttachTryCatchVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) throws JadxException {
@@ -37,7 +36,7 @@ public class AttachTryCatchVisitor extends AbstractVisitor {
 		initTryCatches(mth, mth.getCodeReader(), mth.getInstructions());
 	}
 
-	private static void initTryCatches(MethodNode mth, ICodeReader codeReader, InsnNode[] insnByOffset) {
+	private static void initTryCatches(MethodNode mth, ICodeReader codeReader, InsnArray insns) {
 		List<ITry> tries = codeReader.getTries();
 		if (tries.isEmpty()) {
 			return;
@@ -75,7 +74,7 @@ public class AttachTryCatchVisitor extends AbstractVisitor {
 				int addr = handler.getHandleOffset();
 				ExcHandlerAttr ehAttr = new ExcHandlerAttr(tryCatchBlock, handler);
 				// TODO: don't override existing attribute
-				insnByOffset[addr].addAttr(ehAttr);
+				insns.getByOffset(addr).addAttr(ehAttr);
 			}
 		}
 
@@ -83,20 +82,23 @@ public class AttachTryCatchVisitor extends AbstractVisitor {
 		for (ITry tryData : tries) {
 			TryCatchBlock catchBlock = catches.get(k++);
 			if (catchBlock.getHandlersCount() != 0) {
-				markTryBounds(insnByOffset, tryData, catchBlock);
+				markTryBounds(insns, tryData, catchBlock);
 			}
 		}
 
 	}
 
-	private static void markTryBounds(InsnNode[] insnByOffset, ITry aTry, TryCatchBlock catchBlock) {
-		int offset = aTry.getStartAddress();
-		int end = offset + aTry.getInstructionCount() - 1;
-
+	private static void markTryBounds(InsnArray insns, ITry aTry, TryCatchBlock catchBlock) {
+		int start = aTry.getStartAddress();
+		int end = start + aTry.getInstructionCount() - 1;
+		if (start < 0) {
+			return;
+		}
 		boolean tryBlockStarted = false;
 		InsnNode insn = null;
-		while (offset <= end && offset >= 0) {
-			insn = insnByOffset[offset];
+		int index = insns.lowerBound(start);
+		while (index >= 0 && index < insns.size() && insns.getOffset(index) <= end) {
+			insn = insns.get(index);
 			if (insn != null && insn.getType() != InsnType.NOP) {
 				if (tryBlockStarted) {
 					catchBlock.addInsn(insn);
@@ -106,7 +108,7 @@ public class AttachTryCatchVisitor extends AbstractVisitor {
 					tryBlockStarted = true;
 				}
 			}
-			offset = getNextInsnOffset(insnByOffset, offset);
+			index = insns.nextInsnIndex(index);
 		}
 		if (tryBlockStarted && insn != null) {
 			insn.add(AFlag.TRY_LEAVE);
@@ -35,7 +35,7 @@ import jadx.core.utils.exceptions.JadxException;
 		},
 		runBefore = TypeInferenceVisitor.class
 )
-public class ConstInlineVisitor extends AbstractVisitor {
+public class ConstInlineVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) throws JadxException {
@@ -4,6 +4,8 @@ import jadx.core.dex.attributes.AType;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.utils.DebugChecks;
+import jadx.core.utils.ProcessTimeLimit;
+import jadx.core.utils.exceptions.JadxTimeoutException;
 
 public class DepthTraversal {
 
@@ -23,10 +25,23 @@ public class DepthTraversal {
 			if (mth.contains(AType.JADX_ERROR)) {
 				return;
 			}
-			visitor.visit(mth);
+			if (ProcessTimeLimit.isEnabled(mth.root().getArgs())) {
+				ProcessTimeLimit.check(mth);
+				mth.startPass(ProcessTimeLimit.currentTime());
+				try {
+					visitor.visit(mth);
+				} finally {
+					mth.finishPass(ProcessTimeLimit.currentTime());
+				}
+			} else {
+				visitor.visit(mth);
+			}
 			if (DebugChecks.checksEnabled) {
 				DebugChecks.runChecksAfterVisitor(mth, visitor);
 			}
+		} catch (JadxTimeoutException e) {
+			mth.addWarnComment("Method dumped in fallback mode: " + e.getMessage());
+			mth.addError("Processing stopped in pass: " + visitor.getClass().getSimpleName(), e);
 		} catch (StackOverflowError | Exception e) {
 			mth.addError(e.getClass().getSimpleName() + " in pass: " + visitor.getClass().getSimpleName(), e);
 		}
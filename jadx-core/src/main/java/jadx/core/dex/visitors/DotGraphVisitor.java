@@ -275,7 +275,7 @@ public class DotGraphVisitor extends AbstractVisitor {
 			} else {
 				ICodeWriter code = new SimpleCodeWriter();
 				List<InsnNode> instructions = block.getInstructions();
-				MethodGen.addFallbackInsns(code, mth, instructions.toArray(new InsnNode[0]), BLOCK_DUMP);
+				MethodGen.addFallbackInsns(code, mth, instructions, BLOCK_DUMP);
 				String str = escape(code.newLine().toString());
 				if (str.startsWith(NL)) {
 					str = str.substring(NL.length());
@@ -2,8 +2,10 @@ package jadx.core.dex.visitors;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import jadx.core.dex.attributes.AFlag;
@@ -80,13 +82,17 @@ public class ExtractFieldInit extends AbstractVisitor {
 		if (classInitMth == null) {
 			return;
 		}
+		Map<FieldInfo, List<InsnNode>> fieldAssigns = getFieldAssigns(classInitMth, InsnType.SPUT);
+		if (fieldAssigns.isEmpty()) {
+			return;
+		}
 		for (FieldNode field : cls.getFields()) {
 			if (field.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
 			if (field.getAccessFlags().isStatic()) {
-				List<InsnNode> initInsns = getFieldAssigns(classInitMth, field, InsnType.SPUT);
-				if (initInsns.size() == 1) {
+				List<InsnNode> initInsns = fieldAssigns.get(field.getFieldInfo());
+				if (initInsns != null && initInsns.size() == 1) {
 					InsnNode insn = initInsns.get(0);
 					if (checkInsn(cls, insn)) {
 						InsnArg arg = insn.getArg(0);
@@ -238,6 +244,10 @@ public class ExtractFieldInit extends AbstractVisitor {
 			AccessInfo accFlags = mth.getAccessFlags();
 			if (!accFlags.isStatic() && accFlags.isConstructor()) {
 				list.add(mth);
+				if (mth.getBasicBlocks() == null) {
+					// constructor processing stopped with error (like time limit)
+					return Collections.emptyList();
+				}
 				if (BlockUtils.isAllBlocksEmpty(mth.getBasicBlocks())) {
 					return Collections.emptyList();
 				}
@@ -246,22 +256,23 @@ public class ExtractFieldInit extends AbstractVisitor {
 		return list;
 	}
 
-	private static List<InsnNode> getFieldAssigns(MethodNode mth, FieldNode field, InsnType putInsn) {
+	/**
+	 * Collect field put instructions grouped by field (single pass over method instructions)
+	 */
+	private static Map<FieldInfo, List<InsnNode>> getFieldAssigns(MethodNode mth, InsnType putInsn) {
 		if (mth.isNoCode() || mth.getBasicBlocks() == null) {
-			return Collections.emptyList();
+			return Collections.emptyMap();
 		}
-		List<InsnNode> assignInsns = new ArrayList<>();
+		Map<FieldInfo, List<InsnNode>> assignsMap = new HashMap<>();
 		for (BlockNode block : mth.getBasicBlocks()) {
 			for (InsnNode insn : block.getInstructions()) {
 				if (insn.getType() == putInsn) {
 					FieldInfo putNode = (FieldInfo) ((IndexInsnNode) insn).getIndex();
-					if (putNode.equals(field.getFieldInfo())) {
-						assignInsns.add(insn);
-					}
+					assignsMap.computeIfAbsent(putNode, f -> new ArrayList<>(1)).add(insn);
 				}
 			}
 		}
-		return assignInsns;
+		return assignsMap;
 	}
 
 	private static void addFieldInitAttr(MethodNode classInitMth, FieldNode field, InsnNode insn) {
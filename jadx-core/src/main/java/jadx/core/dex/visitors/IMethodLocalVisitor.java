@@ -0,0 +1,12 @@
+package jadx.core.dex.visitors;
+
+/**
+ * Marker for visitors which change only visited method and don't depend on state
+ * of other methods in same class.
+ * <p>
+ * {@link #visit(jadx.core.dex.nodes.ClassNode)} for such visitors is not called,
+ * methods of one class can be processed concurrently.
+ * Not marked visitors act as barriers.
+ */
+public interface IMethodLocalVisitor extends IDexTreeVisitor {
+}
@@ -22,7 +22,7 @@ import jadx.core.utils.exceptions.JadxRuntimeException;
 		desc = "Initialize code variables",
 		runAfter = SSATransform.class
 )
-public class InitCodeVariables extends AbstractVisitor {
+public class InitCodeVariables extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) throws JadxException {
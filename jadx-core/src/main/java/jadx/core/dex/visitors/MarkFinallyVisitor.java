@@ -27,6 +27,8 @@ import jadx.core.dex.visitors.blocksmaker.helpers.FinallyExtractInfo;
 import jadx.core.dex.visitors.blocksmaker.helpers.InsnsSlice;
 import jadx.core.dex.visitors.ssa.SSATransform;
 import jadx.core.utils.BlockUtils;
+import jadx.core.utils.ProcessTimeLimit;
+import jadx.core.utils.exceptions.JadxTimeoutException;
 
 @JadxVisitor(
 		name = "MarkFinallyVisitor",
@@ -49,6 +51,9 @@ public class MarkFinallyVisitor extends AbstractVisitor {
 				processExceptionHandler(mth, excHandler);
 			}
 			mth.clearExceptionHandlers();
+		} catch (JadxTimeoutException e) {
+			// no time left for undo, method will be dumped in fallback mode
+			throw e;
 		} catch (Exception e) {
 			LOG.warn("Undo finally extract visitor, mth: {}", mth, e);
 			try {
@@ -128,6 +133,7 @@ public class MarkFinallyVisitor extends AbstractVisitor {
 					continue;
 				}
 				for (BlockNode checkBlock : otherHandler.getBlocks()) {
+					ProcessTimeLimit.check(mth);
 					if (searchDuplicateInsns(checkBlock, extractInfo)) {
 						break;
 					} else {
@@ -160,6 +166,7 @@ public class MarkFinallyVisitor extends AbstractVisitor {
 			list.addAll(BlockUtils.collectBlocksDominatedByWithExcHandlers(start, start));
 			Set<BlockNode> checkSet = new LinkedHashSet<>(list);
 			for (BlockNode block : checkSet) {
+				ProcessTimeLimit.check(mth);
 				if (searchDuplicateInsns(block, extractInfo)) {
 					found = true;
 					break;
@@ -21,7 +21,7 @@ import jadx.core.utils.InsnRemover;
 		runAfter = SSATransform.class,
 		runBefore = CodeShrinkVisitor.class
 )
-public class MoveInlineVisitor extends AbstractVisitor {
+public class MoveInlineVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 	@Override
 	public void visit(MethodNode mth) {
 		if (mth.isNoCode()) {
@@ -15,6 +15,7 @@ import jadx.core.dex.instructions.SwitchData;
 import jadx.core.dex.instructions.SwitchInsn;
 import jadx.core.dex.instructions.args.ArgType;
 import jadx.core.dex.instructions.args.RegisterArg;
+import jadx.core.dex.nodes.InsnArray;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.visitors.blocksmaker.BlockSplitter;
@@ -29,7 +30,7 @@ import jadx.core.utils.exceptions.JadxRuntimeException;
 				BlockSplitter.class
 		}
 )
-public class ProcessInstructionsVisitor extends AbstractVisitor {
+public class ProcessInstructionsVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) throws JadxException {
@@ -40,58 +41,60 @@ public class ProcessInstructionsVisitor extends AbstractVisitor {
 		initJumps(mth, mth.getInstructions());
 	}
 
-	private static void initJumps(MethodNode mth, InsnNode[] insnByOffset) {
-		for (int offset = 0; offset < insnByOffset.length; offset++) {
-			InsnNode insn = insnByOffset[offset];
+	private static void initJumps(MethodNode mth, InsnArray insns) {
+		int count = insns.size();
+		for (int i = 0; i < count; i++) {
+			InsnNode insn = insns.get(i);
 			if (insn == null) {
 				continue;
 			}
+			int offset = insns.getOffset(i);
 			switch (insn.getType()) {
 				case SWITCH:
 					SwitchInsn sw = (SwitchInsn) insn;
 					// default case
-					int nextInsnOffset = getNextInsnOffset(insnByOffset, offset);
+					int nextInsnOffset = getNextInsnOffset(insns, i);
 					if (nextInsnOffset != -1) {
-						addJump(mth, insnByOffset, offset, nextInsnOffset);
+						addJump(mth, insns, offset, nextInsnOffset);
 					}
 					int dataTarget = sw.getDataTarget();
-					InsnNode switchDataInsn = getInsnAtOffset(insnByOffset, dataTarget);
+					InsnNode switchDataInsn = getInsnAtOffset(insns, dataTarget);
 					if (switchDataInsn != null && switchDataInsn.getType() == InsnType.SWITCH_DATA) {
 						sw.attachSwitchData((SwitchData) switchDataInsn, nextInsnOffset);
 					} else {
 						throw new JadxRuntimeException("Payload for fill-array not found at " + InsnUtils.formatOffset(dataTarget));
 					}
 					for (int target : sw.getTargets()) {
-						addJump(mth, insnByOffset, offset, target);
+						addJump(mth, insns, offset, target);
 					}
 					break;
 
 				case IF:
-					int next = getNextInsnOffset(insnByOffset, offset);
+					int next = getNextInsnOffset(insns, i);
 					if (next != -1) {
-						addJump(mth, insnByOffset, offset, next);
+						addJump(mth, insns, offset, next);
 					}
-					addJump(mth, insnByOffset, offset, ((IfNode) insn).getTarget());
+					addJump(mth, insns, offset, ((IfNode) insn).getTarget());
 					break;
 
 				case GOTO:
-					addJump(mth, insnByOffset, offset, ((GotoNode) insn).getTarget());
+					addJump(mth, insns, offset, ((GotoNode) insn).getTarget());
 					break;
 
 				case INVOKE:
 					ArgType retType = ((BaseInvokeNode) insn).getCallMth().getReturnType();
-					mergeMoveResult(insnByOffset, offset, insn, retType);
+					mergeMoveResult(insns, i, insn, retType);
 					break;
 
 				case FILLED_NEW_ARRAY:
 					ArgType arrType = ((FilledNewArrayNode) insn).getArrayType();
-					mergeMoveResult(insnByOffset, offset, insn, arrType);
+					mergeMoveResult(insns, i, insn, arrType);
 					break;
 
 				case FILL_ARRAY:
 					FillArrayInsn fillArrayInsn = (FillArrayInsn) insn;
 					int target = fillArrayInsn.getTarget();
-					InsnNode arrDataInsn = getInsnAtOffset(insnByOffset, target);
+					InsnNode arrDataInsn = getInsnAtOffset(insns, target);
 					if (arrDataInsn != null && arrDataInsn.getType() == InsnType.FILL_ARRAY_DATA) {
 						fillArrayInsn.setArrayData((FillArrayData) arrDataInsn);
 					} else {
@@ -105,45 +108,42 @@ public class ProcessInstructionsVisitor extends AbstractVisitor {
 		}
 	}
 
-	private static void mergeMoveResult(InsnNode[] insnByOffset, int offset, InsnNode insn, ArgType resType) {
-		int nextInsnOffset = getNextInsnOffset(insnByOffset, offset);
-		if (nextInsnOffset == -1) {
+	private static void mergeMoveResult(InsnArray insns, int index, InsnNode insn, ArgType resType) {
+		int nextIndex = insns.nextInsnIndex(index);
+		if (nextIndex == -1) {
 			return;
 		}
-		InsnNode nextInsn = insnByOffset[nextInsnOffset];
+		InsnNode nextInsn = insns.get(nextIndex);
 		if (nextInsn.getType() != InsnType.MOVE_RESULT) {
 			return;
 		}
 		RegisterArg moveRes = nextInsn.getResult();
 		insn.setResult(moveRes.duplicate(resType));
 		insn.copyAttributesFrom(nextInsn);
-		insnByOffset[nextInsnOffset] = null;
+		insns.remove(nextIndex);
 	}
 
-	private static void addJump(MethodNode mth, InsnNode[] insnByOffset, int offset, int target) {
+	private static void addJump(MethodNode mth, InsnArray insns, int offset, int target) {
 		try {
-			insnByOffset[target].addAttr(AType.JUMP, new JumpInfo(offset, target));
+			insns.getByOffset(target).addAttr(AType.JUMP, new JumpInfo(offset, target));
 		} catch (Exception e) {
 			mth.addError("Failed to set jump: " + InsnUtils.formatOffset(offset) + " -> " + InsnUtils.formatOffset(target), e);
 		}
 	}
 
-	public static int getNextInsnOffset(InsnNode[] insnByOffset, int offset) {
-		int len = insnByOffset.length;
-		for (int i = offset + 1; i < len; i++) {
-			InsnNode insnNode = insnByOffset[i];
-			if (insnNode != null && insnNode.getType() != InsnType.NOP) {
-				return i;
-			}
-		}
-		return -1;
+	/**
+	 * @return offset of next not NOP instruction after instruction with {@code index} or -1 if not found
+	 */
+	private static int getNextInsnOffset(InsnArray insns, int index) {
+		int nextIndex = insns.nextInsnIndex(index);
+		return nextIndex == -1 ? -1 : insns.getOffset(nextIndex);
 	}
 
 	@Nullable
-	private static InsnNode getInsnAtOffset(InsnNode[] insnByOffset, int offset) {
-		int len = insnByOffset.length;
-		for (int i = offset; i < len; i++) {
-			InsnNode insnNode = insnByOffset[i];
+	private static InsnNode getInsnAtOffset(InsnArray insns, int offset) {
+		int count = insns.size();
+		for (int i = insns.lowerBound(offset); i < count; i++) {
+			InsnNode insnNode = insns.get(i);
 			if (insnNode != null && insnNode.getType() != InsnType.NOP) {
 				return insnNode;
 			}
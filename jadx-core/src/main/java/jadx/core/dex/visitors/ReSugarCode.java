@@ -1,6 +1,9 @@
 package jadx.core.dex.visitors;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.Nullable;
@@ -29,7 +32,6 @@ import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.dex.visitors.shrink.CodeShrinkVisitor;
-import jadx.core.utils.InsnList;
 import jadx.core.utils.InsnRemover;
 import jadx.core.utils.InsnUtils;
 import jadx.core.utils.Utils;
@@ -119,14 +121,23 @@ public class ReSugarCode extends AbstractVisitor {
 			return false;
 		}
 		List<InsnNode> arrPuts = useList.subList(0, len).stream().map(InsnArg::getParentInsn).collect(Collectors.toList());
-		// check that all puts in current block
-		for (InsnNode arrPut : arrPuts) {
-			int index = InsnList.getIndex(instructions, arrPut);
-			if (index == -1) {
-				mth.addDebugComment("Can't convert new array creation: APUT found in different block: " + arrPut);
-				return false;
+		// check that all puts in current block (single pass, arrays in class init can be very big)
+		Set<InsnNode> notFoundPuts = Collections.newSetFromMap(new IdentityHashMap<>(len));
+		notFoundPuts.addAll(arrPuts);
+		InsnNode lastPut = Utils.last(arrPuts);
+		int replaceIndex = -1;
+		int insnsCount = instructions.size();
+		for (int i = 0; i < insnsCount; i++) {
+			InsnNode insn = instructions.get(i);
+			if (notFoundPuts.remove(insn) && insn == lastPut) {
+				replaceIndex = i;
 			}
 		}
+		if (!notFoundPuts.isEmpty()) {
+			InsnNode arrPut = arrPuts.stream().filter(notFoundPuts::contains).findFirst().orElse(lastPut);
+			mth.addDebugComment("Can't convert new array creation: APUT found in different block: " + arrPut);
+			return false;
+		}
 
 		// checks complete, apply
 		ArgType arrType = newArrayInsn.getArrayType();
@@ -138,9 +149,6 @@ public class ReSugarCode extends AbstractVisitor {
 			remover.addAndUnbind(put);
 		}
 		remover.addAndUnbind(newArrayInsn);
-
-		InsnNode lastPut = Utils.last(arrPuts);
-		int replaceIndex = InsnList.getIndex(instructions, lastPut);
 		instructions.set(replaceIndex, filledArr);
 		return true;
 	}
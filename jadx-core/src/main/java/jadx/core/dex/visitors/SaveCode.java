@@ -20,42 +20,53 @@ public class SaveCode {
 	private SaveCode() {
 	}
 
-	public static void save(File dir, ClassNode cls, ICodeInfo code) {
+	/**
+	 * @return written bytes count
+	 */
+	public static long save(File dir, ClassNode cls, ICodeInfo code) {
 		if (cls.contains(AFlag.DONT_GENERATE)) {
-			return;
+			return 0;
 		}
 		if (code == null) {
 			throw new JadxRuntimeException("Code not generated for class " + cls.getFullName());
 		}
 		if (code == ICodeInfo.EMPTY) {
-			return;
+			return 0;
 		}
 		String codeStr = code.getCodeStr();
 		if (codeStr.isEmpty()) {
-			return;
+			return 0;
 		}
-		String fileName = cls.getClassInfo().getAliasFullPath() + getFileExtension(cls);
-		save(codeStr, dir, fileName);
+		return save(codeStr, dir, getFileName(cls));
 	}
 
-	public static void save(String code, File dir, String fileName) {
+	/**
+	 * Output file path relative to sources directory
+	 */
+	public static String getFileName(ClassNode cls) {
+		return cls.getClassInfo().getAliasFullPath() + getFileExtension(cls);
+	}
+
+	public static long save(String code, File dir, String fileName) {
 		if (!ZipSecurity.isValidZipEntryName(fileName)) {
-			return;
+			return 0;
 		}
-		save(code, new File(dir, fileName));
+		return save(code, new File(dir, fileName));
 	}
 
-	public static void save(ICodeInfo codeInfo, File file) {
-		save(codeInfo.getCodeStr(), file);
+	public static long save(ICodeInfo codeInfo, File file) {
+		return save(codeInfo.getCodeStr(), file);
 	}
 
-	public static void save(String code, File file) {
+	public static long save(String code, File file) {
 		File outFile = FileUtils.prepareFile(file);
 		try (PrintWriter out = new PrintWriter(outFile, "UTF-8")) {
 			out.println(code);
 		} catch (Exception e) {
 			LOG.error("Save file error", e);
+			return 0;
 		}
+		return outFile.length();
 	}
 
 	private static String getFileExtension(ClassNode cls) {
@@ -44,7 +44,7 @@ import jadx.core.utils.InsnRemover;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
-public class SimplifyVisitor extends AbstractVisitor {
+public class SimplifyVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 
 	private static final Logger LOG = LoggerFactory.getLogger(SimplifyVisitor.class);
 
@@ -15,10 +15,11 @@ import jadx.core.dex.trycatch.ExcHandlerAttr;
 import jadx.core.dex.trycatch.ExceptionHandler;
 import jadx.core.dex.trycatch.TryCatchBlock;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.InsnRemover;
 
-public class BlockExceptionHandler extends AbstractVisitor {
+public class BlockExceptionHandler extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) {
@@ -9,9 +9,10 @@ import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.trycatch.ExcHandlerAttr;
 import jadx.core.dex.trycatch.SplitterBlockAttr;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.utils.BlockUtils;
 
-public class BlockFinish extends AbstractVisitor {
+public class BlockFinish extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) {
@@ -28,6 +28,7 @@ import jadx.core.dex.trycatch.ExcHandlerAttr;
 import jadx.core.dex.trycatch.ExceptionHandler;
 import jadx.core.dex.trycatch.TryCatchBlock;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
@@ -35,7 +36,7 @@ import jadx.core.utils.exceptions.JadxRuntimeException;
 import static jadx.core.dex.visitors.blocksmaker.BlockSplitter.connect;
 import static jadx.core.utils.EmptyBitSet.EMPTY;
 
-public class BlockProcessor extends AbstractVisitor {
+public class BlockProcessor extends AbstractVisitor implements IMethodLocalVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(BlockProcessor.class);
 
 	@Override
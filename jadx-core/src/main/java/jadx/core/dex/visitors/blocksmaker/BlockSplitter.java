@@ -23,10 +23,11 @@ import jadx.core.dex.trycatch.ExcHandlerAttr;
 import jadx.core.dex.trycatch.ExceptionHandler;
 import jadx.core.dex.trycatch.SplitterBlockAttr;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
-public class BlockSplitter extends AbstractVisitor {
+public class BlockSplitter extends AbstractVisitor implements IMethodLocalVisitor {
 
 	// leave these instructions alone in block node
 	private static final Set<InsnType> SEPARATE_INSNS = EnumSet.of(
@@ -82,9 +83,6 @@ public class BlockSplitter extends AbstractVisitor {
 
 		// split into blocks
 		for (InsnNode insn : mth.getInstructions()) {
-			if (insn == null) {
-				continue;
-			}
 			boolean startNew = false;
 			if (prevInsn != null) {
 				InsnType type = prevInsn.getType();
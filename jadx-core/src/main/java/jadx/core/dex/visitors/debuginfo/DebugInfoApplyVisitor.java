@@ -26,6 +26,7 @@ import jadx.core.dex.nodes.BlockNode;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.JadxVisitor;
 import jadx.core.dex.visitors.ssa.SSATransform;
 import jadx.core.dex.visitors.typeinference.TypeInferenceVisitor;
@@ -42,7 +43,7 @@ import jadx.core.utils.exceptions.JadxException;
 				TypeInferenceVisitor.class
 		}
 )
-public class DebugInfoApplyVisitor extends AbstractVisitor {
+public class DebugInfoApplyVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(DebugInfoApplyVisitor.class);
 
 	@Override
@@ -14,10 +14,12 @@ import jadx.core.dex.attributes.nodes.RegDebugInfoAttr;
 import jadx.core.dex.instructions.args.ArgType;
 import jadx.core.dex.instructions.args.InsnArg;
 import jadx.core.dex.instructions.args.RegisterArg;
+import jadx.core.dex.nodes.InsnArray;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.parser.SignatureParser;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.JadxVisitor;
 import jadx.core.dex.visitors.blocksmaker.BlockSplitter;
 import jadx.core.dex.visitors.ssa.SSATransform;
@@ -33,7 +35,7 @@ import jadx.core.utils.exceptions.JadxException;
 				SSATransform.class
 		}
 )
-public class DebugInfoAttachVisitor extends AbstractVisitor {
+public class DebugInfoAttachVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 
 	private static final Logger LOG = LoggerFactory.getLogger(DebugInfoAttachVisitor.class);
 
@@ -52,24 +54,22 @@ public class DebugInfoAttachVisitor extends AbstractVisitor {
 	}
 
 	private void processDebugInfo(MethodNode mth, IDebugInfo debugInfo) {
-		InsnNode[] insnArr = mth.getInstructions();
+		InsnArray insnArr = mth.getInstructions();
 		attachSourceLines(debugInfo.getSourceLineMapping(), insnArr);
 		attachDebugInfo(mth, debugInfo.getLocalVars(), insnArr);
 		setMethodSourceLine(mth, insnArr);
 	}
 
-	private void attachSourceLines(Map<Integer, Integer> lineMapping, InsnNode[] insnArr) {
+	private void attachSourceLines(Map<Integer, Integer> lineMapping, InsnArray insnArr) {
 		for (InsnNode insn : insnArr) {
-			if (insn != null) {
-				Integer sourceLine = lineMapping.get(insn.getOffset());
-				if (sourceLine != null) {
-					insn.setSourceLine(sourceLine);
-				}
+			Integer sourceLine = lineMapping.get(insn.getOffset());
+			if (sourceLine != null) {
+				insn.setSourceLine(sourceLine);
 			}
 		}
 	}
 
-	private void attachDebugInfo(MethodNode mth, List<ILocalVar> localVars, InsnNode[] insnArr) {
+	private void attachDebugInfo(MethodNode mth, List<ILocalVar> localVars, InsnArray insnArr) {
 		if (localVars.isEmpty()) {
 			return;
 		}
@@ -91,8 +91,9 @@ public class DebugInfoAttachVisitor extends AbstractVisitor {
 				}
 				start = 0;
 			}
-			for (int i = start; i <= end; i++) {
-				InsnNode insn = insnArr[i];
+			int count = insnArr.size();
+			for (int i = insnArr.lowerBound(start); i < count && insnArr.getOffset(i) <= end; i++) {
+				InsnNode insn = insnArr.get(i);
 				if (insn != null) {
 					attachDebugInfo(insn.getResult(), debugInfoAttr, regNum);
 					for (InsnArg arg : insn.getArguments()) {
@@ -149,14 +150,12 @@ public class DebugInfoAttachVisitor extends AbstractVisitor {
 	/**
 	 * Set method source line from first instruction
 	 */
-	private void setMethodSourceLine(MethodNode mth, InsnNode[] insnArr) {
+	private void setMethodSourceLine(MethodNode mth, InsnArray insnArr) {
 		for (InsnNode insn : insnArr) {
-			if (insn != null) {
-				int line = insn.getSourceLine();
-				if (line != 0) {
-					mth.setSourceLine(line - 1);
-					return;
-				}
+			int line = insn.getSourceLine();
+			if (line != 0) {
+				mth.setSourceLine(line - 1);
+				return;
 			}
 		}
 	}
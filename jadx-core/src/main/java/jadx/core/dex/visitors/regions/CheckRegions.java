@@ -19,10 +19,11 @@ import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.regions.loops.LoopRegion;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.utils.exceptions.CodegenException;
 import jadx.core.utils.exceptions.JadxException;
 
-public class CheckRegions extends AbstractVisitor {
+public class CheckRegions extends AbstractVisitor implements IMethodLocalVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(CheckRegions.class);
 
 	@Override
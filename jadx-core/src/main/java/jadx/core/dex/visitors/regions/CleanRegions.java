@@ -9,8 +9,9 @@ import jadx.core.dex.nodes.IRegion;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.regions.Region;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 
-public class CleanRegions extends AbstractVisitor {
+public class CleanRegions extends AbstractVisitor implements IMethodLocalVisitor {
 	private static final IRegionVisitor REMOVE_REGION_VISITOR = new RemoveRegionVisitor();
 
 	@Override
@@ -33,6 +33,7 @@ import jadx.core.dex.regions.loops.ForLoop;
 import jadx.core.dex.regions.loops.LoopRegion;
 import jadx.core.dex.regions.loops.LoopType;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.JadxVisitor;
 import jadx.core.dex.visitors.regions.variables.ProcessVariables;
 import jadx.core.dex.visitors.shrink.CodeShrinkVisitor;
@@ -47,7 +48,7 @@ import jadx.core.utils.exceptions.JadxOverflowException;
 		desc = "Convert 'while' loops to 'for' loops (indexed or for-each)",
 		runBefore = ProcessVariables.class
 )
-public class LoopRegionVisitor extends AbstractVisitor implements IRegionVisitor {
+public class LoopRegionVisitor extends AbstractVisitor implements IRegionVisitor, IMethodLocalVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(LoopRegionVisitor.class);
 
 	@Override
@@ -45,6 +45,7 @@ import jadx.core.dex.trycatch.SplitterBlockAttr;
 import jadx.core.dex.trycatch.TryCatchBlock;
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.ErrorsCounter;
+import jadx.core.utils.ProcessTimeLimit;
 import jadx.core.utils.RegionUtils;
 import jadx.core.utils.exceptions.JadxOverflowException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
@@ -96,6 +97,9 @@ public class RegionMaker {
 			if (regionsCount > regionsLimit) {
 				throw new JadxOverflowException("Regions count limit reached");
 			}
+			if ((regionsCount & 0x3F) == 0) {
+				ProcessTimeLimit.check(mth);
+			}
 		}
 		return r;
 	}
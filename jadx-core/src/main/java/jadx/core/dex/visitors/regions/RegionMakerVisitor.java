@@ -25,6 +25,7 @@ import jadx.core.dex.regions.SwitchRegion;
 import jadx.core.dex.regions.SynchronizedRegion;
 import jadx.core.dex.regions.loops.LoopRegion;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.shrink.CodeShrinkVisitor;
 import jadx.core.utils.InsnRemover;
 import jadx.core.utils.RegionUtils;
@@ -33,7 +34,7 @@ import jadx.core.utils.exceptions.JadxException;
 /**
  * Pack blocks into regions for code generation
  */
-public class RegionMakerVisitor extends AbstractVisitor {
+public class RegionMakerVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(RegionMakerVisitor.class);
 
 	private static final IRegionVisitor POST_REGION_VISITOR = new PostRegionVisitor();
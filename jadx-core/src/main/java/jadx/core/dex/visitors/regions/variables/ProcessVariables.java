@@ -26,6 +26,7 @@ import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.regions.loops.LoopRegion;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.regions.AbstractRegionVisitor;
 import jadx.core.dex.visitors.regions.DepthRegionTraversal;
 import jadx.core.dex.visitors.typeinference.TypeCompare;
@@ -34,7 +35,7 @@ import jadx.core.utils.RegionUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxException;
 
-public class ProcessVariables extends AbstractVisitor {
+public class ProcessVariables extends AbstractVisitor implements IMethodLocalVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(ProcessVariables.class);
 
 	@Override
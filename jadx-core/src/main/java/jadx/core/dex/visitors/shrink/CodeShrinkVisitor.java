@@ -19,6 +19,7 @@ import jadx.core.dex.nodes.BlockNode;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.JadxVisitor;
 import jadx.core.dex.visitors.ModVisitor;
 import jadx.core.utils.BlockUtils;
@@ -32,7 +33,7 @@ import jadx.core.utils.exceptions.JadxRuntimeException;
 		desc = "Inline variables to make code smaller",
 		runAfter = { ModVisitor.class }
 )
-public class CodeShrinkVisitor extends AbstractVisitor {
+public class CodeShrinkVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) {
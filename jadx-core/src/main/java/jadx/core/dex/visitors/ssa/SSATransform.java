@@ -19,6 +19,7 @@ import jadx.core.dex.nodes.BlockNode;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.JadxVisitor;
 import jadx.core.dex.visitors.blocksmaker.BlockFinish;
 import jadx.core.utils.InsnList;
@@ -31,7 +32,7 @@ import jadx.core.utils.exceptions.JadxRuntimeException;
 		desc = "Calculate Single Side Assign (SSA) variables",
 		runAfter = BlockFinish.class
 )
-public class SSATransform extends AbstractVisitor {
+public class SSATransform extends AbstractVisitor implements IMethodLocalVisitor {
 
 	@Override
 	public void visit(MethodNode mth) throws JadxException {
@@ -45,6 +45,7 @@ import jadx.core.dex.trycatch.ExcHandlerAttr;
 import jadx.core.dex.visitors.AbstractVisitor;
 import jadx.core.dex.visitors.AttachMethodDetails;
 import jadx.core.dex.visitors.ConstInlineVisitor;
+import jadx.core.dex.visitors.IMethodLocalVisitor;
 import jadx.core.dex.visitors.InitCodeVariables;
 import jadx.core.dex.visitors.JadxVisitor;
 import jadx.core.dex.visitors.ModVisitor;
@@ -55,6 +56,7 @@ import jadx.core.utils.InsnList;
 import jadx.core.utils.InsnUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxOverflowException;
+import jadx.core.utils.exceptions.JadxTimeoutException;
 
 @JadxVisitor(
 		name = "Type Inference",
@@ -65,7 +67,7 @@ import jadx.core.utils.exceptions.JadxOverflowException;
 				AttachMethodDetails.class
 		}
 )
-public final class TypeInferenceVisitor extends AbstractVisitor {
+public final class TypeInferenceVisitor extends AbstractVisitor implements IMethodLocalVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(TypeInferenceVisitor.class);
 
 	private RootNode root;
@@ -157,6 +159,8 @@ public final class TypeInferenceVisitor extends AbstractVisitor {
 				}
 			}
 			return true;
+		} catch (JadxTimeoutException e) {
+			throw e;
 		} catch (Exception e) {
 			mth.addWarnComment("Multi-variable type inference failed. Error: " + Utils.getStackTrace(e));
 			return false;
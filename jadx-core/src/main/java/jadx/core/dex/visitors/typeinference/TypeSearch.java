@@ -21,6 +21,7 @@ import jadx.core.dex.instructions.args.RegisterArg;
 import jadx.core.dex.instructions.args.SSAVar;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.ProcessTimeLimit;
 
 /**
  * Slow and memory consuming multi-variable type search algorithm.
@@ -151,6 +152,9 @@ public class TypeSearch {
 				}
 			}
 			n++;
+			if ((n & 0xFFF) == 0) {
+				ProcessTimeLimit.check(mth);
+			}
 			if (n > SEARCH_ITERATION_LIMIT) {
 				if (Consts.DEBUG_TYPE_INFERENCE) {
 					LOG.debug(" > iterations limit reached: {}", SEARCH_ITERATION_LIMIT);
@@ -27,6 +27,9 @@ public class UsageInfoVisitor extends AbstractVisitor {
 
 	@Override
 	public void init(RootNode root) {
+		if (root.getSnapshot().restoreUsage()) {
+			return;
+		}
 		UsageInfo usageInfo = new UsageInfo(root);
 		for (ClassNode cls : root.getClasses()) {
 			processClass(cls, usageInfo);
@@ -86,7 +89,7 @@ public class UsageInfoVisitor extends AbstractVisitor {
 		switch (insnData.getIndexType()) {
 			case TYPE_REF:
 				insnData.decode();
-				ArgType usedType = ArgType.parse(insnData.getIndexAsType());
+				ArgType usedType = root.getInfoStorage().getType(insnData.getIndexAsType());
 				usageInfo.clsUse(mth, usedType);
 				break;
 
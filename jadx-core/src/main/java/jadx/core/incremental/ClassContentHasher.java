@@ -0,0 +1,271 @@
+package jadx.core.incremental;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.plugins.input.data.ICatch;
+import jadx.api.plugins.input.data.IClassData;
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.api.plugins.input.data.IDebugInfo;
+import jadx.api.plugins.input.data.IFieldData;
+import jadx.api.plugins.input.data.ILocalVar;
+import jadx.api.plugins.input.data.IMethodData;
+import jadx.api.plugins.input.data.IMethodRef;
+import jadx.api.plugins.input.data.ITry;
+import jadx.api.plugins.input.data.annotations.IAnnotation;
+import jadx.api.plugins.input.insns.InsnData;
+import jadx.api.plugins.input.insns.Opcode;
+import jadx.api.plugins.input.insns.custom.IArrayPayload;
+import jadx.api.plugins.input.insns.custom.ICustomPayload;
+import jadx.api.plugins.input.insns.custom.ISwitchPayload;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Hash class content with all references resolved to names,
+ * so result don't depend on class position and indexes in input file.
+ * Inner classes included into hash of parent class.
+ */
+final class ClassContentHasher {
+
+	private final MessageDigest md;
+	private final byte[] buf = new byte[8];
+
+	ClassContentHasher() {
+		try {
+			md = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new JadxRuntimeException("SHA-1 not available", e);
+		}
+	}
+
+	byte[] hash(ClassNode cls) {
+		try {
+			addClass(cls);
+			return md.digest();
+		} finally {
+			md.reset();
+		}
+	}
+
+	private void addClass(ClassNode cls) {
+		writeUTF(cls.getRawName());
+		IClassData clsData = cls.getClsData();
+		if (clsData != null) {
+			addClassData(clsData.copy());
+		}
+		List<ClassNode> innerClasses = cls.getInnerClasses();
+		writeInt(innerClasses.size());
+		for (ClassNode innerCls : innerClasses) {
+			addClass(innerCls);
+		}
+	}
+
+	private void addClassData(IClassData cls) {
+		writeInt(cls.getAccessFlags());
+		writeNullable(cls.getSuperType());
+		writeList(cls.getInterfacesTypes());
+		writeNullable(cls.getSourceFile());
+		addAnnotations(cls.getAnnotations());
+		writeList(cls.getStaticFieldInitValues());
+		cls.visitFieldsAndMethods(this::addField, this::addMethod);
+	}
+
+	private void addField(IFieldData field) {
+		writeByte('F');
+		writeUTF(field.getName());
+		writeUTF(field.getType());
+		writeInt(field.getAccessFlags());
+		addAnnotations(field.getAnnotations());
+	}
+
+	private void addMethod(IMethodData mth) {
+		writeByte('M');
+		addMethodRef(mth.getMethodRef());
+		writeInt(mth.getAccessFlags());
+		addAnnotations(mth.getAnnotations());
+		List<List<IAnnotation>> paramsAnnotations = mth.getParamsAnnotations();
+		writeInt(paramsAnnotations.size());
+		for (List<IAnnotation> paramAnnotations : paramsAnnotations) {
+			addAnnotations(paramAnnotations);
+		}
+		ICodeReader codeReader = mth.getCodeReader();
+		if (codeReader != null) {
+			addCode(codeReader);
+		}
+	}
+
+	private void addCode(ICodeReader codeReader) {
+		writeInt(codeReader.getRegistersCount());
+		writeInt(codeReader.getInsnsCount());
+		codeReader.visitInstructions(this::addInsn);
+		for (ITry tryData : codeReader.getTries()) {
+			writeInt(tryData.getStartAddress());
+			writeInt(tryData.getInstructionCount());
+			ICatch catchData = tryData.getCatch();
+			writeList(Arrays.asList(catchData.getTypes()));
+			writeInts(catchData.getAddresses());
+			writeInt(catchData.getCatchAllAddress());
+		}
+		IDebugInfo debugInfo = codeReader.getDebugInfo();
+		if (debugInfo != null) {
+			for (Map.Entry<Integer, Integer> entry : debugInfo.getSourceLineMapping().entrySet()) {
+				writeInt(entry.getKey());
+				writeInt(entry.getValue());
+			}
+			for (ILocalVar localVar : debugInfo.getLocalVars()) {
+				writeNullable(localVar.getName());
+				writeNullable(localVar.getType());
+				writeNullable(localVar.getSignature());
+				writeInt(localVar.getRegNum());
+				writeInt(localVar.getStartOffset());
+				writeInt(localVar.getEndOffset());
+			}
+		}
+	}
+
+	private void addInsn(InsnData insn) {
+		insn.decode();
+		Opcode opcode = insn.getOpcode();
+		writeInt(insn.getOffset());
+		writeInt(opcode.ordinal());
+		int regsCount = insn.getRegsCount();
+		for (int i = 0; i < regsCount; i++) {
+			writeInt(insn.getReg(i));
+		}
+		writeLong(insn.getLiteral());
+		writeInt(insn.getTarget());
+		if (opcode == Opcode.INVOKE_CUSTOM || opcode == Opcode.INVOKE_CUSTOM_RANGE) {
+			writeUTF(insn.getIndexAsCallSite().toString());
+		} else {
+			switch (insn.getIndexType()) {
+				case TYPE_REF:
+					writeUTF(insn.getIndexAsType());
+					break;
+				case STRING_REF:
+					writeUTF(insn.getIndexAsString());
+					break;
+				case FIELD_REF:
+					IFieldData field = insn.getIndexAsField();
+					writeUTF(field.getParentClassType());
+					writeUTF(field.getName());
+					writeUTF(field.getType());
+					break;
+				case METHOD_REF:
+					addMethodRef(insn.getIndexAsMethod());
+					break;
+				default:
+					break;
+			}
+		}
+		addPayload(insn.getPayload());
+	}
+
+	private void addPayload(@Nullable ICustomPayload payload) {
+		if (payload instanceof ISwitchPayload) {
+			ISwitchPayload switchPayload = (ISwitchPayload) payload;
+			writeInts(switchPayload.getKeys());
+			writeInts(switchPayload.getTargets());
+		} else if (payload instanceof IArrayPayload) {
+			IArrayPayload arrayPayload = (IArrayPayload) payload;
+			writeInt(arrayPayload.getElementSize());
+			Object data = arrayPayload.getData();
+			if (data instanceof byte[]) {
+				md.update((byte[]) data);
+			} else if (data instanceof short[]) {
+				for (short v : (short[]) data) {
+					writeShort(v);
+				}
+			} else if (data instanceof int[]) {
+				writeInts((int[]) data);
+			} else if (data instanceof long[]) {
+				for (long v : (long[]) data) {
+					writeLong(v);
+				}
+			} else {
+				writeUTF(String.valueOf(data));
+			}
+		}
+	}
+
+	private void addMethodRef(IMethodRef mthRef) {
+		mthRef.load();
+		writeUTF(mthRef.getParentClassType());
+		writeUTF(mthRef.getName());
+		writeUTF(mthRef.getReturnType());
+		writeList(mthRef.getArgTypes());
+	}
+
+	private void addAnnotations(List<IAnnotation> annotations) {
+		writeInt(annotations.size());
+		for (IAnnotation annotation : annotations) {
+			writeUTF(String.valueOf(annotation.getVisibility()));
+			writeUTF(annotation.getAnnotationClass());
+			writeUTF(String.valueOf(annotation.getValues()));
+		}
+	}
+
+	private void writeList(List<?> list) {
+		writeInt(list.size());
+		for (Object obj : list) {
+			writeUTF(String.valueOf(obj));
+		}
+	}
+
+	private void writeInts(int[] arr) {
+		writeInt(arr.length);
+		for (int v : arr) {
+			writeInt(v);
+		}
+	}
+
+	private void writeNullable(@Nullable String str) {
+		if (str == null) {
+			writeBoolean(false);
+		} else {
+			writeBoolean(true);
+			writeUTF(str);
+		}
+	}
+
+	private void writeUTF(String str) {
+		byte[] strBytes = str.getBytes(StandardCharsets.UTF_8);
+		writeInt(strBytes.length);
+		md.update(strBytes);
+	}
+
+	private void writeBoolean(boolean value) {
+		md.update(value ? (byte) 1 : (byte) 0);
+	}
+
+	private void writeByte(int value) {
+		md.update((byte) value);
+	}
+
+	private void writeShort(int value) {
+		buf[0] = (byte) (value >>> 8);
+		buf[1] = (byte) value;
+		md.update(buf, 0, 2);
+	}
+
+	private void writeInt(int value) {
+		buf[0] = (byte) (value >>> 24);
+		buf[1] = (byte) (value >>> 16);
+		buf[2] = (byte) (value >>> 8);
+		buf[3] = (byte) value;
+		md.update(buf, 0, 4);
+	}
+
+	private void writeLong(long value) {
+		for (int i = 0; i < 8; i++) {
+			buf[i] = (byte) (value >>> (56 - i * 8));
+		}
+		md.update(buf, 0, 8);
+	}
+}
@@ -0,0 +1,310 @@
+package jadx.core.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JadxArgs;
+import jadx.core.Jadx;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.visitors.SaveCode;
+import jadx.core.utils.exceptions.DecodeException;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Skip save of classes not changed since previous run into same output directory.
+ * <p>
+ * Manifest file stored next to output directory and contains output file name
+ * and hash for every saved class. Hash built from content of class and its dependencies
+ * (see {@link ClassNode#getDependencies()}) and their names after renaming.
+ * Class generated again only if hash changed or output file missing.
+ * Files of removed classes deleted in {@link #finish()}.
+ */
+public class IncrementalSave {
+	private static final Logger LOG = LoggerFactory.getLogger(IncrementalSave.class);
+
+	private static final String MANIFEST_HEADER = "jadx-inc";
+	private static final int VERSION = 1;
+	private static final String MANIFEST_EXT = ".jadx-manifest";
+
+	private static final class Entry {
+		private final String fileName;
+		private final byte[] hash;
+
+		private Entry(String fileName, byte[] hash) {
+			this.fileName = fileName;
+			this.hash = hash;
+		}
+	}
+
+	private final RootNode root;
+	private final File outDir;
+	private final File manifestFile;
+
+	private Map<String, Entry> prevEntries = Collections.emptyMap();
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<ClassNode, byte[]> contentHashes = new ConcurrentHashMap<>();
+	private final AtomicInteger skippedCount = new AtomicInteger();
+
+	public IncrementalSave(RootNode root, File outDir) {
+		this.root = root;
+		this.outDir = outDir;
+		File absOutDir = outDir.getAbsoluteFile();
+		this.manifestFile = new File(absOutDir.getParentFile(), absOutDir.getName() + MANIFEST_EXT);
+		load();
+	}
+
+	/**
+	 * Hash of class and its dependencies, thread safe
+	 */
+	public byte[] getClassKey(ClassNode cls) {
+		MessageDigest md = newDigest();
+		addClassKey(md, cls);
+		List<ClassNode> deps = new ArrayList<>(cls.getDependencies());
+		deps.sort(Comparator.comparing(ClassNode::getRawName));
+		for (ClassNode dep : deps) {
+			addClassKey(md, dep);
+		}
+		return md.digest();
+	}
+
+	/**
+	 * Check if output file of class from previous run can be reused.
+	 * If so, class recorded in new manifest.
+	 */
+	public boolean isUpToDate(ClassNode cls, byte[] key) {
+		String clsName = cls.getRawName();
+		Entry prev = prevEntries.get(clsName);
+		if (prev == null || !Arrays.equals(prev.hash, key)) {
+			return false;
+		}
+		String fileName = SaveCode.getFileName(cls);
+		if (!prev.fileName.equals(fileName) || !new File(outDir, fileName).exists()) {
+			return false;
+		}
+		entries.put(clsName, prev);
+		skippedCount.incrementAndGet();
+		return true;
+	}
+
+	public void markSaved(ClassNode cls, byte[] key) {
+		entries.put(cls.getRawName(), new Entry(SaveCode.getFileName(cls), key));
+	}
+
+	/**
+	 * Remove stale files and save manifest. Must be called after all classes saved.
+	 */
+	public void finish() {
+		Map<String, Entry> newEntries = new HashMap<>(entries);
+		Set<String> usedFiles = new HashSet<>();
+		for (Entry entry : newEntries.values()) {
+			usedFiles.add(entry.fileName);
+		}
+		Set<String> presentClasses = collectPresentClasses();
+		int deleted = 0;
+		for (Map.Entry<String, Entry> mapEntry : prevEntries.entrySet()) {
+			String clsName = mapEntry.getKey();
+			Entry prev = mapEntry.getValue();
+			if (newEntries.containsKey(clsName)) {
+				Entry cur = newEntries.get(clsName);
+				if (!cur.fileName.equals(prev.fileName) && !usedFiles.contains(prev.fileName)) {
+					deleted += deleteFile(prev.fileName);
+				}
+				continue;
+			}
+			if (presentClasses.contains(clsName)) {
+				// not saved in this run (filtered or failed), keep previous output
+				newEntries.put(clsName, prev);
+				usedFiles.add(prev.fileName);
+			} else if (!usedFiles.contains(prev.fileName)) {
+				deleted += deleteFile(prev.fileName);
+			}
+		}
+		save(newEntries);
+		LOG.info("Incremental save: {} classes unchanged, {} saved, {} stale files removed",
+				skippedCount.get(), entries.size() - skippedCount.get(), deleted);
+	}
+
+	private Set<String> collectPresentClasses() {
+		Set<String> set = new HashSet<>();
+		for (ClassNode cls : root.getClasses()) {
+			if (!cls.contains(AFlag.DONT_GENERATE)) {
+				set.add(cls.getRawName());
+			}
+		}
+		return set;
+	}
+
+	private int deleteFile(String fileName) {
+		File file = new File(outDir, fileName);
+		try {
+			if (Files.deleteIfExists(file.toPath())) {
+				return 1;
+			}
+		} catch (Exception e) {
+			LOG.warn("Failed to delete stale file: {}", file, e);
+		}
+		return 0;
+	}
+
+	private void addClassKey(MessageDigest md, ClassNode cls) {
+		md.update(getContentHash(cls));
+		addString(md, cls.getClassInfo().getAliasFullName());
+		for (FieldNode fld : cls.getFields()) {
+			addString(md, fld.getAlias());
+		}
+		for (MethodNode mth : cls.getMethods()) {
+			addString(md, mth.getAlias());
+		}
+	}
+
+	private byte[] getContentHash(ClassNode cls) {
+		byte[] hash = contentHashes.get(cls);
+		if (hash == null) {
+			hash = new ClassContentHasher().hash(cls);
+			contentHashes.put(cls, hash);
+		}
+		return hash;
+	}
+
+	private static void addString(MessageDigest md, String str) {
+		md.update(str.getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new JadxRuntimeException("SHA-1 not available", e);
+		}
+	}
+
+	private void load() {
+		if (!manifestFile.exists()) {
+			return;
+		}
+		try (InputStream input = Files.newInputStream(manifestFile.toPath())) {
+			prevEntries = load(input);
+			LOG.debug("Incremental manifest loaded: {}, classes: {}", manifestFile, prevEntries.size());
+		} catch (Exception e) {
+			LOG.info("Incremental manifest ignored: {}, reason: {}", manifestFile, e.getMessage());
+		}
+	}
+
+	private Map<String, Entry> load(InputStream input) throws IOException, DecodeException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+		byte[] header = new byte[MANIFEST_HEADER.length()];
+		in.readFully(header);
+		int version = in.readByte();
+		if (!MANIFEST_HEADER.equals(new String(header, StandardCharsets.US_ASCII)) || version != VERSION) {
+			throw new DecodeException("Unknown manifest format");
+		}
+		if (!in.readUTF().equals(buildOptionsKey(root.getArgs()))) {
+			throw new DecodeException("Jadx version or options changed");
+		}
+		int count = in.readInt();
+		Map<String, Entry> map = new HashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			String clsName = in.readUTF();
+			String fileName = in.readUTF();
+			byte[] hash = new byte[in.readUnsignedByte()];
+			in.readFully(hash);
+			map.put(clsName, new Entry(fileName, hash));
+		}
+		return map;
+	}
+
+	private void save(Map<String, Entry> map) {
+		try {
+			Path path = manifestFile.toPath();
+			FileUtils.makeDirsForFile(path);
+			Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmpPath))) {
+				save(out, map);
+			}
+			Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+		} catch (Exception e) {
+			LOG.error("Failed to save incremental manifest: {}", manifestFile, e);
+		}
+	}
+
+	private void save(OutputStream output, Map<String, Entry> map) throws IOException {
+		DataOutputStream out = new DataOutputStream(output);
+		out.write(MANIFEST_HEADER.getBytes(StandardCharsets.US_ASCII));
+		out.writeByte(VERSION);
+		out.writeUTF(buildOptionsKey(root.getArgs()));
+		out.writeInt(map.size());
+		for (Map.Entry<String, Entry> mapEntry : map.entrySet()) {
+			Entry entry = mapEntry.getValue();
+			out.writeUTF(mapEntry.getKey());
+			out.writeUTF(entry.fileName);
+			out.writeByte(entry.hash.length);
+			out.write(entry.hash);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Previous output can be reused only with same jadx version and options affecting generated code
+	 */
+	private static String buildOptionsKey(JadxArgs args) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(Jadx.getVersion());
+		sb.append(':').append(args.isFallbackMode());
+		sb.append(':').append(args.isShowInconsistentCode());
+		sb.append(':').append(args.isUseImports());
+		sb.append(':').append(args.isDebugInfo());
+		sb.append(':').append(args.isInsertDebugLines());
+		sb.append(':').append(args.isInlineAnonymousClasses());
+		sb.append(':').append(args.isDeobfuscationOn());
+		sb.append(':').append(args.getDeobfuscationMinLength());
+		sb.append(':').append(args.getDeobfuscationMaxLength());
+		sb.append(':').append(args.isUseSourceNameAsClassAlias());
+		sb.append(':').append(args.isParseKotlinMetadata());
+		sb.append(':').append(args.isEscapeUnicode());
+		sb.append(':').append(args.isReplaceConsts());
+		sb.append(':').append(args.isRespectBytecodeAccModifiers());
+		sb.append(':').append(args.isFsCaseSensitive());
+		sb.append(':').append(args.getRenameFlags());
+		sb.append(':').append(args.getOutputFormat());
+		sb.append(':').append(args.getMethodTimeLimit());
+		sb.append(':').append(args.getClassTimeLimit());
+		for (File file : args.getClasspathFiles()) {
+			sb.append(':').append(file.getAbsolutePath())
+					.append(':').append(file.length())
+					.append(':').append(file.lastModified());
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,408 @@
+package jadx.core.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JadxArgs;
+import jadx.api.ResourceFile;
+import jadx.core.Jadx;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.exceptions.DecodeException;
+import jadx.core.utils.files.FileUtils;
+import jadx.core.xmlgen.ResourceStorage;
+import jadx.core.xmlgen.entry.ResourceEntry;
+
+/**
+ * Results of load and pre-decompile stages saved to file for fast reload of unchanged input files.
+ * <p>
+ * Contains resource table names (used for constants replace and obfuscated files renaming)
+ * and usage info (class dependencies and use places of classes, methods and fields).
+ * Snapshot used only if input files, jadx version, load options and loaded classes list are same.
+ */
+public class PreDecompileSnapshot {
+	private static final Logger LOG = LoggerFactory.getLogger(PreDecompileSnapshot.class);
+
+	private static final String SNAPSHOT_HEADER = "jadx-snp";
+	private static final int VERSION = 2;
+
+	private final RootNode root;
+	@Nullable
+	private final File file;
+
+	private boolean loaded;
+	private boolean changed;
+
+	// resources data, null if resource table not found
+	@Nullable
+	private ResourceStorage resStorage;
+	private Map<String, String> resFilesAliases = Collections.emptyMap();
+
+	// usage data, classes in same order as in root
+	private List<String> clsNames = Collections.emptyList();
+	private byte[] usageData;
+
+	public PreDecompileSnapshot(RootNode root) {
+		this.root = root;
+		this.file = root.getArgs().getSnapshotFile();
+	}
+
+	public void load() {
+		if (file == null || !file.exists()) {
+			changed = true;
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try (InputStream input = Files.newInputStream(file.toPath())) {
+			load(input);
+			loaded = true;
+			LOG.debug("Snapshot loaded in {}ms from: {}", System.currentTimeMillis() - start, file);
+		} catch (Exception e) {
+			LOG.info("Snapshot file ignored: {}, reason: {}", file, e.getMessage());
+			changed = true;
+		}
+	}
+
+	/**
+	 * @return true if resource table names restored from snapshot
+	 */
+	public boolean restoreResources(List<ResourceFile> resources) {
+		if (!loaded) {
+			return false;
+		}
+		if (resStorage != null) {
+			root.processResources(resStorage);
+			if (!root.getArgs().isSkipResources()) {
+				for (ResourceFile resource : resources) {
+					String alias = resFilesAliases.get(resource.getOriginalName());
+					if (alias != null) {
+						resource.setDeobfName(alias);
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	public void collectResources(ResourceStorage storage, List<ResourceFile> resources) {
+		changed = true;
+		ResourceStorage namesStorage = new ResourceStorage();
+		namesStorage.setAppPackage(storage.getAppPackage());
+		for (ResourceEntry entry : storage.getResources()) {
+			namesStorage.add(new ResourceEntry(entry.getId(), entry.getPkgName(), entry.getTypeName(), entry.getKeyName(),
+					entry.getConfig()));
+		}
+		namesStorage.finish();
+		this.resStorage = namesStorage;
+
+		Map<String, String> aliases = new HashMap<>();
+		for (ResourceFile resource : resources) {
+			String deobfName = resource.getDeobfName();
+			if (!deobfName.equals(resource.getOriginalName())) {
+				aliases.put(resource.getOriginalName(), deobfName);
+			}
+		}
+		this.resFilesAliases = aliases;
+	}
+
+	/**
+	 * @return true if usage info restored from snapshot
+	 */
+	public boolean restoreUsage() {
+		if (!loaded || usageData == null) {
+			return false;
+		}
+		List<ClassNode> classes = root.getClasses();
+		if (!checkClassesList(classes)) {
+			LOG.info("Snapshot usage info ignored: classes list changed");
+			changed = true;
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(usageData))) {
+			ClassNode[] clsArr = classes.toArray(new ClassNode[0]);
+			for (ClassNode cls : clsArr) {
+				if (in.readInt() != cls.getMethods().size() || in.readInt() != cls.getFields().size()) {
+					throw new DecodeException("Class members count changed: " + cls);
+				}
+			}
+			for (ClassNode cls : clsArr) {
+				cls.setDependencies(readClassList(in, clsArr));
+				cls.setUseIn(readClassList(in, clsArr));
+				cls.setUseInMth(readMethodList(in, clsArr));
+				for (MethodNode mth : cls.getMethods()) {
+					mth.setUseIn(readMethodList(in, clsArr));
+				}
+				for (FieldNode fld : cls.getFields()) {
+					fld.setUseIn(readMethodList(in, clsArr));
+				}
+			}
+			return true;
+		} catch (Exception e) {
+			LOG.warn("Failed to restore usage info from snapshot", e);
+			changed = true;
+			return false;
+		} finally {
+			usageData = null;
+		}
+	}
+
+	private boolean checkClassesList(List<ClassNode> classes) {
+		int count = classes.size();
+		if (count != clsNames.size()) {
+			return false;
+		}
+		for (int i = 0; i < count; i++) {
+			if (!classes.get(i).getRawName().equals(clsNames.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void save() {
+		if (file == null || !changed) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			Path path = file.toPath().toAbsolutePath();
+			FileUtils.makeDirsForFile(path);
+			Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmpPath))) {
+				save(out);
+			}
+			Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+			LOG.debug("Snapshot saved in {}ms to: {}", System.currentTimeMillis() - start, file);
+		} catch (Exception e) {
+			LOG.error("Failed to save snapshot to file: {}", file, e);
+		}
+	}
+
+	private void save(OutputStream output) throws IOException {
+		DataOutputStream out = new DataOutputStream(output);
+		out.write(SNAPSHOT_HEADER.getBytes(StandardCharsets.US_ASCII));
+		out.writeByte(VERSION);
+		writeLongString(out, buildInputsKey(root.getArgs()));
+
+		if (resStorage == null) {
+			out.writeBoolean(false);
+		} else {
+			out.writeBoolean(true);
+			writeNullableString(out, resStorage.getAppPackage());
+			List<ResourceEntry> entries = new ArrayList<>();
+			resStorage.getResources().forEach(entries::add);
+			out.writeInt(entries.size());
+			for (ResourceEntry entry : entries) {
+				out.writeInt(entry.getId());
+				writeNullableString(out, entry.getPkgName());
+				writeNullableString(out, entry.getTypeName());
+				writeNullableString(out, entry.getKeyName());
+				writeNullableString(out, entry.getConfig());
+			}
+			out.writeInt(resFilesAliases.size());
+			for (Map.Entry<String, String> entry : resFilesAliases.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeUTF(entry.getValue());
+			}
+		}
+
+		List<ClassNode> classes = root.getClasses();
+		Map<ClassNode, Integer> clsIds = new IdentityHashMap<>(classes.size());
+		Map<MethodNode, Integer> mthIds = new IdentityHashMap<>();
+		out.writeInt(classes.size());
+		for (ClassNode cls : classes) {
+			clsIds.put(cls, clsIds.size());
+			out.writeUTF(cls.getRawName());
+			List<MethodNode> methods = cls.getMethods();
+			for (int i = 0; i < methods.size(); i++) {
+				mthIds.put(methods.get(i), i);
+			}
+		}
+		for (ClassNode cls : classes) {
+			out.writeInt(cls.getMethods().size());
+			out.writeInt(cls.getFields().size());
+		}
+		for (ClassNode cls : classes) {
+			writeClassList(out, cls.getDependencies(), clsIds);
+			writeClassList(out, cls.getUseIn(), clsIds);
+			writeMethodList(out, cls.getUseInMth(), clsIds, mthIds);
+			for (MethodNode mth : cls.getMethods()) {
+				writeMethodList(out, mth.getUseIn(), clsIds, mthIds);
+			}
+			for (FieldNode fld : cls.getFields()) {
+				writeMethodList(out, fld.getUseIn(), clsIds, mthIds);
+			}
+		}
+		out.flush();
+	}
+
+	private void load(InputStream input) throws IOException, DecodeException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+		byte[] header = new byte[SNAPSHOT_HEADER.length()];
+		in.readFully(header);
+		int version = in.readByte();
+		if (!SNAPSHOT_HEADER.equals(new String(header, StandardCharsets.US_ASCII)) || version != VERSION) {
+			throw new DecodeException("Unknown snapshot format");
+		}
+		if (!readLongString(in).equals(buildInputsKey(root.getArgs()))) {
+			throw new DecodeException("Input files changed");
+		}
+		if (in.readBoolean()) {
+			ResourceStorage storage = new ResourceStorage();
+			storage.setAppPackage(readNullableString(in));
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				int id = in.readInt();
+				String pkgName = readNullableString(in);
+				String typeName = readNullableString(in);
+				String keyName = readNullableString(in);
+				String config = readNullableString(in);
+				storage.add(new ResourceEntry(id, pkgName, typeName, keyName, config));
+			}
+			storage.finish();
+			int aliasesCount = in.readInt();
+			Map<String, String> aliases = new HashMap<>(aliasesCount);
+			for (int i = 0; i < aliasesCount; i++) {
+				aliases.put(in.readUTF(), in.readUTF());
+			}
+			this.resStorage = storage;
+			this.resFilesAliases = aliases;
+		}
+		int clsCount = in.readInt();
+		List<String> names = new ArrayList<>(clsCount);
+		for (int i = 0; i < clsCount; i++) {
+			names.add(in.readUTF());
+		}
+		this.clsNames = names;
+		// usage data decoded later, after all classes added
+		this.usageData = FileUtils.streamToByteArray(in);
+	}
+
+	/**
+	 * Snapshot valid only for same input files, jadx version and options affecting load stages results
+	 */
+	private static String buildInputsKey(JadxArgs args) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(Jadx.getVersion());
+		sb.append(':').append(args.isSkipResources());
+		sb.append(':').append(args.isDeobfuscationOn());
+		sb.append(':').append(args.getDeobfuscationMinLength());
+		sb.append(':').append(args.getDeobfuscationMaxLength());
+		sb.append(':').append(args.isUseSourceNameAsClassAlias());
+		Set<JadxArgs.RenameEnum> renameFlags = args.getRenameFlags();
+		for (JadxArgs.RenameEnum flag : JadxArgs.RenameEnum.values()) {
+			sb.append(':').append(renameFlags.contains(flag));
+		}
+		appendFiles(sb, args.getInputFiles());
+		sb.append(":cp");
+		appendFiles(sb, args.getClasspathFiles());
+		return sb.toString();
+	}
+
+	private static void appendFiles(StringBuilder sb, List<File> files) {
+		for (File file : files) {
+			sb.append(':').append(file.getAbsolutePath())
+					.append(':').append(file.length())
+					.append(':').append(file.lastModified());
+		}
+	}
+
+	private static void writeClassList(DataOutputStream out, List<ClassNode> list, Map<ClassNode, Integer> clsIds)
+			throws IOException {
+		out.writeInt(list.size());
+		for (ClassNode cls : list) {
+			out.writeInt(clsIds.get(cls));
+		}
+	}
+
+	private static List<ClassNode> readClassList(DataInputStream in, ClassNode[] classes) throws IOException {
+		int size = in.readInt();
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+		List<ClassNode> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(classes[in.readInt()]);
+		}
+		Collections.sort(list); // aliases can be changed
+		return list;
+	}
+
+	private static void writeMethodList(DataOutputStream out, List<MethodNode> list,
+			Map<ClassNode, Integer> clsIds, Map<MethodNode, Integer> mthIds) throws IOException {
+		out.writeInt(list.size());
+		for (MethodNode mth : list) {
+			out.writeInt(clsIds.get(mth.getParentClass()));
+			out.writeInt(mthIds.get(mth));
+		}
+	}
+
+	private static List<MethodNode> readMethodList(DataInputStream in, ClassNode[] classes) throws IOException {
+		int size = in.readInt();
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+		List<MethodNode> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			ClassNode cls = classes[in.readInt()];
+			list.add(cls.getMethods().get(in.readInt()));
+		}
+		Collections.sort(list);
+		return list;
+	}
+
+	/**
+	 * Length-prefixed UTF-8 string without 64KB limit of {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static void writeLongString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readLongString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Invalid string length: " + length);
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeNullableString(DataOutputStream out, @Nullable String str) throws IOException {
+		out.writeBoolean(str != null);
+		if (str != null) {
+			out.writeUTF(str);
+		}
+	}
+
+	@Nullable
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
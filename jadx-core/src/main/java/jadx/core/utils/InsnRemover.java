@@ -1,8 +1,10 @@
 package jadx.core.utils;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.Nullable;
@@ -161,23 +163,57 @@ public class InsnRemover {
 		if (toRemove == null || toRemove.isEmpty()) {
 			return;
 		}
+		if (toRemove.size() == 1) {
+			removeOne(insns, toRemove.get(0));
+			return;
+		}
+		// single pass removing, remove first occurrence of every instruction from 'toRemove' list
+		Map<InsnNode, int[]> removeCounts = new IdentityHashMap<>(toRemove.size());
 		for (InsnNode rem : toRemove) {
-			int insnsCount = insns.size();
-			boolean found = false;
-			for (int i = 0; i < insnsCount; i++) {
-				if (insns.get(i) == rem) {
-					insns.remove(i);
-					found = true;
-					break;
+			removeCounts.computeIfAbsent(rem, k -> new int[1])[0]++;
+		}
+		int insnsCount = insns.size();
+		int removed = 0;
+		for (int i = 0; i < insnsCount; i++) {
+			InsnNode insn = insns.get(i);
+			int[] count = removeCounts.get(insn);
+			if (count != null && count[0] > 0) {
+				count[0]--;
+				removed++;
+			} else if (removed != 0) {
+				insns.set(i - removed, insn);
+			}
+		}
+		if (removed != 0) {
+			insns.subList(insnsCount - removed, insnsCount).clear();
+		}
+		if (removed != toRemove.size() && Consts.DEBUG_WITH_ERRORS) {
+			for (Map.Entry<InsnNode, int[]> entry : removeCounts.entrySet()) {
+				if (entry.getValue()[0] != 0) {
+					throw notFoundError(insns, entry.getKey());
 				}
 			}
-			if (!found && Consts.DEBUG_WITH_ERRORS) {
-				throw new JadxRuntimeException("Can't remove insn:"
-						+ ICodeWriter.NL + "  " + rem
-						+ ICodeWriter.NL + " not found in list:"
-						+ ICodeWriter.NL + "  " + Utils.listToString(insns, ICodeWriter.NL + "  "));
+		}
+	}
+
+	private static void removeOne(List<InsnNode> insns, InsnNode rem) {
+		int insnsCount = insns.size();
+		for (int i = 0; i < insnsCount; i++) {
+			if (insns.get(i) == rem) {
+				insns.remove(i);
+				return;
 			}
 		}
+		if (Consts.DEBUG_WITH_ERRORS) {
+			throw notFoundError(insns, rem);
+		}
+	}
+
+	private static JadxRuntimeException notFoundError(List<InsnNode> insns, InsnNode rem) {
+		return new JadxRuntimeException("Can't remove insn:"
+				+ ICodeWriter.NL + "  " + rem
+				+ ICodeWriter.NL + " not found in list:"
+				+ ICodeWriter.NL + "  " + Utils.listToString(insns, ICodeWriter.NL + "  "));
 	}
 
 	public static void remove(MethodNode mth, InsnNode insn) {
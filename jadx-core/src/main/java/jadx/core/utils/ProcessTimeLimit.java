@@ -0,0 +1,88 @@
+package jadx.core.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.exceptions.JadxTimeoutException;
+
+/**
+ * Cooperative CPU time limits for method and class processing
+ * (set by {@link JadxArgs#setMethodTimeLimit(int)} and {@link JadxArgs#setClassTimeLimit(int)}).
+ * <p>
+ * Time spent in passes accumulated in method node, heavy passes should call {@link #check(MethodNode)}
+ * inside long loops. On limit exceed {@link JadxTimeoutException} thrown
+ * and method code will be dumped in fallback mode.
+ */
+public final class ProcessTimeLimit {
+
+	@Nullable
+	private static final ThreadMXBean THREAD_MX_BEAN = initThreadMXBean();
+
+	private ProcessTimeLimit() {
+	}
+
+	/**
+	 * Current thread CPU time in nanoseconds (or wall clock time if CPU time not supported)
+	 */
+	public static long currentTime() {
+		ThreadMXBean bean = THREAD_MX_BEAN;
+		if (bean != null) {
+			return bean.getCurrentThreadCpuTime();
+		}
+		return System.nanoTime();
+	}
+
+	public static boolean isEnabled(JadxArgs args) {
+		return args.getMethodTimeLimit() > 0 || args.getClassTimeLimit() > 0;
+	}
+
+	/**
+	 * Throw {@link JadxTimeoutException} if method or its top class processing time limit exceeded.
+	 */
+	public static void check(MethodNode mth) {
+		JadxArgs args = mth.root().getArgs();
+		int mthLimit = args.getMethodTimeLimit();
+		int clsLimit = args.getClassTimeLimit();
+		if (mthLimit <= 0 && clsLimit <= 0) {
+			return;
+		}
+		long now = currentTime();
+		if (mthLimit > 0) {
+			long mthTime = mth.getProcessTime(now);
+			if (mthTime > TimeUnit.MILLISECONDS.toNanos(mthLimit)) {
+				throw new JadxTimeoutException("Method processing time limit exceeded: "
+						+ TimeUnit.NANOSECONDS.toMillis(mthTime) + "ms (limit: " + mthLimit + "ms)");
+			}
+		}
+		if (clsLimit > 0) {
+			ClassNode topCls = mth.getParentClass().getTopParentClass();
+			long clsTime = topCls.getProcessTime(now);
+			if (clsTime > TimeUnit.MILLISECONDS.toNanos(clsLimit)) {
+				throw new JadxTimeoutException("Class processing time limit exceeded: "
+						+ TimeUnit.NANOSECONDS.toMillis(clsTime) + "ms (limit: " + clsLimit + "ms)");
+			}
+		}
+	}
+
+	@Nullable
+	private static ThreadMXBean initThreadMXBean() {
+		try {
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (bean.isCurrentThreadCpuTimeSupported()) {
+				if (!bean.isThreadCpuTimeEnabled()) {
+					bean.setThreadCpuTimeEnabled(true);
+				}
+				return bean;
+			}
+		} catch (Throwable e) {
+			// management not available, fallback to wall clock time
+		}
+		return null;
+	}
+}
@@ -0,0 +1,14 @@
+package jadx.core.utils.exceptions;
+
+/**
+ * Class processing stopped because processing thread was interrupted.
+ * Class not marked with error and will be processed again on next request.
+ */
+public class JadxInterruptedException extends JadxRuntimeException {
+
+	private static final long serialVersionUID = 2736184957012865431L;
+
+	public JadxInterruptedException(String message) {
+		super(message);
+	}
+}
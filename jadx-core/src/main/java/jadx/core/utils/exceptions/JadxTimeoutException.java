@@ -0,0 +1,13 @@
+package jadx.core.utils.exceptions;
+
+/**
+ * Processing time limit exceeded, see {@link jadx.core.utils.ProcessTimeLimit}
+ */
+public class JadxTimeoutException extends JadxOverflowException {
+
+	private static final long serialVersionUID = -3390467284183264751L;
+
+	public JadxTimeoutException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,51 @@
+package jadx.core.utils.files;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream over byte buffer (can be used with memory-mapped files)
+ */
+public class ByteBufferInputStream extends InputStream {
+	private final ByteBuffer buf;
+
+	public ByteBufferInputStream(ByteBuffer buf) {
+		this.buf = buf;
+	}
+
+	@Override
+	public int read() {
+		if (!buf.hasRemaining()) {
+			return -1;
+		}
+		return buf.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] bytes, int off, int len) {
+		if (len == 0) {
+			return 0;
+		}
+		if (!buf.hasRemaining()) {
+			return -1;
+		}
+		int count = Math.min(len, buf.remaining());
+		buf.get(bytes, off, count);
+		return count;
+	}
+
+	@Override
+	public long skip(long n) {
+		if (n <= 0) {
+			return 0;
+		}
+		int count = (int) Math.min(n, buf.remaining());
+		buf.position(buf.position() + count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return buf.remaining();
+	}
+}
@@ -0,0 +1,69 @@
+package jadx.core.xmlgen;
+
+import java.lang.ref.SoftReference;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.ResourceFile;
+import jadx.api.ResourcesLoader;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.exceptions.JadxException;
+
+/**
+ * Parsed resources table ('.arsc' file) shared by resources loading, saving and export.
+ * <p>
+ * Table parsed and values xml files generated on first request,
+ * results kept by soft references, so can be reclaimed on low memory and built again.
+ */
+public class ResTableCache {
+	private final RootNode root;
+
+	private ResourceFile arscFile;
+	private SoftReference<ResTableParser> parserRef = new SoftReference<>(null);
+	private SoftReference<ResContainer> filesRef = new SoftReference<>(null);
+
+	public ResTableCache(RootNode root) {
+		this.root = root;
+	}
+
+	@Nullable
+	public synchronized ResTableParser getParser(ResourceFile arsc) throws JadxException {
+		setArscFile(arsc);
+		ResTableParser parser = parserRef.get();
+		if (parser == null || parser.isIncomplete() && root.isClassesLoaded()) {
+			parser = ResourcesLoader.decodeStream(arsc, (size, is) -> {
+				ResTableParser tableParser = new ResTableParser(root);
+				tableParser.decode(is);
+				return tableParser;
+			});
+			parserRef = new SoftReference<>(parser);
+		}
+		return parser;
+	}
+
+	/**
+	 * Decoded resources table with generated values xml files
+	 */
+	@Nullable
+	public synchronized ResContainer getFiles(ResourceFile arsc) throws JadxException {
+		setArscFile(arsc);
+		ResContainer files = filesRef.get();
+		if (files == null) {
+			ResTableParser parser = getParser(arsc);
+			if (parser == null) {
+				return null;
+			}
+			files = parser.makeFiles();
+			filesRef = new SoftReference<>(files);
+		}
+		return files;
+	}
+
+	private void setArscFile(ResourceFile arsc) {
+		if (arscFile != arsc) {
+			arscFile = arsc;
+			parserRef = new SoftReference<>(null);
+			filesRef = new SoftReference<>(null);
+		}
+	}
+}
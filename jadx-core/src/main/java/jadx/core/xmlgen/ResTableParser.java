@@ -66,6 +66,7 @@ public class ResTableParser extends CommonBinaryParser {
 	private final RootNode root;
 	private final ResourceStorage resStorage = new ResourceStorage();
 	private String[] strings;
+	private boolean incomplete;
 
 	public ResTableParser(RootNode root) {
 		this(root, false);
@@ -84,7 +85,13 @@ public class ResTableParser extends CommonBinaryParser {
 
 	public ResContainer decodeFiles(InputStream inputStream) throws IOException {
 		decode(inputStream);
+		return makeFiles();
+	}
 
+	/**
+	 * Generate values xml files from already decoded table
+	 */
+	public ResContainer makeFiles() {
 		ValuesParser vp = new ValuesParser(strings, resStorage.getResourcesNames());
 		ResXmlGen resGen = new ResXmlGen(resStorage, vp);
 
@@ -97,6 +104,14 @@ public class ResTableParser extends CommonBinaryParser {
 		return resStorage;
 	}
 
+	/**
+	 * Table parsed before classes loading and some resources names can't be resolved using const fields,
+	 * parse should be repeated after classes loading
+	 */
+	public boolean isIncomplete() {
+		return incomplete;
+	}
+
 	public String[] getStrings() {
 		return strings;
 	}
@@ -291,10 +306,15 @@ public class ResTableParser extends CommonBinaryParser {
 		if (VALID_RES_KEY_PATTERN.matcher(origKeyName).matches()) {
 			return origKeyName;
 		}
-		FieldNode constField = root.getConstValues().getGlobalConstFields().get(resRef);
-		if (constField != null) {
-			constField.add(AFlag.DONT_RENAME);
-			return constField.getName();
+		if (root.isClassesLoaded()) {
+			FieldNode constField = root.getConstValues().getGlobalConstFields().get(resRef);
+			if (constField != null) {
+				constField.add(AFlag.DONT_RENAME);
+				return constField.getName();
+			}
+		} else {
+			// const fields not collected yet, names can be changed
+			incomplete = true;
 		}
 		// Making sure origKeyName compliant with resource file name rules
 		Matcher m = VALID_RES_KEY_PATTERN.matcher(origKeyName);
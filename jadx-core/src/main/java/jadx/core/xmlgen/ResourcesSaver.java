@@ -22,6 +22,8 @@ public class ResourcesSaver implements Runnable {
 	private final ResourceFile resourceFile;
 	private final File outDir;
 
+	private long writtenBytes;
+
 	public ResourcesSaver(File outDir, ResourceFile resourceFile) {
 		this.resourceFile = resourceFile;
 		this.outDir = outDir;
@@ -55,11 +57,18 @@ public class ResourcesSaver implements Runnable {
 		saveToFile(rc, outFile);
 	}
 
+	/**
+	 * Total size of saved files, available after {@link #run()}
+	 */
+	public long getWrittenBytes() {
+		return writtenBytes;
+	}
+
 	private void saveToFile(ResContainer rc, File outFile) {
 		switch (rc.getDataType()) {
 			case TEXT:
 			case RES_TABLE:
-				SaveCode.save(rc.getText(), outFile);
+				writtenBytes += SaveCode.save(rc.getText(), outFile);
 				return;
 
 			case DECODED_DATA:
@@ -67,6 +76,7 @@ public class ResourcesSaver implements Runnable {
 				FileUtils.makeDirsForFile(outFile);
 				try {
 					Files.write(outFile.toPath(), data);
+					writtenBytes += data.length;
 				} catch (Exception e) {
 					LOG.warn("Resource '{}' not saved, got exception", rc.getName(), e);
 				}
@@ -77,6 +87,7 @@ public class ResourcesSaver implements Runnable {
 				FileUtils.makeDirsForFile(outFile);
 				try {
 					saveResourceFile(resFile, outFile);
+					writtenBytes += outFile.length();
 				} catch (Exception e) {
 					LOG.warn("Resource '{}' not saved, got exception", rc.getName(), e);
 				}
@@ -2,11 +2,16 @@ package jadx.api;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
+import jadx.api.metrics.MetricsSnapshot;
+import jadx.core.utils.Utils;
 import jadx.core.utils.files.FileUtils;
+import jadx.core.xmlgen.ResContainer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
@@ -38,6 +43,84 @@ public class JadxDecompilerTest {
 		}
 	}
 
+	@Test
+	public void testResTableParsedOnce() {
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(getFileFromSampleDir("app-with-fake-dex.apk"));
+
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			ResourceFile arsc = jadx.getResources().stream()
+					.filter(resFile -> resFile.getType() == ResourceType.ARSC)
+					.findFirst()
+					.orElseThrow(IllegalStateException::new);
+
+			ResContainer content = arsc.loadContent();
+			assertThat(Utils.collectionMap(content.getSubFiles(), ResContainer::getName), Matchers.hasItem("res/values/strings.xml"));
+			// table shared with resources loading and reused on next request
+			assertThat(arsc.loadContent(), Matchers.sameInstance(content));
+		}
+	}
+
+	@Test
+	public void testSaveMetrics() {
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(getFileFromSampleDir("app-with-fake-dex.apk"));
+		args.setOutDir(FileUtils.createTempDir("jadx-metrics").toFile());
+
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			List<MetricsSnapshot> updates = new ArrayList<>();
+			jadx.addMetricsListener(updates::add);
+			jadx.save();
+
+			assertThat(updates, Matchers.not(Matchers.empty()));
+			MetricsSnapshot snapshot = updates.get(updates.size() - 1);
+			assertThat(snapshot.getClassesLoaded(), Matchers.greaterThanOrEqualTo(3L));
+			assertThat(snapshot.getClassesGenerated(), Matchers.is(3L));
+			assertThat(snapshot.getTasksCompleted(), Matchers.is(snapshot.getTasksTotal()));
+			assertThat(snapshot.getQueueDepth(), Matchers.is(0L));
+			assertThat(snapshot.getProgress(), Matchers.is(100));
+			assertThat(snapshot.getBytesWritten(), Matchers.greaterThan(0L));
+			assertThat(snapshot.toPrometheusText(), Matchers.containsString("jadx_classes_generated_total 3\n"));
+		}
+	}
+
+	@Test
+	public void testSaveMetricsResetOnNextSave() {
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(getFileFromSampleDir("app-with-fake-dex.apk"));
+		args.setOutDir(FileUtils.createTempDir("jadx-metrics").toFile());
+
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			List<MetricsSnapshot> updates = new ArrayList<>();
+			jadx.addMetricsListener(updates::add);
+			jadx.save();
+			MetricsSnapshot first = updates.get(updates.size() - 1);
+
+			updates.clear();
+			jadx.save();
+			// counters from previous save not included
+			for (MetricsSnapshot update : updates) {
+				assertThat(update.getTasksTotal(), Matchers.lessThanOrEqualTo(first.getTasksTotal()));
+				assertThat(update.getBytesWritten(), Matchers.lessThanOrEqualTo(first.getBytesWritten()));
+			}
+			MetricsSnapshot second = updates.get(updates.size() - 1);
+			assertThat(second.getTasksTotal(), Matchers.is(first.getTasksTotal()));
+			assertThat(second.getTasksCompleted(), Matchers.is(first.getTasksCompleted()));
+			assertThat(second.getBytesWritten(), Matchers.is(first.getBytesWritten()));
+			assertThat(second.getProgress(), Matchers.is(100));
+			// rate computed only for classes saved in second save
+			long elapsedMillis = second.getElapsedMillis();
+			if (elapsedMillis > 0) {
+				double tasksRate = second.getTasksCompleted() * 1000.0;
+				assertThat(second.getClassesPerSecond(), Matchers.lessThanOrEqualTo(tasksRate / elapsedMillis));
+				assertThat(second.getClassesPerSecond(), Matchers.greaterThanOrEqualTo(tasksRate / (elapsedMillis + 1)));
+			}
+		}
+	}
+
 	private static final String TEST_SAMPLES_DIR = "test-samples/";
 
 	public static File getFileFromSampleDir(String fileName) {
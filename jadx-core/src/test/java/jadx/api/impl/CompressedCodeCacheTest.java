@@ -0,0 +1,59 @@
+package jadx.api.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.CodePosition;
+import jadx.api.ICodeInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompressedCodeCacheTest {
+
+	@Test
+	public void storeAndRestore() {
+		CompressedCodeCache cache = new CompressedCodeCache(256, 1);
+		Map<String, ICodeInfo> expected = new HashMap<>();
+		for (int i = 0; i < 20; i++) {
+			String name = "cls" + i;
+			ICodeInfo codeInfo = makeCode(name, i * 10);
+			cache.add(name, codeInfo);
+			expected.put(name, codeInfo);
+		}
+		cache.add("empty", ICodeInfo.EMPTY);
+		cache.add("simple", new SimpleCodeInfo("class A {}"));
+
+		for (Map.Entry<String, ICodeInfo> entry : expected.entrySet()) {
+			ICodeInfo code = cache.get(entry.getKey());
+			ICodeInfo exp = entry.getValue();
+			assertThat(code).isNotNull();
+			assertThat(code.getCodeStr()).isEqualTo(exp.getCodeStr());
+			assertThat(code.getLineMapping()).isEqualTo(exp.getLineMapping());
+			assertThat(code.getAnnotations()).isEqualTo(exp.getAnnotations());
+		}
+		assertThat(cache.get("empty")).isSameAs(ICodeInfo.EMPTY);
+		assertThat(cache.get("simple").getCodeStr()).isEqualTo("class A {}");
+		assertThat(cache.get("unknown")).isNull();
+
+		cache.remove("cls1");
+		assertThat(cache.contains("cls1")).isFalse();
+		assertThat(cache.get("cls1")).isNull();
+		assertThat(cache.contains("cls2")).isTrue();
+	}
+
+	private static ICodeInfo makeCode(String name, int linesCount) {
+		StringBuilder sb = new StringBuilder();
+		Map<Integer, Integer> lines = new HashMap<>();
+		Map<CodePosition, Object> annotations = new HashMap<>();
+		sb.append("class ").append(name).append(" {\n");
+		for (int i = 0; i < linesCount; i++) {
+			sb.append("    int f").append(i).append(" = ").append(i * 31).append("; // \u043f\u043e\u043b\u0435\n");
+			lines.put(i + 2, i + 100);
+			annotations.put(new CodePosition(i + 2, 8, sb.length()), "f" + i);
+		}
+		sb.append("}\n");
+		return new AnnotatedCodeInfo(sb.toString(), lines, annotations);
+	}
+}
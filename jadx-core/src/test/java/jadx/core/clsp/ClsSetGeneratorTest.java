@@ -0,0 +1,49 @@
+package jadx.core.clsp;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.files.FileUtils;
+
+import static jadx.api.JadxDecompilerTest.getFileFromSampleDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClsSetGeneratorTest {
+	private static final String LIB_CLS = "com.github.skylot.simple.MainActivity";
+
+	@AfterEach
+	public void cleanup() {
+		FileUtils.clearTempRootDir();
+	}
+
+	@Test
+	public void testCachedClasspathSet() {
+		Path cacheDir = FileUtils.createTempDir("jadx-clsp-cache");
+		JadxArgs args = new JadxArgs();
+		args.getClasspathFiles().add(getFileFromSampleDir("app-with-fake-dex.apk"));
+		args.setClasspathCacheDir(cacheDir.toFile());
+
+		List<Path> sets = ClsSetGenerator.getClasspathSets(args);
+		assertThat(sets).hasSize(1);
+		File setFile = sets.get(0).toFile();
+		assertThat(setFile).exists();
+		assertThat(setFile.getParentFile()).isEqualTo(cacheDir.toFile());
+		long modified = setFile.lastModified();
+
+		RootNode root = new RootNode(args);
+		root.loadClasses(Collections.emptyList());
+		root.initClassPath();
+		ClspGraph clsp = root.getClsp();
+		assertThat(clsp.isClsKnown(LIB_CLS)).isTrue();
+		assertThat(clsp.isImplements(LIB_CLS, "android.app.Activity")).isTrue();
+		// cached set reused
+		assertThat(setFile.lastModified()).isEqualTo(modified);
+	}
+}
@@ -0,0 +1,52 @@
+package jadx.core.clsp;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.files.FileUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClsSetTest {
+
+	@AfterEach
+	public void cleanup() {
+		FileUtils.clearTempRootDir();
+	}
+
+	@Test
+	public void testSaveAndLazyLoad() throws Exception {
+		RootNode root = new RootNode(new JadxArgs());
+		ClsSet coreSet = new ClsSet(root);
+		coreSet.loadFromClstFile();
+		Map<String, ClspClass> coreMap = new HashMap<>();
+		coreSet.addToMap(coreMap);
+		assertThat(coreMap).containsKey("java.lang.Object");
+
+		Path file = FileUtils.createTempFile(".jcst");
+		coreSet.save(file);
+
+		ClsSet loadedSet = new ClsSet(root);
+		loadedSet.load(file);
+		Map<String, ClspClass> loadedMap = new HashMap<>();
+		loadedSet.addToMap(loadedMap);
+		assertThat(loadedMap.keySet()).isEqualTo(coreMap.keySet());
+		for (ClspClass cls : coreMap.values()) {
+			ClspClass loadedCls = loadedMap.get(cls.getName());
+			assertThat(loadedCls.getParents()).isEqualTo(cls.getParents());
+			assertThat(loadedCls.getTypeParameters()).isEqualTo(cls.getTypeParameters());
+			assertThat(loadedCls.getSortedMethodsList().toString())
+					.isEqualTo(cls.getSortedMethodsList().toString());
+		}
+		ClspClass stringCls = loadedMap.get("java.lang.String");
+		assertThat(Arrays.asList(stringCls.getParents())).isNotEmpty();
+		assertThat(stringCls.getMethodsMap()).containsKey("length()I");
+	}
+}
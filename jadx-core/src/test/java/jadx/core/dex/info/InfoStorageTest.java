@@ -0,0 +1,57 @@
+package jadx.core.dex.info;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.RootNode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class InfoStorageTest {
+
+	@Test
+	public void sharedTypes() {
+		InfoStorage infoStorage = new InfoStorage();
+		ArgType objType = infoStorage.getType("Lsome/pkg/Cls;");
+		assertEquals(ArgType.object("some.pkg.Cls"), objType);
+		assertSame(objType, infoStorage.getType("Lsome/pkg/Cls;"));
+
+		ArgType arrType = infoStorage.getType("[[Lsome/pkg/Cls;");
+		assertEquals(ArgType.array(ArgType.array(objType)), arrType);
+		assertSame(arrType, infoStorage.getType("[[Lsome/pkg/Cls;"));
+		assertSame(objType, arrType.getArrayRootElement());
+
+		assertSame(ArgType.INT, infoStorage.getType("I"));
+		assertSame(ArgType.STRING, infoStorage.getType("Ljava/lang/String;"));
+	}
+
+	@Test
+	public void methodsByUniqId() {
+		RootNode root = new RootNode(new JadxArgs());
+		InfoStorage infoStorage = root.getInfoStorage();
+		ClassInfo cls = ClassInfo.fromType(root, ArgType.object("some.pkg.Cls"));
+		MethodInfo mth = MethodInfo.fromDetails(root, cls, "test", Collections.emptyList(), ArgType.VOID);
+		int id = 3 << 16 | 0xFFFF;
+		assertNull(infoStorage.getByUniqId(id));
+		infoStorage.putByUniqId(id, mth);
+		assertSame(mth, infoStorage.getByUniqId(id));
+		assertNull(infoStorage.getByUniqId(id - 1));
+		assertNull(infoStorage.getByUniqId(-1));
+		infoStorage.putByUniqId(-1, mth);
+		assertSame(mth, infoStorage.getByUniqId(-1));
+	}
+
+	@Test
+	public void genericTypeNotShared() {
+		InfoStorage infoStorage = new InfoStorage();
+		ArgType genericType = infoStorage.getType("TT;");
+		assertEquals(ArgType.genericType("T"), genericType);
+		assertNotSame(genericType, infoStorage.getType("TT;"));
+	}
+}
@@ -0,0 +1,58 @@
+package jadx.core.dex.nodes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.core.dex.instructions.InsnType;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InsnArrayTest {
+
+	@Test
+	public void lookupByOffset() {
+		InsnNode nop = new InsnNode(InsnType.NOP, 0);
+		InsnNode insn0 = new InsnNode(InsnType.CONST, 0);
+		InsnNode insn2 = new InsnNode(InsnType.GOTO, 0);
+		InsnNode insn5 = new InsnNode(InsnType.RETURN, 0);
+
+		InsnArray.Builder builder = new InsnArray.Builder(1);
+		builder.add(0, insn0);
+		builder.add(1, nop);
+		builder.add(2, insn2);
+		builder.add(5, insn5);
+		InsnArray insns = builder.build();
+
+		assertThat(insns.size()).isEqualTo(4);
+		assertThat(insns.getByOffset(2)).isSameAs(insn2);
+		assertThat(insns.getByOffset(3)).isNull();
+		assertThat(insns.getByOffset(100)).isNull();
+		assertThat(insns.indexOf(5)).isEqualTo(3);
+		assertThat(insns.indexOf(4)).isNegative();
+		assertThat(insns.lowerBound(3)).isEqualTo(3);
+		assertThat(insns.lowerBound(6)).isEqualTo(4);
+
+		// NOP skipped
+		assertThat(insns.nextInsnIndex(0)).isEqualTo(2);
+		assertThat(insns.nextInsnIndex(3)).isEqualTo(-1);
+
+		insns.remove(2);
+		assertThat(insns.getByOffset(2)).isNull();
+		assertThat(insns.nextInsnIndex(0)).isEqualTo(3);
+
+		List<InsnNode> list = new ArrayList<>();
+		insns.forEach(list::add);
+		assertThat(list).containsExactly(insn0, nop, insn5);
+	}
+
+	@Test
+	public void unorderedOffsets() {
+		InsnArray.Builder builder = new InsnArray.Builder(4);
+		builder.add(2, new InsnNode(InsnType.NOP, 0));
+		assertThrows(JadxRuntimeException.class, () -> builder.add(1, new InsnNode(InsnType.NOP, 0)));
+	}
+}
@@ -0,0 +1,249 @@
+package jadx.core.incremental;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.files.FileUtils;
+
+import static jadx.api.JadxDecompilerTest.getFileFromSampleDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalSaveTest {
+
+	@AfterEach
+	public void cleanup() {
+		FileUtils.clearTempRootDir();
+	}
+
+	@Test
+	public void testSkipUnchanged() throws Exception {
+		Path outDir = FileUtils.createTempDir("jadx-incremental");
+		Path srcDir = outDir.resolve("sources");
+		save(outDir);
+		assertThat(srcDir.resolveSibling("sources.jadx-manifest")).exists();
+
+		List<Path> files = listJavaFiles(srcDir);
+		assertThat(files).isNotEmpty();
+		FileTime oldTime = FileTime.fromMillis(1000);
+		for (Path file : files) {
+			Files.setLastModifiedTime(file, oldTime);
+		}
+		Path removed = files.get(0);
+		Files.delete(removed);
+		Path stale = srcDir.resolve("Stale.java");
+		Files.write(stale, new byte[] { 1 });
+
+		save(outDir);
+		// missing file restored, unchanged files not touched
+		assertThat(removed).exists();
+		for (Path file : files) {
+			if (!file.equals(removed)) {
+				assertThat(Files.getLastModifiedTime(file)).isEqualTo(oldTime);
+			}
+		}
+		// files not created by jadx are ignored
+		assertThat(stale).exists();
+	}
+
+	@Test
+	public void testChangedClassSaved() throws Exception {
+		Path outDir = FileUtils.createTempDir("jadx-incremental");
+		Path srcDir = outDir.resolve("sources");
+		save(outDir);
+		List<Path> files = listJavaFiles(srcDir);
+		FileTime oldTime = FileTime.fromMillis(1000);
+		for (Path file : files) {
+			Files.setLastModifiedTime(file, oldTime);
+		}
+		// simulate changed class content
+		Manifest manifest = Manifest.read(srcDir);
+		String changedCls = "com.github.skylot.simple.MainActivity";
+		assertThat(manifest.hashes).containsKey(changedCls);
+		manifest.hashes.put(changedCls, new byte[] { 1, 2, 3 });
+		manifest.write(srcDir);
+
+		save(outDir);
+		Path changedFile = srcDir.resolve(manifest.files.get(changedCls));
+		assertThat(Files.getLastModifiedTime(changedFile)).isNotEqualTo(oldTime);
+		for (Path file : files) {
+			if (!file.equals(changedFile)) {
+				assertThat(Files.getLastModifiedTime(file)).isEqualTo(oldTime);
+			}
+		}
+	}
+
+	@Test
+	public void testDependencyChanged() {
+		Path outDir = FileUtils.createTempDir("jadx-incremental");
+		try (JadxDecompiler jadx = new JadxDecompiler(makeArgs(outDir))) {
+			jadx.load();
+			RootNode root = jadx.getRoot();
+			ClassNode cls = root.resolveClass("com.github.skylot.simple.MainActivity");
+			ClassNode dep = root.resolveClass("com.github.skylot.simple.BuildConfig");
+			assertThat(cls).isNotNull();
+			assertThat(dep).isNotNull();
+
+			IncrementalSave incremental = new IncrementalSave(root, outDir.resolve("sources").toFile());
+			byte[] key = incremental.getClassKey(cls);
+			assertThat(incremental.getClassKey(cls)).isEqualTo(key);
+
+			cls.setDependencies(Collections.singletonList(dep));
+			byte[] depKey = incremental.getClassKey(cls);
+			assertThat(depKey).isNotEqualTo(key);
+
+			// rename of dependency can change class code
+			dep.getClassInfo().changeShortName("RenamedDep");
+			assertThat(incremental.getClassKey(cls)).isNotEqualTo(depKey);
+		}
+	}
+
+	@Test
+	public void testRemovedClassDeleted() throws Exception {
+		Path outDir = FileUtils.createTempDir("jadx-incremental");
+		Path srcDir = outDir.resolve("sources");
+		save(outDir);
+
+		// class saved in previous run and not present in current input
+		Path removedFile = srcDir.resolve("com/github/skylot/simple/Removed.java");
+		Files.write(removedFile, new byte[] { 1 });
+		Manifest manifest = Manifest.read(srcDir);
+		manifest.files.put("com.github.skylot.simple.Removed", "com/github/skylot/simple/Removed.java");
+		manifest.hashes.put("com.github.skylot.simple.Removed", new byte[] { 1 });
+		manifest.write(srcDir);
+
+		save(outDir);
+		assertThat(removedFile).doesNotExist();
+		assertThat(Manifest.read(srcDir).files).doesNotContainKey("com.github.skylot.simple.Removed");
+	}
+
+	@Test
+	public void testOptionsChanged() throws Exception {
+		Path outDir = FileUtils.createTempDir("jadx-incremental");
+		Path srcDir = outDir.resolve("sources");
+		save(outDir);
+		List<Path> files = listJavaFiles(srcDir);
+		FileTime oldTime = FileTime.fromMillis(1000);
+		for (Path file : files) {
+			Files.setLastModifiedTime(file, oldTime);
+		}
+
+		JadxArgs args = makeArgs(outDir);
+		args.setUseImports(false);
+		save(args);
+		// previous manifest ignored, all classes saved again
+		for (Path file : files) {
+			assertThat(Files.getLastModifiedTime(file)).isNotEqualTo(oldTime);
+		}
+	}
+
+	@Test
+	public void testSaveExecutor() throws Exception {
+		Path outDir = FileUtils.createTempDir("jadx-incremental");
+		Path srcDir = outDir.resolve("sources");
+		try (JadxDecompiler jadx = new JadxDecompiler(makeArgs(outDir))) {
+			jadx.load();
+			ExecutorService executor = jadx.getSaveExecutor();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+		}
+		// manifest written on executor termination
+		assertThat(srcDir.resolveSibling("sources.jadx-manifest")).exists();
+		assertThat(Manifest.read(srcDir).files).isNotEmpty();
+	}
+
+	private static void save(Path outDir) {
+		save(makeArgs(outDir));
+	}
+
+	private static void save(JadxArgs args) {
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			jadx.save();
+		}
+	}
+
+	private static JadxArgs makeArgs(Path outDir) {
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(getFileFromSampleDir("app-with-fake-dex.apk"));
+		args.setOutDir(outDir.toFile());
+		args.setSkipResources(true);
+		args.setIncrementalSave(true);
+		return args;
+	}
+
+	private static List<Path> listJavaFiles(Path dir) throws Exception {
+		try (Stream<Path> stream = Files.walk(dir)) {
+			return stream.filter(p -> p.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Manifest entries editor, format same as in {@link IncrementalSave}
+	 */
+	private static final class Manifest {
+		private final byte[] header;
+		private final String optionsKey;
+		private final Map<String, String> files = new LinkedHashMap<>();
+		private final Map<String, byte[]> hashes = new LinkedHashMap<>();
+
+		private Manifest(byte[] header, String optionsKey) {
+			this.header = header;
+			this.optionsKey = optionsKey;
+		}
+
+		static Manifest read(Path srcDir) throws IOException {
+			try (DataInputStream in = new DataInputStream(Files.newInputStream(getPath(srcDir)))) {
+				byte[] header = new byte[9]; // header and version
+				in.readFully(header);
+				Manifest manifest = new Manifest(header, in.readUTF());
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String clsName = in.readUTF();
+					manifest.files.put(clsName, in.readUTF());
+					byte[] hash = new byte[in.readUnsignedByte()];
+					in.readFully(hash);
+					manifest.hashes.put(clsName, hash);
+				}
+				return manifest;
+			}
+		}
+
+		void write(Path srcDir) throws IOException {
+			try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(getPath(srcDir)))) {
+				out.write(header);
+				out.writeUTF(optionsKey);
+				out.writeInt(files.size());
+				for (Map.Entry<String, String> entry : files.entrySet()) {
+					byte[] hash = hashes.get(entry.getKey());
+					out.writeUTF(entry.getKey());
+					out.writeUTF(entry.getValue());
+					out.writeByte(hash.length);
+					out.write(hash);
+				}
+			}
+		}
+
+		private static Path getPath(Path srcDir) {
+			return srcDir.resolveSibling("sources.jadx-manifest");
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package jadx.core.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.api.JavaClass;
+import jadx.api.ResourceFile;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.files.FileUtils;
+
+import static jadx.api.JadxDecompilerTest.getFileFromSampleDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PreDecompileSnapshotTest {
+
+	@AfterEach
+	public void cleanup() {
+		FileUtils.clearTempRootDir();
+	}
+
+	@Test
+	public void testReload() {
+		File snapshotFile = FileUtils.createTempDir("jadx-snapshot").resolve("app.jadx.snapshot").toFile();
+
+		List<String> firstLoad = loadAndDecompile(snapshotFile);
+		assertThat(snapshotFile).exists();
+		long modified = snapshotFile.lastModified();
+
+		List<String> secondLoad = loadAndDecompile(snapshotFile);
+		assertThat(secondLoad).isEqualTo(firstLoad);
+		// snapshot used and not rewritten
+		assertThat(snapshotFile.lastModified()).isEqualTo(modified);
+	}
+
+	@Test
+	public void testSkipResourcesChanged() throws IOException {
+		File snapshotFile = FileUtils.createTempDir("jadx-snapshot").resolve("app.jadx.snapshot").toFile();
+
+		loadResources(snapshotFile, true);
+		byte[] skippedResSnapshot = Files.readAllBytes(snapshotFile.toPath());
+
+		// snapshot without resources data should be ignored and rewritten
+		List<String> resources = loadResources(snapshotFile, false);
+		assertThat(Files.readAllBytes(snapshotFile.toPath())).isNotEqualTo(skippedResSnapshot);
+		assertThat(resources).isEqualTo(loadResources(null, false));
+
+		assertThat(loadResources(snapshotFile, false)).isEqualTo(resources);
+	}
+
+	@Test
+	public void testLongInputsKey() {
+		File tempDir = FileUtils.createTempDir("jadx-snapshot").toFile();
+		File snapshotFile = new File(tempDir, "app.jadx.snapshot");
+		// inputs key longer than 64KB
+		String longName = String.join("", Collections.nCopies(200, "a"));
+		List<File> classpath = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			classpath.add(new File(tempDir, longName + i + ".jar"));
+		}
+
+		List<String> firstLoad = loadAndDecompile(snapshotFile, classpath);
+		assertThat(snapshotFile).exists();
+		long modified = snapshotFile.lastModified();
+
+		assertThat(loadAndDecompile(snapshotFile, classpath)).isEqualTo(firstLoad);
+		assertThat(snapshotFile.lastModified()).isEqualTo(modified);
+	}
+
+	private static List<String> loadResources(@Nullable File snapshotFile, boolean skipResources) {
+		JadxArgs args = makeArgs(snapshotFile);
+		args.setSkipResources(skipResources);
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			List<String> result = new ArrayList<>();
+			for (ResourceFile resource : jadx.getResources()) {
+				result.add(resource.getOriginalName() + " -> " + resource.getDeobfName());
+			}
+			return result;
+		}
+	}
+
+	private static JadxArgs makeArgs(@Nullable File snapshotFile) {
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(getFileFromSampleDir("app-with-fake-dex.apk"));
+		args.setSnapshotFile(snapshotFile);
+		return args;
+	}
+
+	private static List<String> loadAndDecompile(File snapshotFile) {
+		return loadAndDecompile(snapshotFile, Collections.emptyList());
+	}
+
+	private static List<String> loadAndDecompile(File snapshotFile, List<File> classpath) {
+		JadxArgs args = makeArgs(snapshotFile);
+		args.getClasspathFiles().addAll(classpath);
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			List<String> result = new ArrayList<>();
+			for (ClassNode cls : jadx.getRoot().getClasses()) {
+				result.add(cls.getFullName() + " use in: " + cls.getUseIn() + ", deps: " + cls.getDependencies());
+				for (MethodNode mth : cls.getMethods()) {
+					result.add(mth + " use in: " + mth.getUseIn());
+				}
+			}
+			for (JavaClass cls : jadx.getClasses()) {
+				result.add(cls.getCode());
+			}
+			return result;
+		}
+	}
+}
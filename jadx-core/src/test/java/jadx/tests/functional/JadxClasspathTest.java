@@ -12,6 +12,7 @@ import jadx.core.dex.nodes.RootNode;
 
 import static jadx.core.dex.instructions.args.ArgType.STRING;
 import static jadx.core.dex.instructions.args.ArgType.object;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,4 +45,17 @@ public class JadxClasspathTest {
 
 		assertTrue(ArgType.isCastNeeded(root, ArgType.OBJECT, STRING));
 	}
+
+	@Test
+	public void testHierarchy() {
+		assertThat(clsp.getSuperTypes(JAVA_LANG_EXCEPTION)).contains(JAVA_LANG_THROWABLE, "java.lang.Object");
+		assertThat(clsp.getSuperTypes("not.Exists")).isEmpty();
+		assertThat(clsp.getImplementations(JAVA_LANG_THROWABLE)).contains(JAVA_LANG_EXCEPTION, "java.lang.Error");
+
+		assertThat(clsp.getCommonAncestor("java.lang.RuntimeException", "java.lang.Error")).isEqualTo(JAVA_LANG_THROWABLE);
+		// memoized result
+		assertThat(clsp.getCommonAncestor("java.lang.RuntimeException", "java.lang.Error")).isEqualTo(JAVA_LANG_THROWABLE);
+		assertThat(clsp.getCommonAncestor(JAVA_LANG_EXCEPTION, JAVA_LANG_THROWABLE)).isEqualTo(JAVA_LANG_THROWABLE);
+		assertThat(clsp.getCommonAncestor("not.Exists", JAVA_LANG_THROWABLE)).isNull();
+	}
 }
@@ -0,0 +1,591 @@
+package jadx.tests.integration.arrays;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.core.dex.nodes.ClassNode;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.JadxMatchers.containsOne;
+import static jadx.tests.api.utils.JadxMatchers.countString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Big class init method: long array literal and many static fields init.
+ * Sizes are big enough to make quadratic processing of class init instructions noticeable.
+ */
+public class TestLargeStaticInit extends IntegrationTest {
+
+	public static class TestCls {
+		public static int[] data = {
+				-500, -463, -426, -389, -352, -315, -278, -241, -204, -167, -130, -93, -56, -19, 18, 55, 92, 129, 166, 203,
+				240, 277, 314, 351, 388, 425, 462, 499, -464, -427, -390, -353, -316, -279, -242, -205, -168, -131, -94, -57,
+				-20, 17, 54, 91, 128, 165, 202, 239, 276, 313, 350, 387, 424, 461, 498, -465, -428, -391, -354, -317,
+				-280, -243, -206, -169, -132, -95, -58, -21, 16, 53, 90, 127, 164, 201, 238, 275, 312, 349, 386, 423,
+				460, 497, -466, -429, -392, -355, -318, -281, -244, -207, -170, -133, -96, -59, -22, 15, 52, 89, 126, 163,
+				200, 237, 274, 311, 348, 385, 422, 459, 496, -467, -430, -393, -356, -319, -282, -245, -208, -171, -134, -97,
+				-60, -23, 14, 51, 88, 125, 162, 199, 236, 273, 310, 347, 384, 421, 458, 495, -468, -431, -394, -357,
+				-320, -283, -246, -209, -172, -135, -98, -61, -24, 13, 50, 87, 124, 161, 198, 235, 272, 309, 346, 383,
+				420, 457, 494, -469, -432, -395, -358, -321, -284, -247, -210, -173, -136, -99, -62, -25, 12, 49, 86, 123,
+				160, 197, 234, 271, 308, 345, 382, 419, 456, 493, -470, -433, -396, -359, -322, -285, -248, -211, -174, -137,
+				-100, -63, -26, 11, 48, 85, 122, 159, 196, 233, 270, 307, 344, 381, 418, 455, 492, -471, -434, -397,
+				-360, -323, -286, -249, -212, -175, -138, -101, -64, -27, 10, 47, 84, 121, 158, 195, 232, 269, 306, 343,
+				380, 417, 454, 491, -472, -435, -398, -361, -324, -287, -250, -213, -176, -139, -102, -65, -28, 9, 46, 83,
+				120, 157, 194, 231, 268, 305, 342, 379, 416, 453, 490, -473, -436, -399, -362, -325, -288, -251, -214, -177,
+				-140, -103, -66, -29, 8, 45, 82, 119, 156, 193, 230, 267, 304, 341, 378, 415, 452, 489, -474, -437,
+				-400, -363, -326, -289, -252, -215, -178, -141, -104, -67, -30, 7, 44, 81, 118, 155, 192, 229, 266, 303,
+				340, 377, 414, 451, 488, -475, -438, -401, -364, -327, -290, -253, -216, -179, -142, -105, -68, -31, 6, 43,
+				80, 117, 154, 191, 228, 265, 302, 339, 376, 413, 450, 487, -476, -439, -402, -365, -328, -291, -254, -217,
+				-180, -143, -106, -69, -32, 5, 42, 79, 116, 153, 190, 227, 264, 301, 338, 375, 412, 449, 486, -477,
+				-440, -403, -366, -329, -292, -255, -218, -181, -144, -107, -70, -33, 4, 41, 78, 115, 152, 189, 226, 263,
+				300, 337, 374, 411, 448, 485, -478, -441, -404, -367, -330, -293, -256, -219, -182, -145, -108, -71, -34, 3,
+				40, 77, 114, 151, 188, 225, 262, 299, 336, 373, 410, 447, 484, -479, -442, -405, -368, -331, -294, -257,
+				-220, -183, -146, -109, -72, -35, 2, 39, 76, 113, 150, 187, 224, 261, 298, 335, 372, 409, 446, 483,
+				-480, -443, -406, -369, -332, -295, -258, -221, -184, -147, -110, -73, -36, 1, 38, 75, 112, 149, 186, 223,
+				260, 297, 334, 371, 408, 445, 482, -481, -444, -407, -370, -333, -296, -259, -222, -185, -148, -111, -74, -37,
+				0, 37, 74, 111, 148, 185, 222, 259, 296, 333, 370, 407, 444, 481, -482, -445, -408, -371, -334, -297,
+				-260, -223, -186, -149, -112, -75, -38, -1, 36, 73, 110, 147, 184, 221, 258, 295, 332, 369, 406, 443,
+				480, -483, -446, -409, -372, -335, -298, -261, -224, -187, -150, -113, -76, -39, -2, 35, 72, 109, 146, 183,
+				220, 257, 294, 331, 368, 405, 442, 479, -484, -447, -410, -373, -336, -299, -262, -225, -188, -151, -114, -77,
+				-40, -3, 34, 71, 108, 145, 182, 219, 256, 293, 330, 367, 404, 441, 478, -485, -448, -411, -374, -337,
+				-300, -263, -226, -189, -152, -115, -78, -41, -4, 33, 70, 107, 144, 181, 218, 255, 292, 329, 366, 403,
+				440, 477, -486, -449, -412, -375, -338, -301, -264, -227, -190, -153, -116, -79, -42, -5, 32, 69, 106, 143,
+				180, 217, 254, 291, 328, 365, 402, 439, 476, -487, -450, -413, -376, -339, -302, -265, -228, -191, -154, -117,
+				-80, -43, -6, 31, 68, 105, 142, 179, 216, 253, 290, 327, 364, 401, 438, 475, -488, -451, -414, -377,
+				-340, -303, -266, -229, -192, -155, -118, -81, -44, -7, 30, 67, 104, 141, 178, 215, 252, 289, 326, 363,
+				400, 437, 474, -489, -452, -415, -378, -341, -304, -267, -230, -193, -156, -119, -82, -45, -8, 29, 66, 103,
+				140, 177, 214, 251, 288, 325, 362, 399, 436, 473, -490, -453, -416, -379, -342, -305, -268, -231, -194, -157,
+				-120, -83, -46, -9, 28, 65, 102, 139, 176, 213, 250, 287, 324, 361, 398, 435, 472, -491, -454, -417,
+				-380, -343, -306, -269, -232, -195, -158, -121, -84, -47, -10, 27, 64, 101, 138, 175, 212, 249, 286, 323,
+				360, 397, 434, 471, -492, -455, -418, -381, -344, -307, -270, -233, -196, -159, -122, -85, -48, -11, 26, 63,
+				100, 137, 174, 211, 248, 285, 322, 359, 396, 433, 470, -493, -456, -419, -382, -345, -308, -271, -234, -197,
+				-160, -123, -86, -49, -12, 25, 62, 99, 136, 173, 210, 247, 284, 321, 358, 395, 432, 469, -494, -457,
+				-420, -383, -346, -309, -272, -235, -198, -161, -124, -87, -50, -13, 24, 61, 98, 135, 172, 209, 246, 283,
+				320, 357, 394, 431, 468, -495, -458, -421, -384, -347, -310, -273, -236, -199, -162, -125, -88, -51, -14, 23,
+				60, 97, 134, 171, 208, 245, 282, 319, 356, 393, 430, 467, -496, -459, -422, -385, -348, -311, -274, -237,
+				-200, -163, -126, -89, -52, -15, 22, 59, 96, 133, 170, 207, 244, 281, 318, 355, 392, 429, 466, -497,
+				-460, -423, -386, -349, -312, -275, -238, -201, -164, -127, -90, -53, -16, 21, 58, 95, 132, 169, 206, 243,
+				280, 317, 354, 391, 428, 465, -498, -461, -424, -387, -350, -313, -276, -239, -202, -165, -128, -91, -54, -17,
+				20, 57, 94, 131, 168, 205, 242, 279, 316, 353, 390, 427, 464, -499, -462, -425, -388, -351, -314, -277,
+				-240, -203, -166, -129, -92, -55, -18, 19, 56, 93, 130, 167, 204, 241, 278, 315, 352, 389, 426, 463,
+				-500, -463, -426, -389, -352, -315, -278, -241, -204, -167, -130, -93, -56, -19, 18, 55, 92, 129, 166, 203,
+				240, 277, 314, 351, 388, 425, 462, 499, -464, -427, -390, -353, -316, -279, -242, -205, -168, -131, -94, -57,
+				-20, 17, 54, 91, 128, 165, 202, 239, 276, 313, 350, 387, 424, 461, 498, -465, -428, -391, -354, -317,
+				-280, -243, -206, -169, -132, -95, -58, -21, 16, 53, 90, 127, 164, 201, 238, 275, 312, 349, 386, 423,
+				460, 497, -466, -429, -392, -355, -318, -281, -244, -207, -170, -133, -96, -59, -22, 15, 52, 89, 126, 163,
+				200, 237, 274, 311, 348, 385, 422, 459, 496, -467, -430, -393, -356, -319, -282, -245, -208, -171, -134, -97,
+				-60, -23, 14, 51, 88, 125, 162, 199, 236, 273, 310, 347, 384, 421, 458, 495, -468, -431, -394, -357,
+				-320, -283, -246, -209, -172, -135, -98, -61, -24, 13, 50, 87, 124, 161, 198, 235, 272, 309, 346, 383,
+				420, 457, 494, -469, -432, -395, -358, -321, -284, -247, -210, -173, -136, -99, -62, -25, 12, 49, 86, 123,
+				160, 197, 234, 271, 308, 345, 382, 419, 456, 493, -470, -433, -396, -359, -322, -285, -248, -211, -174, -137,
+				-100, -63, -26, 11, 48, 85, 122, 159, 196, 233, 270, 307, 344, 381, 418, 455, 492, -471, -434, -397,
+				-360, -323, -286, -249, -212, -175, -138, -101, -64, -27, 10, 47, 84, 121, 158, 195, 232, 269, 306, 343,
+				380, 417, 454, 491, -472, -435, -398, -361, -324, -287, -250, -213, -176, -139, -102, -65, -28, 9, 46, 83,
+				120, 157, 194, 231, 268, 305, 342, 379, 416, 453, 490, -473, -436, -399, -362, -325, -288, -251, -214, -177,
+				-140, -103, -66, -29, 8, 45, 82, 119, 156, 193, 230, 267, 304, 341, 378, 415, 452, 489, -474, -437,
+				-400, -363, -326, -289, -252, -215, -178, -141, -104, -67, -30, 7, 44, 81, 118, 155, 192, 229, 266, 303,
+				340, 377, 414, 451, 488, -475, -438, -401, -364, -327, -290, -253, -216, -179, -142, -105, -68, -31, 6, 43,
+				80, 117, 154, 191, 228, 265, 302, 339, 376, 413, 450, 487, -476, -439, -402, -365, -328, -291, -254, -217,
+				-180, -143, -106, -69, -32, 5, 42, 79, 116, 153, 190, 227, 264, 301, 338, 375, 412, 449, 486, -477,
+				-440, -403, -366, -329, -292, -255, -218, -181, -144, -107, -70, -33, 4, 41, 78, 115, 152, 189, 226, 263,
+				300, 337, 374, 411, 448, 485, -478, -441, -404, -367, -330, -293, -256, -219, -182, -145, -108, -71, -34, 3,
+				40, 77, 114, 151, 188, 225, 262, 299, 336, 373, 410, 447, 484, -479, -442, -405, -368, -331, -294, -257,
+				-220, -183, -146, -109, -72, -35, 2, 39, 76, 113, 150, 187, 224, 261, 298, 335, 372, 409, 446, 483,
+				-480, -443, -406, -369, -332, -295, -258, -221, -184, -147, -110, -73, -36, 1, 38, 75, 112, 149, 186, 223,
+				260, 297, 334, 371, 408, 445, 482, -481, -444, -407, -370, -333, -296, -259, -222, -185, -148, -111, -74, -37,
+				0, 37, 74, 111, 148, 185, 222, 259, 296, 333, 370, 407, 444, 481, -482, -445, -408, -371, -334, -297,
+				-260, -223, -186, -149, -112, -75, -38, -1, 36, 73, 110, 147, 184, 221, 258, 295, 332, 369, 406, 443,
+				480, -483, -446, -409, -372, -335, -298, -261, -224, -187, -150, -113, -76, -39, -2, 35, 72, 109, 146, 183,
+				220, 257, 294, 331, 368, 405, 442, 479, -484, -447, -410, -373, -336, -299, -262, -225, -188, -151, -114, -77,
+				-40, -3, 34, 71, 108, 145, 182, 219, 256, 293, 330, 367, 404, 441, 478, -485, -448, -411, -374, -337,
+				-300, -263, -226, -189, -152, -115, -78, -41, -4, 33, 70, 107, 144, 181, 218, 255, 292, 329, 366, 403,
+				440, 477, -486, -449, -412, -375, -338, -301, -264, -227, -190, -153, -116, -79, -42, -5, 32, 69, 106, 143,
+				180, 217, 254, 291, 328, 365, 402, 439, 476, -487, -450, -413, -376, -339, -302, -265, -228, -191, -154, -117,
+				-80, -43, -6, 31, 68, 105, 142, 179, 216, 253, 290, 327, 364, 401, 438, 475, -488, -451, -414, -377,
+				-340, -303, -266, -229, -192, -155, -118, -81, -44, -7, 30, 67, 104, 141, 178, 215, 252, 289, 326, 363,
+				400, 437, 474, -489, -452, -415, -378, -341, -304, -267, -230, -193, -156, -119, -82, -45, -8, 29, 66, 103,
+				140, 177, 214, 251, 288, 325, 362, 399, 436, 473, -490, -453, -416, -379, -342, -305, -268, -231, -194, -157,
+				-120, -83, -46, -9, 28, 65, 102, 139, 176, 213, 250, 287, 324, 361, 398, 435, 472, -491, -454, -417,
+				-380, -343, -306, -269, -232, -195, -158, -121, -84, -47, -10, 27, 64, 101, 138, 175, 212, 249, 286, 323,
+				360, 397, 434, 471, -492, -455, -418, -381, -344, -307, -270, -233, -196, -159, -122, -85, -48, -11, 26, 63,
+				100, 137, 174, 211, 248, 285, 322, 359, 396, 433, 470, -493, -456, -419, -382, -345, -308, -271, -234, -197,
+				-160, -123, -86, -49, -12, 25, 62, 99, 136, 173, 210, 247, 284, 321, 358, 395, 432, 469, -494, -457,
+				-420, -383, -346, -309, -272, -235, -198, -161, -124, -87, -50, -13, 24, 61, 98, 135, 172, 209, 246, 283,
+				320, 357, 394, 431, 468, -495, -458, -421, -384, -347, -310, -273, -236, -199, -162, -125, -88, -51, -14, 23,
+				60, 97, 134, 171, 208, 245, 282, 319, 356, 393, 430, 467, -496, -459, -422, -385, -348, -311, -274, -237,
+				-200, -163, -126, -89, -52, -15, 22, 59, 96, 133, 170, 207, 244, 281, 318, 355, 392, 429, 466, -497,
+				-460, -423, -386, -349, -312, -275, -238, -201, -164, -127, -90, -53, -16, 21, 58, 95, 132, 169, 206, 243,
+				280, 317, 354, 391, 428, 465, -498, -461, -424, -387, -350, -313, -276, -239, -202, -165, -128, -91, -54, -17,
+				20, 57, 94, 131, 168, 205, 242, 279, 316, 353, 390, 427, 464, -499, -462, -425, -388, -351, -314, -277,
+				-240, -203, -166, -129, -92, -55, -18, 19, 56, 93, 130, 167, 204, 241, 278, 315, 352, 389, 426, 463,
+				-500, -463, -426, -389, -352, -315, -278, -241, -204, -167, -130, -93, -56, -19, 18, 55, 92, 129, 166, 203,
+				240, 277, 314, 351, 388, 425, 462, 499, -464, -427, -390, -353, -316, -279, -242, -205, -168, -131, -94, -57,
+				-20, 17, 54, 91, 128, 165, 202, 239, 276, 313, 350, 387, 424, 461, 498, -465, -428, -391, -354, -317,
+				-280, -243, -206, -169, -132, -95, -58, -21, 16, 53, 90, 127, 164, 201, 238, 275, 312, 349, 386, 423,
+				460, 497, -466, -429, -392, -355, -318, -281, -244, -207, -170, -133, -96, -59, -22, 15, 52, 89, 126, 163,
+				200, 237, 274, 311, 348, 385, 422, 459, 496, -467, -430, -393, -356, -319, -282, -245, -208, -171, -134, -97,
+				-60, -23, 14, 51, 88, 125, 162, 199, 236, 273, 310, 347, 384, 421, 458, 495, -468, -431, -394, -357,
+				-320, -283, -246, -209, -172, -135, -98, -61, -24, 13, 50, 87, 124, 161, 198, 235, 272, 309, 346, 383,
+				420, 457, 494, -469, -432, -395, -358, -321, -284, -247, -210, -173, -136, -99, -62, -25, 12, 49, 86, 123,
+				160, 197, 234, 271, 308, 345, 382, 419, 456, 493, -470, -433, -396, -359, -322, -285, -248, -211, -174, -137,
+				-100, -63, -26, 11, 48, 85, 122, 159, 196, 233, 270, 307, 344, 381, 418, 455, 492, -471, -434, -397,
+				-360, -323, -286, -249, -212, -175, -138, -101, -64, -27, 10, 47, 84, 121, 158, 195, 232, 269, 306, 343,
+				380, 417, 454, 491, -472, -435, -398, -361, -324, -287, -250, -213, -176, -139, -102, -65, -28, 9, 46, 83,
+				120, 157, 194, 231, 268, 305, 342, 379, 416, 453, 490, -473, -436, -399, -362, -325, -288, -251, -214, -177,
+				-140, -103, -66, -29, 8, 45, 82, 119, 156, 193, 230, 267, 304, 341, 378, 415, 452, 489, -474, -437,
+				-400, -363, -326, -289, -252, -215, -178, -141, -104, -67, -30, 7, 44, 81, 118, 155, 192, 229, 266, 303,
+				340, 377, 414, 451, 488, -475, -438, -401, -364, -327, -290, -253, -216, -179, -142, -105, -68, -31, 6, 43,
+				80, 117, 154, 191, 228, 265, 302, 339, 376, 413, 450, 487, -476, -439, -402, -365, -328, -291, -254, -217,
+				-180, -143, -106, -69, -32, 5, 42, 79, 116, 153, 190, 227, 264, 301, 338, 375, 412, 449, 486, -477,
+				-440, -403, -366, -329, -292, -255, -218, -181, -144, -107, -70, -33, 4, 41, 78, 115, 152, 189, 226, 263,
+				300, 337, 374, 411, 448, 485, -478, -441, -404, -367, -330, -293, -256, -219, -182, -145, -108, -71, -34, 3,
+				40, 77, 114, 151, 188, 225, 262, 299, 336, 373, 410, 447, 484, -479, -442, -405, -368, -331, -294, -257,
+				-220, -183, -146, -109, -72, -35, 2, 39, 76, 113, 150, 187, 224, 261, 298, 335, 372, 409, 446, 483,
+				-480, -443, -406, -369, -332, -295, -258, -221, -184, -147, -110, -73, -36, 1, 38, 75, 112, 149, 186, 223,
+				260, 297, 334, 371, 408, 445, 482, -481, -444, -407, -370, -333, -296, -259, -222, -185, -148, -111, -74, -37,
+				0, 37, 74, 111, 148, 185, 222, 259, 296, 333, 370, 407, 444, 481, -482, -445, -408, -371, -334, -297,
+				-260, -223, -186, -149, -112, -75, -38, -1, 36, 73, 110, 147, 184, 221, 258, 295, 332, 369, 406, 443,
+				480, -483, -446, -409, -372, -335, -298, -261, -224, -187, -150, -113, -76, -39, -2, 35, 72, 109, 146, 183,
+				220, 257, 294, 331, 368, 405, 442, 479, -484, -447, -410, -373, -336, -299, -262, -225, -188, -151, -114, -77,
+				-40, -3, 34, 71, 108, 145, 182, 219, 256, 293, 330, 367, 404, 441, 478, -485, -448, -411, -374, -337,
+				-300, -263, -226, -189, -152, -115, -78, -41, -4, 33, 70, 107, 144, 181, 218, 255, 292, 329, 366, 403,
+				440, 477, -486, -449, -412, -375, -338, -301, -264, -227, -190, -153, -116, -79, -42, -5, 32, 69, 106, 143,
+				180, 217, 254, 291, 328, 365, 402, 439, 476, -487, -450, -413, -376, -339, -302, -265, -228, -191, -154, -117,
+				-80, -43, -6, 31, 68, 105, 142, 179, 216, 253, 290, 327, 364, 401, 438, 475, -488, -451, -414, -377,
+				-340, -303, -266, -229, -192, -155, -118, -81, -44, -7, 30, 67, 104, 141, 178, 215, 252, 289, 326, 363,
+				400, 437, 474, -489, -452, -415, -378, -341, -304, -267, -230, -193, -156, -119, -82, -45, -8, 29, 66, 103,
+				140, 177, 214, 251, 288, 325, 362, 399, 436, 473, -490, -453, -416, -379, -342, -305, -268, -231, -194, -157,
+				-120, -83, -46, -9, 28, 65, 102, 139, 176, 213, 250, 287, 324, 361, 398, 435, 472, -491, -454, -417,
+				-380, -343, -306, -269, -232, -195, -158, -121, -84, -47, -10, 27, 64, 101, 138, 175, 212, 249, 286, 323,
+				360, 397, 434, 471, -492, -455, -418, -381, -344, -307, -270, -233, -196, -159, -122, -85, -48, -11, 26, 63,
+				100, 137, 174, 211, 248, 285, 322, 359, 396, 433, 470, -493, -456, -419, -382, -345, -308, -271, -234, -197,
+				-160, -123, -86, -49, -12, 25, 62, 99, 136, 173, 210, 247, 284, 321, 358, 395, 432, 469, -494, -457,
+				-420, -383, -346, -309, -272, -235, -198, -161, -124, -87, -50, -13, 24, 61, 98, 135, 172, 209, 246, 283,
+				320, 357, 394, 431, 468, -495, -458, -421, -384, -347, -310, -273, -236, -199, -162, -125, -88, -51, -14, 23,
+				60, 97, 134, 171, 208, 245, 282, 319, 356, 393, 430, 467, -496, -459, -422, -385, -348, -311, -274, -237,
+				-200, -163, -126, -89, -52, -15, 22, 59, 96, 133, 170, 207, 244, 281, 318, 355, 392, 429, 466, -497,
+				-460, -423, -386, -349, -312, -275, -238, -201, -164, -127, -90, -53, -16, 21, 58, 95, 132, 169, 206, 243,
+				280, 317, 354, 391, 428, 465, -498, -461, -424, -387, -350, -313, -276, -239, -202, -165, -128, -91, -54, -17,
+				20, 57, 94, 131, 168, 205, 242, 279, 316, 353, 390, 427, 464, -499, -462, -425, -388, -351, -314, -277,
+				-240, -203, -166, -129, -92, -55, -18, 19, 56, 93, 130, 167, 204, 241, 278, 315, 352, 389, 426, 463,
+				-500, -463, -426, -389, -352, -315, -278, -241, -204, -167, -130, -93, -56, -19, 18, 55, 92, 129, 166, 203,
+				240, 277, 314, 351, 388, 425, 462, 499, -464, -427, -390, -353, -316, -279, -242, -205, -168, -131, -94, -57,
+				-20, 17, 54, 91, 128, 165, 202, 239, 276, 313, 350, 387, 424, 461, 498, -465, -428, -391, -354, -317,
+				-280, -243, -206, -169, -132, -95, -58, -21, 16, 53, 90, 127, 164, 201, 238, 275, 312, 349, 386, 423,
+				460, 497, -466, -429, -392, -355, -318, -281, -244, -207, -170, -133, -96, -59, -22, 15, 52, 89, 126, 163,
+				200, 237, 274, 311, 348, 385, 422, 459, 496, -467, -430, -393, -356, -319, -282, -245, -208, -171, -134, -97,
+				-60, -23, 14, 51, 88, 125, 162, 199, 236, 273, 310, 347, 384, 421, 458, 495, -468, -431, -394, -357,
+				-320, -283, -246, -209, -172, -135, -98, -61, -24, 13, 50, 87, 124, 161, 198, 235, 272, 309, 346, 383,
+				420, 457, 494, -469, -432, -395, -358, -321, -284, -247, -210, -173, -136, -99, -62, -25, 12, 49, 86, 123,
+				160, 197, 234, 271, 308, 345, 382, 419, 456, 493, -470, -433, -396, -359, -322, -285, -248, -211, -174, -137,
+				-100, -63, -26, 11, 48, 85, 122, 159, 196, 233, 270, 307, 344, 381, 418, 455, 492, -471, -434, -397,
+				-360, -323, -286, -249, -212, -175, -138, -101, -64, -27, 10, 47, 84, 121, 158, 195, 232, 269, 306, 343,
+				380, 417, 454, 491, -472, -435, -398, -361, -324, -287, -250, -213, -176, -139, -102, -65, -28, 9, 46, 83,
+				120, 157, 194, 231, 268, 305, 342, 379, 416, 453, 490, -473, -436, -399, -362, -325, -288, -251, -214, -177,
+				-140, -103, -66, -29, 8, 45, 82, 119, 156, 193, 230, 267, 304, 341, 378, 415, 452, 489, -474, -437,
+				-400, -363, -326, -289, -252, -215, -178, -141, -104, -67, -30, 7, 44, 81, 118, 155, 192, 229, 266, 303,
+				340, 377, 414, 451, 488, -475, -438, -401, -364, -327, -290, -253, -216, -179, -142, -105, -68, -31, 6, 43,
+				80, 117, 154, 191, 228, 265, 302, 339, 376, 413, 450, 487, -476, -439, -402, -365, -328, -291, -254, -217,
+				-180, -143, -106, -69, -32, 5, 42, 79, 116, 153, 190, 227, 264, 301, 338, 375, 412, 449, 486, -477,
+				-440, -403, -366, -329, -292, -255, -218, -181, -144, -107, -70, -33, 4, 41, 78, 115, 152, 189, 226, 263,
+				300, 337, 374, 411, 448, 485, -478, -441, -404, -367, -330, -293, -256, -219, -182, -145, -108, -71, -34, 3,
+				40, 77, 114, 151, 188, 225, 262, 299, 336, 373, 410, 447, 484, -479, -442, -405, -368, -331, -294, -257,
+				-220, -183, -146, -109, -72, -35, 2, 39, 76, 113, 150, 187, 224, 261, 298, 335, 372, 409, 446, 483,
+				-480, -443, -406, -369, -332, -295, -258, -221, -184, -147, -110, -73, -36, 1, 38, 75, 112, 149, 186, 223,
+				260, 297, 334, 371, 408, 445, 482, -481, -444, -407, -370, -333, -296, -259, -222, -185, -148, -111, -74, -37,
+				0, 37, 74, 111, 148, 185, 222, 259, 296, 333, 370, 407, 444, 481, -482, -445, -408, -371, -334, -297,
+				-260, -223, -186, -149, -112, -75, -38, -1, 36, 73, 110, 147, 184, 221, 258, 295, 332, 369, 406, 443,
+				480, -483, -446, -409, -372, -335, -298, -261, -224, -187, -150, -113, -76, -39, -2, 35, 72, 109, 146, 183,
+				220, 257, 294, 331, 368, 405, 442, 479, -484, -447, -410, -373, -336, -299, -262, -225, -188, -151, -114, -77,
+				-40, -3, 34, 71, 108, 145, 182, 219, 256, 293, 330, 367, 404, 441, 478, -485, -448, -411, -374, -337,
+				-300, -263, -226, -189, -152, -115, -78, -41, -4, 33, 70, 107, 144, 181, 218, 255, 292, 329, 366, 403,
+				440, 477, -486, -449, -412, -375, -338, -301, -264, -227, -190, -153, -116, -79, -42, -5, 32, 69, 106, 143,
+				180, 217, 254, 291, 328, 365, 402, 439, 476, -487, -450, -413, -376, -339, -302, -265, -228, -191, -154, -117,
+				-80, -43, -6, 31, 68, 105, 142, 179, 216, 253, 290, 327, 364, 401, 438, 475, -488, -451, -414, -377,
+				-340, -303, -266, -229, -192, -155, -118, -81, -44, -7, 30, 67, 104, 141, 178, 215, 252, 289, 326, 363,
+				400, 437, 474, -489, -452, -415, -378, -341, -304, -267, -230, -193, -156, -119, -82, -45, -8, 29, 66, 103,
+				140, 177, 214, 251, 288, 325, 362, 399, 436, 473, -490, -453, -416, -379, -342, -305, -268, -231, -194, -157,
+				-120, -83, -46, -9, 28, 65, 102, 139, 176, 213, 250, 287, 324, 361, 398, 435, 472, -491, -454, -417,
+				-380, -343, -306, -269, -232, -195, -158, -121, -84, -47, -10, 27, 64, 101, 138, 175, 212, 249, 286, 323,
+				360, 397, 434, 471, -492, -455, -418, -381, -344, -307, -270, -233, -196, -159, -122, -85, -48, -11, 26, 63,
+				100, 137, 174, 211, 248, 285, 322, 359, 396, 433, 470, -493, -456, -419, -382, -345, -308, -271, -234, -197,
+				-160, -123, -86, -49, -12, 25, 62, 99, 136, 173, 210, 247, 284, 321, 358, 395, 432, 469, -494, -457,
+				-420, -383, -346, -309, -272, -235, -198, -161, -124, -87, -50, -13, 24, 61, 98, 135, 172, 209, 246, 283,
+				320, 357, 394, 431, 468, -495, -458, -421, -384, -347, -310, -273, -236, -199, -162, -125, -88, -51, -14, 23,
+				60, 97, 134, 171, 208, 245, 282, 319, 356, 393, 430, 467, -496, -459, -422, -385, -348, -311, -274, -237,
+				-200, -163, -126, -89, -52, -15, 22, 59, 96, 133, 170, 207, 244, 281, 318, 355, 392, 429, 466, -497,
+				-460, -423, -386, -349, -312, -275, -238, -201, -164, -127, -90, -53, -16, 21, 58, 95, 132, 169, 206, 243,
+				280, 317, 354, 391, 428, 465, -498, -461, -424, -387, -350, -313, -276, -239, -202, -165, -128, -91, -54, -17,
+				20, 57, 94, 131, 168, 205, 242, 279, 316, 353, 390, 427, 464, -499, -462, -425, -388, -351, -314, -277,
+				-240, -203, -166, -129, -92, -55, -18, 19, 56, 93, 130, 167, 204, 241, 278, 315, 352, 389, 426, 463,
+				-500, -463, -426, -389, -352, -315, -278, -241, -204, -167, -130, -93, -56, -19, 18, 55, 92, 129, 166, 203,
+				240, 277, 314, 351, 388, 425, 462, 499, -464, -427, -390, -353, -316, -279, -242, -205, -168, -131, -94, -57,
+				-20, 17, 54, 91, 128, 165, 202, 239, 276, 313, 350, 387, 424, 461, 498, -465, -428, -391, -354, -317,
+				-280, -243, -206, -169, -132, -95, -58, -21, 16, 53, 90, 127, 164, 201, 238, 275, 312, 349, 386, 423,
+				460, 497, -466, -429, -392, -355, -318, -281, -244, -207, -170, -133, -96, -59, -22, 15, 52, 89, 126, 163,
+				200, 237, 274, 311, 348, 385, 422, 459, 496, -467, -430, -393, -356, -319, -282, -245, -208, -171, -134, -97,
+				-60, -23, 14, 51, 88, 125, 162, 199, 236, 273, 310, 347, 384, 421, 458, 495, -468, -431, -394, -357,
+				-320, -283, -246, -209, -172, -135, -98, -61, -24, 13, 50, 87, 124, 161, 198, 235, 272, 309, 346, 383,
+				420, 457, 494, -469, -432, -395, -358, -321, -284, -247, -210, -173, -136, -99, -62, -25, 12, 49, 86, 123,
+				160, 197, 234, 271, 308, 345, 382, 419, 456, 493, -470, -433, -396, -359, -322, -285, -248, -211, -174, -137,
+				-100, -63, -26, 11, 48, 85, 122, 159, 196, 233, 270, 307, 344, 381, 418, 455, 492, -471, -434, -397,
+				-360, -323, -286, -249, -212, -175, -138, -101, -64, -27, 10, 47, 84, 121, 158, 195, 232, 269, 306, 343,
+				380, 417, 454, 491, -472, -435, -398, -361, -324, -287, -250, -213, -176, -139, -102, -65, -28, 9, 46, 83,
+				120, 157, 194, 231, 268, 305, 342, 379, 416, 453, 490, -473, -436, -399, -362, -325, -288, -251, -214, -177,
+				-140, -103, -66, -29, 8, 45, 82, 119, 156, 193, 230, 267, 304, 341, 378, 415, 452, 489, -474, -437,
+				-400, -363, -326, -289, -252, -215, -178, -141, -104, -67, -30, 7, 44, 81, 118, 155, 192, 229, 266, 303,
+				340, 377, 414, 451, 488, -475, -438, -401, -364, -327, -290, -253, -216, -179, -142, -105, -68, -31, 6, 43,
+				80, 117, 154, 191, 228, 265, 302, 339, 376, 413, 450, 487, -476, -439, -402, -365, -328, -291, -254, -217,
+				-180, -143, -106, -69, -32, 5, 42, 79, 116, 153, 190, 227, 264, 301, 338, 375, 412, 449, 486, -477,
+				-440, -403, -366, -329, -292, -255, -218, -181, -144, -107, -70, -33, 4, 41, 78, 115, 152, 189, 226, 263,
+				300, 337, 374, 411, 448, 485, -478, -441, -404, -367, -330, -293, -256, -219, -182, -145, -108, -71, -34, 3,
+				40, 77, 114, 151, 188, 225, 262, 299, 336, 373, 410, 447, 484, -479, -442, -405, -368, -331, -294, -257,
+				-220, -183, -146, -109, -72, -35, 2, 39, 76, 113, 150, 187, 224, 261, 298, 335, 372, 409, 446, 483,
+				-480, -443, -406, -369, -332, -295, -258, -221, -184, -147, -110, -73, -36, 1, 38, 75, 112, 149, 186, 223,
+				260, 297, 334, 371, 408, 445, 482, -481, -444, -407, -370, -333, -296, -259, -222, -185, -148, -111, -74, -37,
+				0, 37, 74, 111, 148, 185, 222, 259, 296, 333, 370, 407, 444, 481, -482, -445, -408, -371, -334, -297,
+				-260, -223, -186, -149, -112, -75, -38, -1, 36, 73, 110, 147, 184, 221, 258, 295, 332, 369, 406, 443,
+				480, -483, -446, -409, -372, -335, -298, -261, -224, -187, -150, -113, -76, -39, -2, 35, 72, 109, 146, 183,
+				220, 257, 294, 331, 368, 405, 442, 479, -484, -447, -410, -373, -336, -299, -262, -225, -188, -151, -114, -77,
+				-40, -3, 34, 71, 108, 145, 182, 219, 256, 293, 330, 367, 404, 441, 478, -485, -448, -411, -374, -337,
+				-300, -263, -226, -189, -152, -115, -78, -41, -4, 33, 70, 107, 144, 181, 218, 255, 292, 329, 366, 403,
+				440, 477, -486, -449, -412, -375, -338, -301, -264, -227, -190, -153, -116, -79, -42, -5, 32, 69, 106, 143,
+				180, 217, 254, 291, 328, 365, 402, 439, 476, -487, -450, -413, -376, -339, -302, -265, -228, -191, -154, -117,
+				-80, -43, -6, 31, 68, 105, 142, 179, 216, 253, 290, 327, 364, 401, 438, 475, -488, -451, -414, -377,
+				-340, -303, -266, -229, -192, -155, -118, -81, -44, -7, 30, 67, 104, 141, 178, 215, 252, 289, 326, 363,
+				400, 437, 474, -489, -452, -415, -378, -341, -304, -267, -230, -193, -156, -119, -82, -45, -8, 29, 66, 103,
+				140, 177, 214, 251, 288, 325, 362, 399, 436, 473, -490, -453, -416, -379, -342, -305, -268, -231, -194, -157,
+				-120, -83, -46, -9, 28, 65, 102, 139, 176, 213, 250, 287, 324, 361, 398, 435, 472, -491, -454, -417,
+				-380, -343, -306, -269, -232, -195, -158, -121, -84, -47, -10, 27, 64, 101, 138, 175, 212, 249, 286, 323,
+				360, 397, 434, 471, -492, -455, -418, -381, -344, -307, -270, -233, -196, -159, -122, -85, -48, -11, 26, 63,
+				100, 137, 174, 211, 248, 285, 322, 359, 396, 433, 470, -493, -456, -419, -382, -345, -308, -271, -234, -197,
+				-160, -123, -86, -49, -12, 25, 62, 99, 136, 173, 210, 247, 284, 321, 358, 395, 432, 469, -494, -457,
+				-420, -383, -346, -309, -272, -235, -198, -161, -124, -87, -50, -13, 24, 61, 98, 135, 172, 209, 246, 283,
+				320, 357, 394, 431, 468, -495, -458, -421, -384, -347, -310, -273, -236, -199, -162, -125, -88, -51, -14, 23,
+				60, 97, 134, 171, 208, 245, 282, 319, 356, 393, 430, 467, -496, -459, -422, -385, -348, -311, -274, -237,
+				-200, -163, -126, -89, -52, -15, 22, 59, 96, 133, 170, 207, 244, 281, 318, 355, 392, 429, 466, -497,
+				-460, -423, -386, -349, -312, -275, -238, -201, -164, -127, -90, -53, -16, 21, 58, 95, 132, 169, 206, 243,
+				280, 317, 354, 391, 428, 465, -498, -461, -424, -387, -350, -313, -276, -239, -202, -165, -128, -91, -54, -17,
+				20, 57, 94, 131, 168, 205, 242, 279, 316, 353, 390, 427, 464, -499, -462, -425, -388, -351, -314, -277,
+				-240, -203, -166, -129, -92, -55, -18, 19, 56, 93, 130, 167, 204, 241, 278, 315, 352, 389, 426, 463,
+		};
+
+		public static String s0 = "s0", s1 = "s1", s2 = "s2", s3 = "s3", s4 = "s4";
+		public static String s5 = "s5", s6 = "s6", s7 = "s7", s8 = "s8", s9 = "s9";
+		public static String s10 = "s10", s11 = "s11", s12 = "s12", s13 = "s13", s14 = "s14";
+		public static String s15 = "s15", s16 = "s16", s17 = "s17", s18 = "s18", s19 = "s19";
+		public static String s20 = "s20", s21 = "s21", s22 = "s22", s23 = "s23", s24 = "s24";
+		public static String s25 = "s25", s26 = "s26", s27 = "s27", s28 = "s28", s29 = "s29";
+		public static String s30 = "s30", s31 = "s31", s32 = "s32", s33 = "s33", s34 = "s34";
+		public static String s35 = "s35", s36 = "s36", s37 = "s37", s38 = "s38", s39 = "s39";
+		public static String s40 = "s40", s41 = "s41", s42 = "s42", s43 = "s43", s44 = "s44";
+		public static String s45 = "s45", s46 = "s46", s47 = "s47", s48 = "s48", s49 = "s49";
+		public static String s50 = "s50", s51 = "s51", s52 = "s52", s53 = "s53", s54 = "s54";
+		public static String s55 = "s55", s56 = "s56", s57 = "s57", s58 = "s58", s59 = "s59";
+		public static String s60 = "s60", s61 = "s61", s62 = "s62", s63 = "s63", s64 = "s64";
+		public static String s65 = "s65", s66 = "s66", s67 = "s67", s68 = "s68", s69 = "s69";
+		public static String s70 = "s70", s71 = "s71", s72 = "s72", s73 = "s73", s74 = "s74";
+		public static String s75 = "s75", s76 = "s76", s77 = "s77", s78 = "s78", s79 = "s79";
+		public static String s80 = "s80", s81 = "s81", s82 = "s82", s83 = "s83", s84 = "s84";
+		public static String s85 = "s85", s86 = "s86", s87 = "s87", s88 = "s88", s89 = "s89";
+		public static String s90 = "s90", s91 = "s91", s92 = "s92", s93 = "s93", s94 = "s94";
+		public static String s95 = "s95", s96 = "s96", s97 = "s97", s98 = "s98", s99 = "s99";
+		public static String s100 = "s100", s101 = "s101", s102 = "s102", s103 = "s103", s104 = "s104";
+		public static String s105 = "s105", s106 = "s106", s107 = "s107", s108 = "s108", s109 = "s109";
+		public static String s110 = "s110", s111 = "s111", s112 = "s112", s113 = "s113", s114 = "s114";
+		public static String s115 = "s115", s116 = "s116", s117 = "s117", s118 = "s118", s119 = "s119";
+		public static String s120 = "s120", s121 = "s121", s122 = "s122", s123 = "s123", s124 = "s124";
+		public static String s125 = "s125", s126 = "s126", s127 = "s127", s128 = "s128", s129 = "s129";
+		public static String s130 = "s130", s131 = "s131", s132 = "s132", s133 = "s133", s134 = "s134";
+		public static String s135 = "s135", s136 = "s136", s137 = "s137", s138 = "s138", s139 = "s139";
+		public static String s140 = "s140", s141 = "s141", s142 = "s142", s143 = "s143", s144 = "s144";
+		public static String s145 = "s145", s146 = "s146", s147 = "s147", s148 = "s148", s149 = "s149";
+		public static String s150 = "s150", s151 = "s151", s152 = "s152", s153 = "s153", s154 = "s154";
+		public static String s155 = "s155", s156 = "s156", s157 = "s157", s158 = "s158", s159 = "s159";
+		public static String s160 = "s160", s161 = "s161", s162 = "s162", s163 = "s163", s164 = "s164";
+		public static String s165 = "s165", s166 = "s166", s167 = "s167", s168 = "s168", s169 = "s169";
+		public static String s170 = "s170", s171 = "s171", s172 = "s172", s173 = "s173", s174 = "s174";
+		public static String s175 = "s175", s176 = "s176", s177 = "s177", s178 = "s178", s179 = "s179";
+		public static String s180 = "s180", s181 = "s181", s182 = "s182", s183 = "s183", s184 = "s184";
+		public static String s185 = "s185", s186 = "s186", s187 = "s187", s188 = "s188", s189 = "s189";
+		public static String s190 = "s190", s191 = "s191", s192 = "s192", s193 = "s193", s194 = "s194";
+		public static String s195 = "s195", s196 = "s196", s197 = "s197", s198 = "s198", s199 = "s199";
+		public static String s200 = "s200", s201 = "s201", s202 = "s202", s203 = "s203", s204 = "s204";
+		public static String s205 = "s205", s206 = "s206", s207 = "s207", s208 = "s208", s209 = "s209";
+		public static String s210 = "s210", s211 = "s211", s212 = "s212", s213 = "s213", s214 = "s214";
+		public static String s215 = "s215", s216 = "s216", s217 = "s217", s218 = "s218", s219 = "s219";
+		public static String s220 = "s220", s221 = "s221", s222 = "s222", s223 = "s223", s224 = "s224";
+		public static String s225 = "s225", s226 = "s226", s227 = "s227", s228 = "s228", s229 = "s229";
+		public static String s230 = "s230", s231 = "s231", s232 = "s232", s233 = "s233", s234 = "s234";
+		public static String s235 = "s235", s236 = "s236", s237 = "s237", s238 = "s238", s239 = "s239";
+		public static String s240 = "s240", s241 = "s241", s242 = "s242", s243 = "s243", s244 = "s244";
+		public static String s245 = "s245", s246 = "s246", s247 = "s247", s248 = "s248", s249 = "s249";
+		public static String s250 = "s250", s251 = "s251", s252 = "s252", s253 = "s253", s254 = "s254";
+		public static String s255 = "s255", s256 = "s256", s257 = "s257", s258 = "s258", s259 = "s259";
+		public static String s260 = "s260", s261 = "s261", s262 = "s262", s263 = "s263", s264 = "s264";
+		public static String s265 = "s265", s266 = "s266", s267 = "s267", s268 = "s268", s269 = "s269";
+		public static String s270 = "s270", s271 = "s271", s272 = "s272", s273 = "s273", s274 = "s274";
+		public static String s275 = "s275", s276 = "s276", s277 = "s277", s278 = "s278", s279 = "s279";
+		public static String s280 = "s280", s281 = "s281", s282 = "s282", s283 = "s283", s284 = "s284";
+		public static String s285 = "s285", s286 = "s286", s287 = "s287", s288 = "s288", s289 = "s289";
+		public static String s290 = "s290", s291 = "s291", s292 = "s292", s293 = "s293", s294 = "s294";
+		public static String s295 = "s295", s296 = "s296", s297 = "s297", s298 = "s298", s299 = "s299";
+		public static String s300 = "s300", s301 = "s301", s302 = "s302", s303 = "s303", s304 = "s304";
+		public static String s305 = "s305", s306 = "s306", s307 = "s307", s308 = "s308", s309 = "s309";
+		public static String s310 = "s310", s311 = "s311", s312 = "s312", s313 = "s313", s314 = "s314";
+		public static String s315 = "s315", s316 = "s316", s317 = "s317", s318 = "s318", s319 = "s319";
+		public static String s320 = "s320", s321 = "s321", s322 = "s322", s323 = "s323", s324 = "s324";
+		public static String s325 = "s325", s326 = "s326", s327 = "s327", s328 = "s328", s329 = "s329";
+		public static String s330 = "s330", s331 = "s331", s332 = "s332", s333 = "s333", s334 = "s334";
+		public static String s335 = "s335", s336 = "s336", s337 = "s337", s338 = "s338", s339 = "s339";
+		public static String s340 = "s340", s341 = "s341", s342 = "s342", s343 = "s343", s344 = "s344";
+		public static String s345 = "s345", s346 = "s346", s347 = "s347", s348 = "s348", s349 = "s349";
+		public static String s350 = "s350", s351 = "s351", s352 = "s352", s353 = "s353", s354 = "s354";
+		public static String s355 = "s355", s356 = "s356", s357 = "s357", s358 = "s358", s359 = "s359";
+		public static String s360 = "s360", s361 = "s361", s362 = "s362", s363 = "s363", s364 = "s364";
+		public static String s365 = "s365", s366 = "s366", s367 = "s367", s368 = "s368", s369 = "s369";
+		public static String s370 = "s370", s371 = "s371", s372 = "s372", s373 = "s373", s374 = "s374";
+		public static String s375 = "s375", s376 = "s376", s377 = "s377", s378 = "s378", s379 = "s379";
+		public static String s380 = "s380", s381 = "s381", s382 = "s382", s383 = "s383", s384 = "s384";
+		public static String s385 = "s385", s386 = "s386", s387 = "s387", s388 = "s388", s389 = "s389";
+		public static String s390 = "s390", s391 = "s391", s392 = "s392", s393 = "s393", s394 = "s394";
+		public static String s395 = "s395", s396 = "s396", s397 = "s397", s398 = "s398", s399 = "s399";
+		public static String s400 = "s400", s401 = "s401", s402 = "s402", s403 = "s403", s404 = "s404";
+		public static String s405 = "s405", s406 = "s406", s407 = "s407", s408 = "s408", s409 = "s409";
+		public static String s410 = "s410", s411 = "s411", s412 = "s412", s413 = "s413", s414 = "s414";
+		public static String s415 = "s415", s416 = "s416", s417 = "s417", s418 = "s418", s419 = "s419";
+		public static String s420 = "s420", s421 = "s421", s422 = "s422", s423 = "s423", s424 = "s424";
+		public static String s425 = "s425", s426 = "s426", s427 = "s427", s428 = "s428", s429 = "s429";
+		public static String s430 = "s430", s431 = "s431", s432 = "s432", s433 = "s433", s434 = "s434";
+		public static String s435 = "s435", s436 = "s436", s437 = "s437", s438 = "s438", s439 = "s439";
+		public static String s440 = "s440", s441 = "s441", s442 = "s442", s443 = "s443", s444 = "s444";
+		public static String s445 = "s445", s446 = "s446", s447 = "s447", s448 = "s448", s449 = "s449";
+		public static String s450 = "s450", s451 = "s451", s452 = "s452", s453 = "s453", s454 = "s454";
+		public static String s455 = "s455", s456 = "s456", s457 = "s457", s458 = "s458", s459 = "s459";
+		public static String s460 = "s460", s461 = "s461", s462 = "s462", s463 = "s463", s464 = "s464";
+		public static String s465 = "s465", s466 = "s466", s467 = "s467", s468 = "s468", s469 = "s469";
+		public static String s470 = "s470", s471 = "s471", s472 = "s472", s473 = "s473", s474 = "s474";
+		public static String s475 = "s475", s476 = "s476", s477 = "s477", s478 = "s478", s479 = "s479";
+		public static String s480 = "s480", s481 = "s481", s482 = "s482", s483 = "s483", s484 = "s484";
+		public static String s485 = "s485", s486 = "s486", s487 = "s487", s488 = "s488", s489 = "s489";
+		public static String s490 = "s490", s491 = "s491", s492 = "s492", s493 = "s493", s494 = "s494";
+		public static String s495 = "s495", s496 = "s496", s497 = "s497", s498 = "s498", s499 = "s499";
+		public static String s500 = "s500", s501 = "s501", s502 = "s502", s503 = "s503", s504 = "s504";
+		public static String s505 = "s505", s506 = "s506", s507 = "s507", s508 = "s508", s509 = "s509";
+		public static String s510 = "s510", s511 = "s511", s512 = "s512", s513 = "s513", s514 = "s514";
+		public static String s515 = "s515", s516 = "s516", s517 = "s517", s518 = "s518", s519 = "s519";
+		public static String s520 = "s520", s521 = "s521", s522 = "s522", s523 = "s523", s524 = "s524";
+		public static String s525 = "s525", s526 = "s526", s527 = "s527", s528 = "s528", s529 = "s529";
+		public static String s530 = "s530", s531 = "s531", s532 = "s532", s533 = "s533", s534 = "s534";
+		public static String s535 = "s535", s536 = "s536", s537 = "s537", s538 = "s538", s539 = "s539";
+		public static String s540 = "s540", s541 = "s541", s542 = "s542", s543 = "s543", s544 = "s544";
+		public static String s545 = "s545", s546 = "s546", s547 = "s547", s548 = "s548", s549 = "s549";
+		public static String s550 = "s550", s551 = "s551", s552 = "s552", s553 = "s553", s554 = "s554";
+		public static String s555 = "s555", s556 = "s556", s557 = "s557", s558 = "s558", s559 = "s559";
+		public static String s560 = "s560", s561 = "s561", s562 = "s562", s563 = "s563", s564 = "s564";
+		public static String s565 = "s565", s566 = "s566", s567 = "s567", s568 = "s568", s569 = "s569";
+		public static String s570 = "s570", s571 = "s571", s572 = "s572", s573 = "s573", s574 = "s574";
+		public static String s575 = "s575", s576 = "s576", s577 = "s577", s578 = "s578", s579 = "s579";
+		public static String s580 = "s580", s581 = "s581", s582 = "s582", s583 = "s583", s584 = "s584";
+		public static String s585 = "s585", s586 = "s586", s587 = "s587", s588 = "s588", s589 = "s589";
+		public static String s590 = "s590", s591 = "s591", s592 = "s592", s593 = "s593", s594 = "s594";
+		public static String s595 = "s595", s596 = "s596", s597 = "s597", s598 = "s598", s599 = "s599";
+		public static String s600 = "s600", s601 = "s601", s602 = "s602", s603 = "s603", s604 = "s604";
+		public static String s605 = "s605", s606 = "s606", s607 = "s607", s608 = "s608", s609 = "s609";
+		public static String s610 = "s610", s611 = "s611", s612 = "s612", s613 = "s613", s614 = "s614";
+		public static String s615 = "s615", s616 = "s616", s617 = "s617", s618 = "s618", s619 = "s619";
+		public static String s620 = "s620", s621 = "s621", s622 = "s622", s623 = "s623", s624 = "s624";
+		public static String s625 = "s625", s626 = "s626", s627 = "s627", s628 = "s628", s629 = "s629";
+		public static String s630 = "s630", s631 = "s631", s632 = "s632", s633 = "s633", s634 = "s634";
+		public static String s635 = "s635", s636 = "s636", s637 = "s637", s638 = "s638", s639 = "s639";
+		public static String s640 = "s640", s641 = "s641", s642 = "s642", s643 = "s643", s644 = "s644";
+		public static String s645 = "s645", s646 = "s646", s647 = "s647", s648 = "s648", s649 = "s649";
+		public static String s650 = "s650", s651 = "s651", s652 = "s652", s653 = "s653", s654 = "s654";
+		public static String s655 = "s655", s656 = "s656", s657 = "s657", s658 = "s658", s659 = "s659";
+		public static String s660 = "s660", s661 = "s661", s662 = "s662", s663 = "s663", s664 = "s664";
+		public static String s665 = "s665", s666 = "s666", s667 = "s667", s668 = "s668", s669 = "s669";
+		public static String s670 = "s670", s671 = "s671", s672 = "s672", s673 = "s673", s674 = "s674";
+		public static String s675 = "s675", s676 = "s676", s677 = "s677", s678 = "s678", s679 = "s679";
+		public static String s680 = "s680", s681 = "s681", s682 = "s682", s683 = "s683", s684 = "s684";
+		public static String s685 = "s685", s686 = "s686", s687 = "s687", s688 = "s688", s689 = "s689";
+		public static String s690 = "s690", s691 = "s691", s692 = "s692", s693 = "s693", s694 = "s694";
+		public static String s695 = "s695", s696 = "s696", s697 = "s697", s698 = "s698", s699 = "s699";
+		public static String s700 = "s700", s701 = "s701", s702 = "s702", s703 = "s703", s704 = "s704";
+		public static String s705 = "s705", s706 = "s706", s707 = "s707", s708 = "s708", s709 = "s709";
+		public static String s710 = "s710", s711 = "s711", s712 = "s712", s713 = "s713", s714 = "s714";
+		public static String s715 = "s715", s716 = "s716", s717 = "s717", s718 = "s718", s719 = "s719";
+		public static String s720 = "s720", s721 = "s721", s722 = "s722", s723 = "s723", s724 = "s724";
+		public static String s725 = "s725", s726 = "s726", s727 = "s727", s728 = "s728", s729 = "s729";
+		public static String s730 = "s730", s731 = "s731", s732 = "s732", s733 = "s733", s734 = "s734";
+		public static String s735 = "s735", s736 = "s736", s737 = "s737", s738 = "s738", s739 = "s739";
+		public static String s740 = "s740", s741 = "s741", s742 = "s742", s743 = "s743", s744 = "s744";
+		public static String s745 = "s745", s746 = "s746", s747 = "s747", s748 = "s748", s749 = "s749";
+		public static String s750 = "s750", s751 = "s751", s752 = "s752", s753 = "s753", s754 = "s754";
+		public static String s755 = "s755", s756 = "s756", s757 = "s757", s758 = "s758", s759 = "s759";
+		public static String s760 = "s760", s761 = "s761", s762 = "s762", s763 = "s763", s764 = "s764";
+		public static String s765 = "s765", s766 = "s766", s767 = "s767", s768 = "s768", s769 = "s769";
+		public static String s770 = "s770", s771 = "s771", s772 = "s772", s773 = "s773", s774 = "s774";
+		public static String s775 = "s775", s776 = "s776", s777 = "s777", s778 = "s778", s779 = "s779";
+		public static String s780 = "s780", s781 = "s781", s782 = "s782", s783 = "s783", s784 = "s784";
+		public static String s785 = "s785", s786 = "s786", s787 = "s787", s788 = "s788", s789 = "s789";
+		public static String s790 = "s790", s791 = "s791", s792 = "s792", s793 = "s793", s794 = "s794";
+		public static String s795 = "s795", s796 = "s796", s797 = "s797", s798 = "s798", s799 = "s799";
+		public static String s800 = "s800", s801 = "s801", s802 = "s802", s803 = "s803", s804 = "s804";
+		public static String s805 = "s805", s806 = "s806", s807 = "s807", s808 = "s808", s809 = "s809";
+		public static String s810 = "s810", s811 = "s811", s812 = "s812", s813 = "s813", s814 = "s814";
+		public static String s815 = "s815", s816 = "s816", s817 = "s817", s818 = "s818", s819 = "s819";
+		public static String s820 = "s820", s821 = "s821", s822 = "s822", s823 = "s823", s824 = "s824";
+		public static String s825 = "s825", s826 = "s826", s827 = "s827", s828 = "s828", s829 = "s829";
+		public static String s830 = "s830", s831 = "s831", s832 = "s832", s833 = "s833", s834 = "s834";
+		public static String s835 = "s835", s836 = "s836", s837 = "s837", s838 = "s838", s839 = "s839";
+		public static String s840 = "s840", s841 = "s841", s842 = "s842", s843 = "s843", s844 = "s844";
+		public static String s845 = "s845", s846 = "s846", s847 = "s847", s848 = "s848", s849 = "s849";
+		public static String s850 = "s850", s851 = "s851", s852 = "s852", s853 = "s853", s854 = "s854";
+		public static String s855 = "s855", s856 = "s856", s857 = "s857", s858 = "s858", s859 = "s859";
+		public static String s860 = "s860", s861 = "s861", s862 = "s862", s863 = "s863", s864 = "s864";
+		public static String s865 = "s865", s866 = "s866", s867 = "s867", s868 = "s868", s869 = "s869";
+		public static String s870 = "s870", s871 = "s871", s872 = "s872", s873 = "s873", s874 = "s874";
+		public static String s875 = "s875", s876 = "s876", s877 = "s877", s878 = "s878", s879 = "s879";
+		public static String s880 = "s880", s881 = "s881", s882 = "s882", s883 = "s883", s884 = "s884";
+		public static String s885 = "s885", s886 = "s886", s887 = "s887", s888 = "s888", s889 = "s889";
+		public static String s890 = "s890", s891 = "s891", s892 = "s892", s893 = "s893", s894 = "s894";
+		public static String s895 = "s895", s896 = "s896", s897 = "s897", s898 = "s898", s899 = "s899";
+		public static String s900 = "s900", s901 = "s901", s902 = "s902", s903 = "s903", s904 = "s904";
+		public static String s905 = "s905", s906 = "s906", s907 = "s907", s908 = "s908", s909 = "s909";
+		public static String s910 = "s910", s911 = "s911", s912 = "s912", s913 = "s913", s914 = "s914";
+		public static String s915 = "s915", s916 = "s916", s917 = "s917", s918 = "s918", s919 = "s919";
+		public static String s920 = "s920", s921 = "s921", s922 = "s922", s923 = "s923", s924 = "s924";
+		public static String s925 = "s925", s926 = "s926", s927 = "s927", s928 = "s928", s929 = "s929";
+		public static String s930 = "s930", s931 = "s931", s932 = "s932", s933 = "s933", s934 = "s934";
+		public static String s935 = "s935", s936 = "s936", s937 = "s937", s938 = "s938", s939 = "s939";
+		public static String s940 = "s940", s941 = "s941", s942 = "s942", s943 = "s943", s944 = "s944";
+		public static String s945 = "s945", s946 = "s946", s947 = "s947", s948 = "s948", s949 = "s949";
+		public static String s950 = "s950", s951 = "s951", s952 = "s952", s953 = "s953", s954 = "s954";
+		public static String s955 = "s955", s956 = "s956", s957 = "s957", s958 = "s958", s959 = "s959";
+		public static String s960 = "s960", s961 = "s961", s962 = "s962", s963 = "s963", s964 = "s964";
+		public static String s965 = "s965", s966 = "s966", s967 = "s967", s968 = "s968", s969 = "s969";
+		public static String s970 = "s970", s971 = "s971", s972 = "s972", s973 = "s973", s974 = "s974";
+		public static String s975 = "s975", s976 = "s976", s977 = "s977", s978 = "s978", s979 = "s979";
+		public static String s980 = "s980", s981 = "s981", s982 = "s982", s983 = "s983", s984 = "s984";
+		public static String s985 = "s985", s986 = "s986", s987 = "s987", s988 = "s988", s989 = "s989";
+		public static String s990 = "s990", s991 = "s991", s992 = "s992", s993 = "s993", s994 = "s994";
+		public static String s995 = "s995", s996 = "s996", s997 = "s997", s998 = "s998", s999 = "s999";
+		public static String s1000 = "s1000", s1001 = "s1001", s1002 = "s1002", s1003 = "s1003", s1004 = "s1004";
+		public static String s1005 = "s1005", s1006 = "s1006", s1007 = "s1007", s1008 = "s1008", s1009 = "s1009";
+		public static String s1010 = "s1010", s1011 = "s1011", s1012 = "s1012", s1013 = "s1013", s1014 = "s1014";
+		public static String s1015 = "s1015", s1016 = "s1016", s1017 = "s1017", s1018 = "s1018", s1019 = "s1019";
+		public static String s1020 = "s1020", s1021 = "s1021", s1022 = "s1022", s1023 = "s1023", s1024 = "s1024";
+		public static String s1025 = "s1025", s1026 = "s1026", s1027 = "s1027", s1028 = "s1028", s1029 = "s1029";
+		public static String s1030 = "s1030", s1031 = "s1031", s1032 = "s1032", s1033 = "s1033", s1034 = "s1034";
+		public static String s1035 = "s1035", s1036 = "s1036", s1037 = "s1037", s1038 = "s1038", s1039 = "s1039";
+		public static String s1040 = "s1040", s1041 = "s1041", s1042 = "s1042", s1043 = "s1043", s1044 = "s1044";
+		public static String s1045 = "s1045", s1046 = "s1046", s1047 = "s1047", s1048 = "s1048", s1049 = "s1049";
+		public static String s1050 = "s1050", s1051 = "s1051", s1052 = "s1052", s1053 = "s1053", s1054 = "s1054";
+		public static String s1055 = "s1055", s1056 = "s1056", s1057 = "s1057", s1058 = "s1058", s1059 = "s1059";
+		public static String s1060 = "s1060", s1061 = "s1061", s1062 = "s1062", s1063 = "s1063", s1064 = "s1064";
+		public static String s1065 = "s1065", s1066 = "s1066", s1067 = "s1067", s1068 = "s1068", s1069 = "s1069";
+		public static String s1070 = "s1070", s1071 = "s1071", s1072 = "s1072", s1073 = "s1073", s1074 = "s1074";
+		public static String s1075 = "s1075", s1076 = "s1076", s1077 = "s1077", s1078 = "s1078", s1079 = "s1079";
+		public static String s1080 = "s1080", s1081 = "s1081", s1082 = "s1082", s1083 = "s1083", s1084 = "s1084";
+		public static String s1085 = "s1085", s1086 = "s1086", s1087 = "s1087", s1088 = "s1088", s1089 = "s1089";
+		public static String s1090 = "s1090", s1091 = "s1091", s1092 = "s1092", s1093 = "s1093", s1094 = "s1094";
+		public static String s1095 = "s1095", s1096 = "s1096", s1097 = "s1097", s1098 = "s1098", s1099 = "s1099";
+		public static String s1100 = "s1100", s1101 = "s1101", s1102 = "s1102", s1103 = "s1103", s1104 = "s1104";
+		public static String s1105 = "s1105", s1106 = "s1106", s1107 = "s1107", s1108 = "s1108", s1109 = "s1109";
+		public static String s1110 = "s1110", s1111 = "s1111", s1112 = "s1112", s1113 = "s1113", s1114 = "s1114";
+		public static String s1115 = "s1115", s1116 = "s1116", s1117 = "s1117", s1118 = "s1118", s1119 = "s1119";
+		public static String s1120 = "s1120", s1121 = "s1121", s1122 = "s1122", s1123 = "s1123", s1124 = "s1124";
+		public static String s1125 = "s1125", s1126 = "s1126", s1127 = "s1127", s1128 = "s1128", s1129 = "s1129";
+		public static String s1130 = "s1130", s1131 = "s1131", s1132 = "s1132", s1133 = "s1133", s1134 = "s1134";
+		public static String s1135 = "s1135", s1136 = "s1136", s1137 = "s1137", s1138 = "s1138", s1139 = "s1139";
+		public static String s1140 = "s1140", s1141 = "s1141", s1142 = "s1142", s1143 = "s1143", s1144 = "s1144";
+		public static String s1145 = "s1145", s1146 = "s1146", s1147 = "s1147", s1148 = "s1148", s1149 = "s1149";
+		public static String s1150 = "s1150", s1151 = "s1151", s1152 = "s1152", s1153 = "s1153", s1154 = "s1154";
+		public static String s1155 = "s1155", s1156 = "s1156", s1157 = "s1157", s1158 = "s1158", s1159 = "s1159";
+		public static String s1160 = "s1160", s1161 = "s1161", s1162 = "s1162", s1163 = "s1163", s1164 = "s1164";
+		public static String s1165 = "s1165", s1166 = "s1166", s1167 = "s1167", s1168 = "s1168", s1169 = "s1169";
+		public static String s1170 = "s1170", s1171 = "s1171", s1172 = "s1172", s1173 = "s1173", s1174 = "s1174";
+		public static String s1175 = "s1175", s1176 = "s1176", s1177 = "s1177", s1178 = "s1178", s1179 = "s1179";
+		public static String s1180 = "s1180", s1181 = "s1181", s1182 = "s1182", s1183 = "s1183", s1184 = "s1184";
+		public static String s1185 = "s1185", s1186 = "s1186", s1187 = "s1187", s1188 = "s1188", s1189 = "s1189";
+		public static String s1190 = "s1190", s1191 = "s1191", s1192 = "s1192", s1193 = "s1193", s1194 = "s1194";
+		public static String s1195 = "s1195", s1196 = "s1196", s1197 = "s1197", s1198 = "s1198", s1199 = "s1199";
+		public static String s1200 = "s1200", s1201 = "s1201", s1202 = "s1202", s1203 = "s1203", s1204 = "s1204";
+		public static String s1205 = "s1205", s1206 = "s1206", s1207 = "s1207", s1208 = "s1208", s1209 = "s1209";
+		public static String s1210 = "s1210", s1211 = "s1211", s1212 = "s1212", s1213 = "s1213", s1214 = "s1214";
+		public static String s1215 = "s1215", s1216 = "s1216", s1217 = "s1217", s1218 = "s1218", s1219 = "s1219";
+		public static String s1220 = "s1220", s1221 = "s1221", s1222 = "s1222", s1223 = "s1223", s1224 = "s1224";
+		public static String s1225 = "s1225", s1226 = "s1226", s1227 = "s1227", s1228 = "s1228", s1229 = "s1229";
+		public static String s1230 = "s1230", s1231 = "s1231", s1232 = "s1232", s1233 = "s1233", s1234 = "s1234";
+		public static String s1235 = "s1235", s1236 = "s1236", s1237 = "s1237", s1238 = "s1238", s1239 = "s1239";
+		public static String s1240 = "s1240", s1241 = "s1241", s1242 = "s1242", s1243 = "s1243", s1244 = "s1244";
+		public static String s1245 = "s1245", s1246 = "s1246", s1247 = "s1247", s1248 = "s1248", s1249 = "s1249";
+		public static String s1250 = "s1250", s1251 = "s1251", s1252 = "s1252", s1253 = "s1253", s1254 = "s1254";
+		public static String s1255 = "s1255", s1256 = "s1256", s1257 = "s1257", s1258 = "s1258", s1259 = "s1259";
+		public static String s1260 = "s1260", s1261 = "s1261", s1262 = "s1262", s1263 = "s1263", s1264 = "s1264";
+		public static String s1265 = "s1265", s1266 = "s1266", s1267 = "s1267", s1268 = "s1268", s1269 = "s1269";
+		public static String s1270 = "s1270", s1271 = "s1271", s1272 = "s1272", s1273 = "s1273", s1274 = "s1274";
+		public static String s1275 = "s1275", s1276 = "s1276", s1277 = "s1277", s1278 = "s1278", s1279 = "s1279";
+		public static String s1280 = "s1280", s1281 = "s1281", s1282 = "s1282", s1283 = "s1283", s1284 = "s1284";
+		public static String s1285 = "s1285", s1286 = "s1286", s1287 = "s1287", s1288 = "s1288", s1289 = "s1289";
+		public static String s1290 = "s1290", s1291 = "s1291", s1292 = "s1292", s1293 = "s1293", s1294 = "s1294";
+		public static String s1295 = "s1295", s1296 = "s1296", s1297 = "s1297", s1298 = "s1298", s1299 = "s1299";
+		public static String s1300 = "s1300", s1301 = "s1301", s1302 = "s1302", s1303 = "s1303", s1304 = "s1304";
+		public static String s1305 = "s1305", s1306 = "s1306", s1307 = "s1307", s1308 = "s1308", s1309 = "s1309";
+		public static String s1310 = "s1310", s1311 = "s1311", s1312 = "s1312", s1313 = "s1313", s1314 = "s1314";
+		public static String s1315 = "s1315", s1316 = "s1316", s1317 = "s1317", s1318 = "s1318", s1319 = "s1319";
+		public static String s1320 = "s1320", s1321 = "s1321", s1322 = "s1322", s1323 = "s1323", s1324 = "s1324";
+		public static String s1325 = "s1325", s1326 = "s1326", s1327 = "s1327", s1328 = "s1328", s1329 = "s1329";
+		public static String s1330 = "s1330", s1331 = "s1331", s1332 = "s1332", s1333 = "s1333", s1334 = "s1334";
+		public static String s1335 = "s1335", s1336 = "s1336", s1337 = "s1337", s1338 = "s1338", s1339 = "s1339";
+		public static String s1340 = "s1340", s1341 = "s1341", s1342 = "s1342", s1343 = "s1343", s1344 = "s1344";
+		public static String s1345 = "s1345", s1346 = "s1346", s1347 = "s1347", s1348 = "s1348", s1349 = "s1349";
+		public static String s1350 = "s1350", s1351 = "s1351", s1352 = "s1352", s1353 = "s1353", s1354 = "s1354";
+		public static String s1355 = "s1355", s1356 = "s1356", s1357 = "s1357", s1358 = "s1358", s1359 = "s1359";
+		public static String s1360 = "s1360", s1361 = "s1361", s1362 = "s1362", s1363 = "s1363", s1364 = "s1364";
+		public static String s1365 = "s1365", s1366 = "s1366", s1367 = "s1367", s1368 = "s1368", s1369 = "s1369";
+		public static String s1370 = "s1370", s1371 = "s1371", s1372 = "s1372", s1373 = "s1373", s1374 = "s1374";
+		public static String s1375 = "s1375", s1376 = "s1376", s1377 = "s1377", s1378 = "s1378", s1379 = "s1379";
+		public static String s1380 = "s1380", s1381 = "s1381", s1382 = "s1382", s1383 = "s1383", s1384 = "s1384";
+		public static String s1385 = "s1385", s1386 = "s1386", s1387 = "s1387", s1388 = "s1388", s1389 = "s1389";
+		public static String s1390 = "s1390", s1391 = "s1391", s1392 = "s1392", s1393 = "s1393", s1394 = "s1394";
+		public static String s1395 = "s1395", s1396 = "s1396", s1397 = "s1397", s1398 = "s1398", s1399 = "s1399";
+		public static String s1400 = "s1400", s1401 = "s1401", s1402 = "s1402", s1403 = "s1403", s1404 = "s1404";
+		public static String s1405 = "s1405", s1406 = "s1406", s1407 = "s1407", s1408 = "s1408", s1409 = "s1409";
+		public static String s1410 = "s1410", s1411 = "s1411", s1412 = "s1412", s1413 = "s1413", s1414 = "s1414";
+		public static String s1415 = "s1415", s1416 = "s1416", s1417 = "s1417", s1418 = "s1418", s1419 = "s1419";
+		public static String s1420 = "s1420", s1421 = "s1421", s1422 = "s1422", s1423 = "s1423", s1424 = "s1424";
+		public static String s1425 = "s1425", s1426 = "s1426", s1427 = "s1427", s1428 = "s1428", s1429 = "s1429";
+		public static String s1430 = "s1430", s1431 = "s1431", s1432 = "s1432", s1433 = "s1433", s1434 = "s1434";
+		public static String s1435 = "s1435", s1436 = "s1436", s1437 = "s1437", s1438 = "s1438", s1439 = "s1439";
+		public static String s1440 = "s1440", s1441 = "s1441", s1442 = "s1442", s1443 = "s1443", s1444 = "s1444";
+		public static String s1445 = "s1445", s1446 = "s1446", s1447 = "s1447", s1448 = "s1448", s1449 = "s1449";
+		public static String s1450 = "s1450", s1451 = "s1451", s1452 = "s1452", s1453 = "s1453", s1454 = "s1454";
+		public static String s1455 = "s1455", s1456 = "s1456", s1457 = "s1457", s1458 = "s1458", s1459 = "s1459";
+		public static String s1460 = "s1460", s1461 = "s1461", s1462 = "s1462", s1463 = "s1463", s1464 = "s1464";
+		public static String s1465 = "s1465", s1466 = "s1466", s1467 = "s1467", s1468 = "s1468", s1469 = "s1469";
+		public static String s1470 = "s1470", s1471 = "s1471", s1472 = "s1472", s1473 = "s1473", s1474 = "s1474";
+		public static String s1475 = "s1475", s1476 = "s1476", s1477 = "s1477", s1478 = "s1478", s1479 = "s1479";
+		public static String s1480 = "s1480", s1481 = "s1481", s1482 = "s1482", s1483 = "s1483", s1484 = "s1484";
+		public static String s1485 = "s1485", s1486 = "s1486", s1487 = "s1487", s1488 = "s1488", s1489 = "s1489";
+		public static String s1490 = "s1490", s1491 = "s1491", s1492 = "s1492", s1493 = "s1493", s1494 = "s1494";
+		public static String s1495 = "s1495", s1496 = "s1496", s1497 = "s1497", s1498 = "s1498", s1499 = "s1499";
+	}
+
+	@Test
+	public void test() {
+		ClassNode cls = getClassNode(TestCls.class);
+		String code = cls.getCode().toString();
+
+		String arrStr = Arrays.stream(TestCls.data).mapToObj(Integer::toString).collect(Collectors.joining(", "));
+		assertThat(code, containsOne("public static int[] data = {" + arrStr + "};"));
+		assertThat(code, countString(1500, "public static String s"));
+		assertThat(code, containsOne("public static String s0 = \"s0\";"));
+		assertThat(code, containsOne("public static String s1499 = \"s1499\";"));
+		assertThat(code, not(containsString("static {")));
+	}
+}
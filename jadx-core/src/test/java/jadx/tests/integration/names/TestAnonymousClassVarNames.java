@@ -0,0 +1,51 @@
+package jadx.tests.integration.names;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.core.dex.nodes.ClassNode;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.JadxMatchers.containsOne;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Variables in inlined anonymous class should not collide with names
+ * from outer method, outer class fields and anonymous class fields
+ */
+public class TestAnonymousClassVarNames extends IntegrationTest {
+
+	public static class TestCls {
+		private String str = "a";
+
+		public Runnable test(final int i) {
+			final String s = "x" + i;
+			return new Runnable() {
+				private int num = i;
+
+				@Override
+				public void run() {
+					String str = s + num;
+					String s = str.trim();
+					int num = s.length() + str.length();
+					System.out.println(num);
+					System.out.println(s + num + str + s.length() + TestCls.this.str);
+				}
+			};
+		}
+	}
+
+	@Test
+	public void test() {
+		ClassNode cls = getClassNode(TestCls.class);
+		String code = cls.getCode().toString();
+
+		assertThat(code, containsOne("final String s = \"x\" + i;"));
+		assertThat(code, containsOne("String str2 = s + this.num;"));
+		assertThat(code, containsOne("String s2 = str2.trim();"));
+		assertThat(code, containsOne("int num2 = s2.length() + str2.length();"));
+		assertThat(code, not(containsString("String str = ")));
+		assertThat(code, not(containsString("int num = ")));
+	}
+}
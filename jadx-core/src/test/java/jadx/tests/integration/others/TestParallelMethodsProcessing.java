@@ -0,0 +1,96 @@
+package jadx.tests.integration.others;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.tests.api.IntegrationTest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TestParallelMethodsProcessing extends IntegrationTest {
+
+	@SuppressWarnings("unused")
+	public static class TestCls {
+		private static final int LIMIT = 100;
+		private static final String PREFIX = "item-";
+
+		private final List<String> items = new ArrayList<>();
+		private int count;
+
+		public int sum(int[] arr) {
+			int sum = 0;
+			for (int i : arr) {
+				if (i > LIMIT) {
+					break;
+				}
+				sum += i;
+			}
+			return sum;
+		}
+
+		public String name(int i) {
+			return PREFIX + i + '/' + count;
+		}
+
+		public int parse(String str) {
+			try {
+				return Integer.parseInt(str);
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+
+		public String select(int type) {
+			switch (type) {
+				case 1:
+					return "one";
+				case 2:
+					return "two";
+				default:
+					return null;
+			}
+		}
+
+		public void add(String item) {
+			synchronized (items) {
+				if (item != null && !items.contains(item)) {
+					items.add(item);
+					count++;
+				}
+			}
+		}
+
+		public Runnable task() {
+			return new Runnable() {
+				@Override
+				public void run() {
+					add(name(LIMIT));
+				}
+			};
+		}
+
+		public class Inner {
+			public int size() {
+				return items.size() + count;
+			}
+
+			public boolean check(Object obj) {
+				return obj instanceof String && items.contains(obj);
+			}
+		}
+	}
+
+	@Test
+	public void test() {
+		String sequentialCode = getClassNode(TestCls.class).getCode().getCodeStr();
+		jadxDecompiler.close();
+
+		args.setThreadsCount(4);
+		args.setParallelMethodsThreshold(1);
+		String parallelCode = getClassNode(TestCls.class).getCode().getCodeStr();
+		assertThat(parallelCode, is(sequentialCode));
+	}
+}
@@ -0,0 +1,114 @@
+package jadx.tests.integration.others;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.utils.ProcessTimeLimit;
+import jadx.core.utils.exceptions.JadxTimeoutException;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.JadxMatchers.containsOne;
+import static jadx.tests.api.utils.JadxMatchers.countString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestProcessTimeLimit extends IntegrationTest {
+
+	public static class TestCls {
+		public int test(int a) {
+			return a + 1;
+		}
+
+		public int slow(int b) {
+			return b * 2;
+		}
+
+		public int other(int c) {
+			return c - 1;
+		}
+	}
+
+	@Test
+	public void test() {
+		args.setMethodTimeLimit(10_000);
+		args.setClassTimeLimit(60_000);
+
+		ClassNode cls = getClassNode(TestCls.class);
+		assertThat(cls.getCode().toString(), containsOne("return a + 1;"));
+
+		MethodNode mth = getMethod(cls, "test");
+		// simulate long running pass
+		mth.startPass(ProcessTimeLimit.currentTime() - TimeUnit.SECONDS.toNanos(20));
+		assertThrows(JadxTimeoutException.class, () -> ProcessTimeLimit.check(mth));
+		mth.unload();
+		ProcessTimeLimit.check(mth);
+	}
+
+	@Test
+	public void testMethodLimit() {
+		args.setMethodTimeLimit(10_000);
+
+		ClassNode cls = getClassNode(TestCls.class);
+		cls.root().getPasses().add(0, new SlowPass(false));
+		String code = cls.reloadCode().toString();
+
+		assertThat(code, containsOne("JADX WARN: Method dumped in fallback mode: Method processing time limit exceeded"));
+		assertThat(code, containsOne("Method not decompiled: "));
+		assertThat(code, containsOne(".slow(int):int"));
+		assertThat(code, not(containsString("return b * 2;")));
+		// other methods not affected
+		assertThat(code, containsOne("return a + 1;"));
+		assertThat(code, containsOne("return c - 1;"));
+	}
+
+	@Test
+	public void testClassLimit() {
+		args.setClassTimeLimit(60_000);
+
+		ClassNode cls = getClassNode(TestCls.class);
+		cls.root().getPasses().add(0, new SlowPass(true));
+		String code = cls.reloadCode().toString();
+
+		// not finished methods dumped in fallback mode
+		assertThat(code, containsString("JADX WARN: Method dumped in fallback mode: Class processing time limit exceeded"));
+		assertThat(code, containsOne(".test(int):int"));
+		assertThat(code, containsOne(".slow(int):int"));
+		assertThat(code, containsOne(".other(int):int"));
+		assertThat(code, not(containsString("return a + 1;")));
+		assertThat(code, not(containsString("return c - 1;")));
+		assertThat(code, countString(0, "Method processing time limit exceeded"));
+		// class passes not broken by not processed methods
+		assertThat(code, not(containsString("NullPointerException")));
+	}
+
+	/**
+	 * Simulate long processing of 'slow' method
+	 */
+	private static class SlowPass extends AbstractVisitor {
+		private final boolean useClassTime;
+
+		private SlowPass(boolean useClassTime) {
+			this.useClassTime = useClassTime;
+		}
+
+		@Override
+		public void visit(MethodNode mth) {
+			if (!mth.getName().equals("slow")) {
+				return;
+			}
+			long startTime = ProcessTimeLimit.currentTime() - TimeUnit.SECONDS.toNanos(120);
+			if (useClassTime) {
+				mth.getParentClass().getTopParentClass().setProcessStartTime(startTime);
+			} else {
+				mth.startPass(startTime);
+			}
+			ProcessTimeLimit.check(mth);
+		}
+	}
+}
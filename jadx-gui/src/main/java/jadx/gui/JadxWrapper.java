@@ -6,7 +6,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.swing.ProgressMonitor;
@@ -20,6 +21,8 @@ import jadx.api.JadxDecompiler;
 import jadx.api.JavaClass;
 import jadx.api.JavaPackage;
 import jadx.api.ResourceFile;
+import jadx.api.impl.CompressedCodeCache;
+import jadx.api.metrics.DecompileMetrics;
 import jadx.gui.settings.JadxProject;
 import jadx.gui.settings.JadxSettings;
 
@@ -44,6 +47,11 @@ public class JadxWrapper {
 			JadxArgs jadxArgs = settings.toJadxArgs();
 			jadxArgs.setInputFiles(toFiles(paths));
 			jadxArgs.setCodeData(project.getCodeData());
+			jadxArgs.setCodeCache(new CompressedCodeCache());
+			Path snapshotPath = project.getSnapshotPath();
+			if (snapshotPath != null) {
+				jadxArgs.setSnapshotFile(snapshotPath.toFile());
+			}
 
 			this.decompiler = new JadxDecompiler(jadxArgs);
 			this.decompiler.load();
@@ -68,13 +76,11 @@ public class JadxWrapper {
 		Runnable save = () -> {
 			try {
 				decompiler.getArgs().setRootDir(dir);
-				ThreadPoolExecutor ex = (ThreadPoolExecutor) decompiler.getSaveExecutor();
+				ExecutorService ex = decompiler.getSaveExecutor();
 				ex.shutdown();
-				while (ex.isTerminating()) {
-					long total = ex.getTaskCount();
-					long done = ex.getCompletedTaskCount();
-					progressMonitor.setProgress((int) (done * 100.0 / total));
-					Thread.sleep(500);
+				DecompileMetrics metrics = decompiler.getMetrics();
+				while (!ex.awaitTermination(500, TimeUnit.MILLISECONDS)) {
+					progressMonitor.setProgress(metrics.snapshot().getProgress());
 				}
 				progressMonitor.close();
 				LOG.info("decompilation complete, freeing memory ...");
@@ -43,6 +43,10 @@ public class BackgroundExecutor {
 		return taskWorker;
 	}
 
+	public boolean isBusy() {
+		return taskQueueExecutor.getActiveCount() != 0;
+	}
+
 	public void cancelAll() {
 		try {
 			taskQueueExecutor.shutdownNow();
@@ -54,13 +54,22 @@ public class IndexJob extends BackgroundJob {
 			if (UiUtils.isFreeMemoryAvailable()) {
 				index.indexCode(cls, linesInfo, lines);
 			} else {
-				index.classCodeIndexSkipped(cls);
+				indexCodeOnDisk(index, cls, linesInfo, lines);
 			}
 		} catch (Exception e) {
 			LOG.error("Index error in class: {}", cls.getFullName(), e);
 		}
 	}
 
+	private static void indexCodeOnDisk(TextSearchIndex index, JavaClass cls, CodeLinesInfo linesInfo, List<StringRef> lines) {
+		try {
+			index.indexCodeOnDisk(cls, linesInfo, lines);
+		} catch (Exception e) {
+			LOG.warn("Failed to store code index on disk for class: {}", cls, e);
+			index.classCodeIndexSkipped(cls);
+		}
+	}
+
 	public static void refreshIndex(CacheObject cache, JavaClass cls) {
 		TextSearchIndex index = cache.getTextIndex();
 		CodeUsageInfo usageInfo = cache.getUsageInfo();
@@ -0,0 +1,178 @@
+package jadx.gui.jobs;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingWorker;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JavaClass;
+import jadx.api.JavaNode;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.utils.exceptions.JadxInterruptedException;
+import jadx.gui.ui.MainWindow;
+
+/**
+ * Decompile classes related to currently opened class in background,
+ * so next opened class most likely will be taken from code cache.
+ * <p>
+ * Classes used in opened class code processed first, then classes from same package.
+ * Selection of another class drops not processed classes, stops current decompilation and schedule new ones.
+ * Work in one low priority thread and paused while other background tasks running.
+ */
+public class PreDecompileScheduler {
+	private static final Logger LOG = LoggerFactory.getLogger(PreDecompileScheduler.class);
+
+	private static final int MAX_RELATED_CLASSES = 200;
+	private static final long BUSY_WAIT_MS = 500;
+
+	private final MainWindow mainWindow;
+	private final BlockingDeque<JavaClass> queue = new LinkedBlockingDeque<>();
+	private final AtomicReference<JavaClass> focus = new AtomicReference<>();
+
+	private Thread thread;
+	// class decompiled in background right now
+	private JavaClass current;
+
+	public PreDecompileScheduler(MainWindow mainWindow) {
+		this.mainWindow = mainWindow;
+	}
+
+	/**
+	 * Class opened or selected by user. Should be called from UI thread.
+	 */
+	public synchronized void setFocus(JavaClass cls) {
+		if (!mainWindow.getSettings().isPreDecompile()) {
+			return;
+		}
+		JavaClass topCls = cls.getTopParentClass();
+		focus.set(topCls);
+		if (thread == null) {
+			thread = new Thread(this::process, "jadx-pre-decompile");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			thread.start();
+		} else if (current != null && current != topCls) {
+			// stop decompilation of class related to previous focus
+			thread.interrupt();
+		}
+		// wake up worker
+		queue.offerFirst(topCls);
+	}
+
+	public synchronized void stop() {
+		focus.set(null);
+		queue.clear();
+		if (thread != null) {
+			thread.interrupt();
+			thread = null;
+		}
+	}
+
+	private void process() {
+		Thread currentThread = Thread.currentThread();
+		while (isActive(currentThread)) {
+			try {
+				JavaClass cls = queue.takeFirst();
+				waitIdle();
+				JavaClass focusCls = focus.getAndSet(null);
+				if (focusCls != null) {
+					scheduleRelated(focusCls);
+				} else {
+					decompile(cls);
+				}
+			} catch (InterruptedException | JadxInterruptedException e) {
+				// focus changed or scheduler stopped, clear flag and check state
+				Thread.interrupted();
+			} catch (Exception e) {
+				LOG.debug("Background decompilation failed", e);
+			}
+		}
+	}
+
+	private synchronized boolean isActive(Thread currentThread) {
+		return thread == currentThread;
+	}
+
+	private void decompile(JavaClass cls) {
+		synchronized (this) {
+			if (focus.get() != null || isDecompiled(cls)) {
+				return;
+			}
+			current = cls;
+		}
+		try {
+			cls.decompile();
+		} finally {
+			synchronized (this) {
+				current = null;
+			}
+		}
+	}
+
+	private void scheduleRelated(JavaClass focusCls) {
+		List<JavaClass> classes = mainWindow.getWrapper().getIncludedClasses();
+		Set<JavaClass> included = new HashSet<>(classes);
+		Set<JavaClass> related = new LinkedHashSet<>();
+		// code for focused class is needed anyway, so usage map is cheap to get
+		for (JavaNode node : focusCls.getUsageMap().values()) {
+			addRelated(related, included, node.getTopParentClass());
+		}
+		String pkg = focusCls.getPackage();
+		for (JavaClass cls : classes) {
+			if (related.size() >= MAX_RELATED_CLASSES) {
+				break;
+			}
+			if (cls.getPackage().equals(pkg)) {
+				addRelated(related, included, cls);
+			}
+		}
+		related.remove(focusCls);
+		synchronized (this) {
+			queue.clear();
+			queue.addAll(related);
+			JavaClass newFocus = focus.get();
+			if (newFocus != null) {
+				// focus changed while scheduling, restore wake up item
+				queue.offerFirst(newFocus);
+			}
+		}
+		LOG.debug("Scheduled pre-decompilation for {} classes related to {}", related.size(), focusCls);
+	}
+
+	private static void addRelated(Set<JavaClass> related, Set<JavaClass> included, @Nullable JavaClass cls) {
+		if (cls != null && related.size() < MAX_RELATED_CLASSES
+				&& included.contains(cls) && !isDecompiled(cls)) {
+			related.add(cls);
+		}
+	}
+
+	private static boolean isDecompiled(JavaClass cls) {
+		ClassNode clsNode = cls.getClassNode();
+		return clsNode.root().getCodeCache().contains(clsNode.getRawName());
+	}
+
+	private void waitIdle() throws InterruptedException {
+		while (isBusy()) {
+			TimeUnit.MILLISECONDS.sleep(BUSY_WAIT_MS);
+		}
+	}
+
+	private boolean isBusy() {
+		BackgroundExecutor executor = mainWindow.getBackgroundExecutor();
+		if (executor != null && executor.isBusy()) {
+			return true;
+		}
+		BackgroundWorker worker = mainWindow.getBackgroundWorker();
+		return worker != null && worker.getState() == SwingWorker.StateValue.STARTED;
+	}
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +31,7 @@ public class JadxProject {
 
 	private static final int CURRENT_PROJECT_VERSION = 1;
 	public static final String PROJECT_EXTENSION = "jadx";
+	private static final String SNAPSHOT_EXTENSION = "snapshot";
 
 	private static final Gson GSON = new GsonBuilder()
 			.registerTypeHierarchyAdapter(Path.class, PathTypeAdapter.singleton())
@@ -68,6 +70,17 @@ public class JadxProject {
 		return projectPath;
 	}
 
+	/**
+	 * Pre-decompile snapshot file stored next to project file
+	 */
+	@Nullable
+	public Path getSnapshotPath() {
+		if (projectPath == null) {
+			return null;
+		}
+		return projectPath.resolveSibling(projectPath.getFileName() + "." + SNAPSHOT_EXTENSION);
+	}
+
 	private void setProjectPath(Path projectPath) {
 		this.projectPath = projectPath;
 		name = projectPath.getFileName().toString();
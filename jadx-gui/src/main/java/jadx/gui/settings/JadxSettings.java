@@ -58,6 +58,7 @@ public class JadxSettings extends JadxCLIArgs {
 	private String editorThemePath = "";
 	private LangLocale langLocale = NLS.defaultLocale();
 	private boolean autoStartJobs = false;
+	private boolean preDecompile = true;
 	protected String excludedPackages = "";
 	private boolean autoSaveProject = false;
 
@@ -340,6 +341,14 @@ public class JadxSettings extends JadxCLIArgs {
 		this.autoStartJobs = autoStartJobs;
 	}
 
+	public boolean isPreDecompile() {
+		return preDecompile;
+	}
+
+	public void setPreDecompile(boolean preDecompile) {
+		this.preDecompile = preDecompile;
+	}
+
 	public boolean isAutoSaveProject() {
 		return autoSaveProject;
 	}
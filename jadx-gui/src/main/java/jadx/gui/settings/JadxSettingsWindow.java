@@ -407,6 +407,16 @@ public class JadxSettingsWindow extends JDialog {
 		autoStartJobs.setSelected(settings.isAutoStartJobs());
 		autoStartJobs.addItemListener(e -> settings.setAutoStartJobs(e.getStateChange() == ItemEvent.SELECTED));
 
+		JCheckBox preDecompile = new JCheckBox();
+		preDecompile.setSelected(settings.isPreDecompile());
+		preDecompile.addItemListener(e -> {
+			boolean enabled = e.getStateChange() == ItemEvent.SELECTED;
+			settings.setPreDecompile(enabled);
+			if (!enabled) {
+				mainWindow.getPreDecompileScheduler().stop();
+			}
+		});
+
 		JCheckBox escapeUnicode = new JCheckBox();
 		escapeUnicode.setSelected(settings.isEscapeUnicode());
 		escapeUnicode.addItemListener(e -> {
@@ -454,6 +464,7 @@ public class JadxSettingsWindow extends JDialog {
 		other.addRow(NLS.str("preferences.excludedPackages"), NLS.str("preferences.excludedPackages.tooltip"),
 				editExcludedPackages);
 		other.addRow(NLS.str("preferences.start_jobs"), autoStartJobs);
+		other.addRow(NLS.str("preferences.pre_decompile"), preDecompile);
 		other.addRow(NLS.str("preferences.showInconsistentCode"), showInconsistentCode);
 		other.addRow(NLS.str("preferences.escapeUnicode"), escapeUnicode);
 		other.addRow(NLS.str("preferences.replaceConsts"), replaceConsts);
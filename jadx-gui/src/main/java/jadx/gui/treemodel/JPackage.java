@@ -11,9 +11,13 @@ import org.jetbrains.annotations.NotNull;
 import jadx.api.JavaPackage;
 import jadx.core.utils.Utils;
 import jadx.gui.JadxWrapper;
+import jadx.gui.utils.NLS;
 import jadx.gui.utils.UiUtils;
 
-public class JPackage extends JNode implements Comparable<JPackage> {
+/**
+ * Package node, sub nodes created only on first expand, so big apps tree built fast.
+ */
+public class JPackage extends JLoadableNode implements Comparable<JPackage> {
 	private static final long serialVersionUID = -4120718634156839804L;
 
 	private static final ImageIcon PACKAGE_ICON = UiUtils.openIcon("package_obj");
@@ -23,6 +27,7 @@ public class JPackage extends JNode implements Comparable<JPackage> {
 	private boolean enabled;
 	private List<JClass> classes;
 	private List<JPackage> innerPackages;
+	private transient boolean loaded;
 
 	public JPackage(JavaPackage pkg, JadxWrapper wrapper) {
 		this(pkg.getName(), pkg.getName(),
@@ -57,18 +62,31 @@ public class JPackage extends JNode implements Comparable<JPackage> {
 
 	public final void update() {
 		removeAllChildren();
-		if (isEnabled()) {
-			for (JPackage pkg : innerPackages) {
-				pkg.update();
-				add(pkg);
-			}
-			for (JClass cls : classes) {
-				cls.update();
-				add(cls);
-			}
+		loaded = false;
+		if (isEnabled() && (!innerPackages.isEmpty() || !classes.isEmpty())) {
+			// fake leaf to force show expand button
+			// real sub nodes will load on expand in loadNode() method
+			add(new TextNode(NLS.str("tree.loading")));
 		}
 	}
 
+	@Override
+	public synchronized void loadNode() {
+		if (loaded || !isEnabled()) {
+			return;
+		}
+		removeAllChildren();
+		for (JPackage pkg : innerPackages) {
+			pkg.update();
+			add(pkg);
+		}
+		for (JClass cls : classes) {
+			cls.update();
+			add(cls);
+		}
+		loaded = true;
+	}
+
 	@Override
 	public String getName() {
 		return name;
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import javax.swing.*;
+import javax.swing.tree.TreeNode;
 
 import jadx.api.ResourceFile;
 import jadx.gui.JadxWrapper;
@@ -87,6 +88,10 @@ public class JRoot extends JNode {
 	}
 
 	public JNode searchClassInTree(JNode node) {
+		JClass rootCls = node.getRootClass();
+		if (rootCls != null) {
+			loadPackages(this, rootCls.getCls().getPackage());
+		}
 		Enumeration<?> en = this.breadthFirstEnumeration();
 		while (en.hasMoreElements()) {
 			Object obj = en.nextElement();
@@ -97,6 +102,25 @@ public class JRoot extends JNode {
 		return null;
 	}
 
+	/**
+	 * Load package nodes on path to class package, they are not loaded until expanded
+	 */
+	private static void loadPackages(TreeNode parent, String clsPkg) {
+		for (int i = 0; i < parent.getChildCount(); i++) {
+			TreeNode node = parent.getChildAt(i);
+			if (node instanceof JSources) {
+				loadPackages(node, clsPkg);
+			} else if (node instanceof JPackage) {
+				JPackage pkg = (JPackage) node;
+				String pkgName = pkg.getFullName();
+				if (clsPkg.equals(pkgName) || clsPkg.startsWith(pkgName + '.')) {
+					pkg.loadNode();
+					loadPackages(pkg, clsPkg);
+				}
+			}
+		}
+	}
+
 	public boolean isFlatPackages() {
 		return flatPackages;
 	}
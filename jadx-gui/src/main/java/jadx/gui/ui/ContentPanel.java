@@ -21,6 +21,12 @@ public abstract class ContentPanel extends JPanel {
 
 	public abstract void loadSettings();
 
+	/**
+	 * Called after tab close, release resources and cancel background tasks here
+	 */
+	public void dispose() {
+	}
+
 	public TabbedPane getTabbedPane() {
 		return tabbedPane;
 	}
@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import javax.swing.AbstractAction;
@@ -89,6 +90,7 @@ import jadx.gui.jobs.BackgroundExecutor;
 import jadx.gui.jobs.BackgroundWorker;
 import jadx.gui.jobs.DecompileJob;
 import jadx.gui.jobs.IndexJob;
+import jadx.gui.jobs.PreDecompileScheduler;
 import jadx.gui.settings.JadxProject;
 import jadx.gui.settings.JadxSettings;
 import jadx.gui.settings.JadxSettingsWindow;
@@ -177,6 +179,7 @@ public class MainWindow extends JFrame {
 	private transient ProgressPanel progressPane;
 	private transient BackgroundWorker backgroundWorker;
 	private transient BackgroundExecutor backgroundExecutor;
+	private final transient PreDecompileScheduler preDecompileScheduler = new PreDecompileScheduler(this);
 	private transient Theme editorTheme;
 
 	public MainWindow(JadxSettings settings) {
@@ -381,11 +384,17 @@ public class MainWindow extends JFrame {
 			if (paths.isEmpty()) {
 				return;
 			}
+			AtomicReference<JRoot> newTreeRoot = new AtomicReference<>();
 			backgroundExecutor.execute(NLS.str("progress.load"),
-					() -> wrapper.openFile(paths),
+					() -> {
+						wrapper.openFile(paths);
+						// packages collecting and sorting can take a while on big apps, so do it out of UI thread
+						newTreeRoot.set(makeTreeRoot());
+					},
 					() -> {
 						deobfToggleBtn.setSelected(settings.isDeobfuscationOn());
-						initTree();
+						JRoot root = newTreeRoot.get();
+						initTree(root != null ? root : makeTreeRoot());
 						update();
 						runBackgroundJobs();
 						onFinish.run();
@@ -483,6 +492,7 @@ public class MainWindow extends JFrame {
 	}
 
 	public synchronized void cancelBackgroundJobs() {
+		preDecompileScheduler.stop();
 		if (backgroundExecutor != null) {
 			backgroundExecutor.cancelAll();
 		}
@@ -573,16 +583,26 @@ public class MainWindow extends JFrame {
 	}
 
 	public void initTree() {
-		treeRoot = new JRoot(wrapper);
-		treeRoot.setFlatPackages(isFlattenPackage);
+		initTree(makeTreeRoot());
+	}
+
+	private void initTree(JRoot root) {
+		treeRoot = root;
 		treeModel.setRoot(treeRoot);
-		treeRoot.update();
 		reloadTree();
 		cacheObject.setJRoot(treeRoot);
 		cacheObject.setJadxSettings(settings);
 	}
 
+	private JRoot makeTreeRoot() {
+		JRoot root = new JRoot(wrapper);
+		root.setFlatPackages(isFlattenPackage);
+		root.update();
+		return root;
+	}
+
 	private void clearTree() {
+		preDecompileScheduler.stop();
 		tabbedPane.reset();
 		resetCache();
 		treeRoot = null;
@@ -1258,6 +1278,10 @@ public class MainWindow extends JFrame {
 		return backgroundExecutor;
 	}
 
+	public PreDecompileScheduler getPreDecompileScheduler() {
+		return preDecompileScheduler;
+	}
+
 	public ProgressPanel getProgressPane() {
 		return progressPane;
 	}
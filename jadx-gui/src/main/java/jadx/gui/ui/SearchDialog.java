@@ -45,6 +45,11 @@ public class SearchDialog extends CommonSearchDialog {
 
 	private static final Logger LOG = LoggerFactory.getLogger(SearchDialog.class);
 
+	/**
+	 * Stop search after this results count, to not wait for full scan on too common search strings
+	 */
+	private static final int MAX_RESULTS = 10_000;
+
 	public static void search(MainWindow window, SearchPreset preset) {
 		SearchDialog searchDialog = new SearchDialog(window, preset, Collections.emptySet());
 		searchDialog.setVisible(true);
@@ -88,6 +93,7 @@ public class SearchDialog extends CommonSearchDialog {
 	private transient ChangeListener activeTabListener;
 
 	private transient String initSearchText = null;
+	private transient boolean resultsLimited;
 
 	private SearchDialog(MainWindow mainWindow, SearchPreset preset, Set<SearchOptions> additionalOptions) {
 		super(mainWindow);
@@ -284,6 +290,7 @@ public class SearchDialog extends CommonSearchDialog {
 				.switchMap(text -> prepareSearch(text)
 						.doOnError(e -> LOG.error("Error prepare search: {}", e.getMessage(), e))
 						.subscribeOn(Schedulers.single())
+						.take(MAX_RESULTS)
 						.toList()
 						.toFlowable(), 1)
 				.observeOn(SwingSchedulers.edt())
@@ -319,11 +326,20 @@ public class SearchDialog extends CommonSearchDialog {
 		cache.setLastSearch(text);
 		cache.getLastSearchOptions().put(searchPreset, options);
 
+		resultsLimited = results.size() >= MAX_RESULTS;
 		resultsModel.clear();
 		resultsModel.addAll(results);
 		super.performSearch();
 	}
 
+	@Override
+	protected void updateProgressLabel() {
+		super.updateProgressLabel();
+		if (resultsLimited) {
+			resultsInfoLabel.setText(resultsInfoLabel.getText() + ' ' + NLS.str("search_dialog.results_limited", MAX_RESULTS));
+		}
+	}
+
 	private static Flowable<String> onTextFieldChanges(final JTextField textField) {
 		return Flowable.<String>create(emitter -> {
 			DocumentListener listener = new DocumentListener() {
@@ -25,6 +25,7 @@ import jadx.api.ResourceType;
 import jadx.core.utils.StringUtils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 import jadx.gui.treemodel.ApkSignature;
+import jadx.gui.treemodel.JClass;
 import jadx.gui.treemodel.JNode;
 import jadx.gui.treemodel.JResource;
 import jadx.gui.ui.codearea.AbstractCodeArea;
@@ -139,6 +140,10 @@ public class TabbedPane extends JTabbedPane {
 			}
 			lastTab = curTab;
 			curTab = tab;
+			JNode node = tab.getNode();
+			if (node instanceof JClass) {
+				mainWindow.getPreDecompileScheduler().setFocus(((JClass) node).getCls());
+			}
 		});
 	}
 
@@ -170,34 +175,37 @@ public class TabbedPane extends JTabbedPane {
 		SwingUtilities.invokeLater(() -> {
 			setSelectedComponent(contentPanel);
 			AbstractCodeArea codeArea = contentPanel.getCodeArea();
-			int pos = jumpPos.getPos();
-			if (pos > 0) {
-				codeArea.scrollToPos(pos);
-			} else {
-				int line = jumpPos.getLine();
-				if (line < 0) {
+			// code can be still loading in background, jump after it will be ready
+			codeArea.runWhenLoaded(() -> {
+				int pos = jumpPos.getPos();
+				if (pos > 0) {
+					codeArea.scrollToPos(pos);
+				} else {
+					int line = jumpPos.getLine();
+					if (line < 0) {
+						try {
+							line = 1 + codeArea.getLineOfOffset(-line);
+						} catch (BadLocationException e) {
+							LOG.error("Can't get line for: {}", jumpPos, e);
+							line = jumpNode.getLine();
+						}
+					}
+					int lineNum = Math.max(0, line - 1);
 					try {
-						line = 1 + codeArea.getLineOfOffset(-line);
+						int offs = codeArea.getLineStartOffset(lineNum);
+						while (StringUtils.isWhite(codeArea.getText(offs, 1).charAt(0))) {
+							offs += 1;
+						}
+						offs += pos;
+						jumpPos.setPos(offs);
+						codeArea.scrollToPos(offs);
 					} catch (BadLocationException e) {
-						LOG.error("Can't get line for: {}", jumpPos, e);
-						line = jumpNode.getLine();
-					}
-				}
-				int lineNum = Math.max(0, line - 1);
-				try {
-					int offs = codeArea.getLineStartOffset(lineNum);
-					while (StringUtils.isWhite(codeArea.getText(offs, 1).charAt(0))) {
-						offs += 1;
+						e.printStackTrace();
+						codeArea.scrollToLine(line);
 					}
-					offs += pos;
-					jumpPos.setPos(offs);
-					codeArea.scrollToPos(offs);
-				} catch (BadLocationException e) {
-					e.printStackTrace();
-					codeArea.scrollToLine(line);
 				}
-			}
-			codeArea.requestFocus();
+				codeArea.requestFocus();
+			});
 		});
 	}
 
@@ -263,6 +271,7 @@ public class TabbedPane extends JTabbedPane {
 	public void closeCodePanel(ContentPanel contentPanel) {
 		openTabs.remove(contentPanel.getNode());
 		remove(contentPanel);
+		contentPanel.dispose();
 	}
 
 	@Nullable
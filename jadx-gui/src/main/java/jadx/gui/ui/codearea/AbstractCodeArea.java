@@ -8,12 +8,16 @@ import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
 
 import javax.swing.AbstractAction;
 import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JPopupMenu;
 import javax.swing.JViewport;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.event.CaretEvent;
 import javax.swing.event.CaretListener;
 import javax.swing.event.PopupMenuEvent;
@@ -46,6 +50,11 @@ public abstract class AbstractCodeArea extends RSyntaxTextArea {
 	protected final ContentPanel contentPanel;
 	protected final JNode node;
 
+	private final List<Runnable> onLoadActions = new ArrayList<>();
+	private boolean textLoaded = true;
+	@Nullable
+	private SwingWorker<String, Void> loadWorker;
+
 	public AbstractCodeArea(ContentPanel contentPanel) {
 		this.contentPanel = contentPanel;
 		this.node = contentPanel.getNode();
@@ -198,6 +207,89 @@ public abstract class AbstractCodeArea extends RSyntaxTextArea {
 	 */
 	public abstract void load();
 
+	/**
+	 * Show placeholder and load text in background thread (decompilation can take a while).
+	 * Text and caret are set in UI thread after load, then actions from {@link #runWhenLoaded(Runnable)} are executed.
+	 */
+	protected void loadTextAsync(Callable<String> textLoader) {
+		cancelLoad();
+		textLoaded = false;
+		setText(NLS.str("tree.loading"));
+		loadWorker = new SwingWorker<String, Void>() {
+			@Override
+			protected String doInBackground() throws Exception {
+				return textLoader.call();
+			}
+
+			@Override
+			protected void done() {
+				if (isCancelled() || loadWorker != this) {
+					return;
+				}
+				loadWorker = null;
+				String text;
+				try {
+					text = get();
+				} catch (Exception e) {
+					LOG.error("Failed to load text for node: {}", node, e);
+					text = "";
+				}
+				setText(text);
+				setCaretPosition(0);
+				textLoaded = true;
+				runLoadActions();
+			}
+		};
+		loadWorker.execute();
+	}
+
+	/**
+	 * Set already loaded text, not finished background load is dropped
+	 */
+	protected void setLoadedText(String text) {
+		SwingWorker<String, Void> worker = loadWorker;
+		if (worker != null) {
+			loadWorker = null;
+			worker.cancel(false);
+		}
+		setText(text);
+		textLoaded = true;
+		runLoadActions();
+	}
+
+	private void runLoadActions() {
+		List<Runnable> actions = new ArrayList<>(onLoadActions);
+		onLoadActions.clear();
+		actions.forEach(Runnable::run);
+	}
+
+	/**
+	 * Run action now if text already loaded or after background load finished
+	 */
+	public void runWhenLoaded(Runnable action) {
+		if (textLoaded) {
+			action.run();
+		} else {
+			onLoadActions.add(action);
+		}
+	}
+
+	public boolean isTextLoaded() {
+		return textLoaded;
+	}
+
+	/**
+	 * Cancel not finished background load, if not started yet, text will not be loaded at all
+	 */
+	public void cancelLoad() {
+		SwingWorker<String, Void> worker = loadWorker;
+		if (worker != null) {
+			loadWorker = null;
+			worker.cancel(false);
+		}
+		onLoadActions.clear();
+	}
+
 	/**
 	 * Implement in this method the code that reloads node from cache and sets the new content to be
 	 * displayed
@@ -16,4 +16,9 @@ public abstract class AbstractCodeContentPanel extends ContentPanel {
 
 	public abstract AbstractCodeArea getCodeArea();
 
+	@Override
+	public void dispose() {
+		getCodeArea().cancelLoad();
+	}
+
 }
@@ -86,4 +86,10 @@ public final class ClassCodeContentPanel extends AbstractCodeContentPanel {
 	public AbstractCodeArea getSmaliCodeArea() {
 		return smaliCodePanel.getCodeArea();
 	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		getSmaliCodeArea().cancelLoad();
+	}
 }
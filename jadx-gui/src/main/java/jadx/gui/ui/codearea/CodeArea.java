@@ -4,6 +4,9 @@ import java.awt.Point;
 import java.awt.event.InputEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.swing.JPopupMenu;
 import javax.swing.event.PopupMenuEvent;
@@ -16,8 +19,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jadx.api.CodePosition;
+import jadx.api.ICodeInfo;
 import jadx.api.JadxDecompiler;
+import jadx.api.JavaClass;
 import jadx.api.JavaNode;
+import jadx.core.dex.nodes.ClassNode;
 import jadx.gui.jobs.IndexJob;
 import jadx.gui.settings.JadxProject;
 import jadx.gui.treemodel.JClass;
@@ -39,6 +45,13 @@ public final class CodeArea extends AbstractCodeArea {
 
 	private static final long serialVersionUID = 6312736869579635796L;
 
+	/**
+	 * Class references in loaded code by position (line and line offset),
+	 * built once from code annotations and used by token maker on every repaint
+	 */
+	@Nullable
+	private transient Map<CodePosition, JavaClass> classRefs;
+
 	CodeArea(ContentPanel contentPanel) {
 		super(contentPanel);
 		setSyntaxEditingStyle(node.getSyntaxName());
@@ -79,14 +92,59 @@ public final class CodeArea extends AbstractCodeArea {
 	@Override
 	public void load() {
 		if (getText().isEmpty()) {
-			setText(node.getContent());
-			setCaretPosition(0);
+			if (node instanceof JClass && !isCodeCached((JClass) node)) {
+				loadTextAsync(node::getContent);
+			} else {
+				setText(node.getContent());
+				setCaretPosition(0);
+			}
 		}
 	}
 
+	private static boolean isCodeCached(JClass cls) {
+		ClassNode clsNode = cls.getCls().getClassNode();
+		return clsNode.root().getCodeCache().contains(clsNode.getRawName());
+	}
+
 	@Override
 	public void refresh() {
-		setText(node.getContent());
+		classRefs = null;
+		setLoadedText(node.getContent());
+	}
+
+	/**
+	 * Get class referenced at position in code, line and offset are 1-based
+	 */
+	@Nullable
+	public JavaClass getClassRefAt(int line, int offset) {
+		if (!isTextLoaded()) {
+			return null;
+		}
+		Map<CodePosition, JavaClass> refs = classRefs;
+		if (refs == null) {
+			refs = buildClassRefs();
+			classRefs = refs;
+		}
+		return refs.get(new CodePosition(line, offset));
+	}
+
+	private Map<CodePosition, JavaClass> buildClassRefs() {
+		ICodeInfo codeInfo = node.getCodeInfo();
+		if (codeInfo == null) {
+			return Collections.emptyMap();
+		}
+		JadxDecompiler decompiler = getDecompiler();
+		Map<CodePosition, JavaClass> refs = new HashMap<>();
+		for (Map.Entry<CodePosition, Object> entry : codeInfo.getAnnotations().entrySet()) {
+			if (entry.getValue() instanceof ClassNode) {
+				CodePosition pos = entry.getKey();
+				JavaNode javaNode = decompiler.getJavaNodeAtPosition(codeInfo, pos.getLine(), pos.getOffset());
+				if (javaNode instanceof JavaClass) {
+					refs.put(pos, (JavaClass) javaNode);
+				}
+			}
+		}
+		return refs;
 	}
 
 	private void addMenuItems() {
@@ -200,7 +258,7 @@ public final class CodeArea extends AbstractCodeArea {
 	 * Search referenced java node by offset in {@code jCls} code
 	 */
 	public JavaNode getJavaNodeAtOffset(int offset) {
-		if (offset == -1) {
+		if (offset == -1 || !isTextLoaded()) {
 			return null;
 		}
 		try {
@@ -107,12 +107,12 @@ public class CodePanel extends JPanel {
 
 	public void loadSettings() {
 		codeArea.loadSettings();
-		initLineNumbers();
+		codeArea.runWhenLoaded(this::initLineNumbers);
 	}
 
 	public void load() {
 		codeArea.load();
-		initLineNumbers();
+		codeArea.runWhenLoaded(this::initLineNumbers);
 	}
 
 	private void initLineNumbers() {
@@ -28,7 +28,8 @@ public final class JadxTokenMaker extends JavaTokenMaker {
 		Token tokens = super.getTokenList(text, initialTokenType, startOffset);
 		if (tokens.getType() != TokenTypes.NULL) {
 			try {
-				processTokens(tokens);
+				int line = codeArea.getDocument().getDefaultRootElement().getElementIndex(startOffset);
+				processTokens(tokens, line + 1, startOffset);
 			} catch (Exception e) {
 				LOG.error("Process tokens failed for text: {}", text, e);
 			}
@@ -36,18 +37,22 @@ public final class JadxTokenMaker extends JavaTokenMaker {
 		return tokens;
 	}
 
-	private void processTokens(Token tokens) {
+	/**
+	 * @param line            1-based line number
+	 * @param lineStartOffset document offset of line start
+	 */
+	private void processTokens(Token tokens, int line, int lineStartOffset) {
 		Token prev = null;
 		Token current = tokens;
 		while (current != null) {
 			if (prev != null) {
 				switch (current.getType()) {
 					case TokenTypes.IDENTIFIER:
-						current = mergeLongClassNames(prev, current, false);
+						current = mergeLongClassNames(prev, current, line, lineStartOffset, false);
 						break;
 
 					case TokenTypes.ANNOTATION:
-						current = mergeLongClassNames(prev, current, true);
+						current = mergeLongClassNames(prev, current, line, lineStartOffset, true);
 						break;
 				}
 			}
@@ -57,13 +62,13 @@ public final class JadxTokenMaker extends JavaTokenMaker {
 	}
 
 	@NotNull
-	private Token mergeLongClassNames(Token prev, Token current, boolean annotation) {
-		int offset = current.getTextOffset();
+	private Token mergeLongClassNames(Token prev, Token current, int line, int lineStartOffset, boolean annotation) {
+		int offset = current.getTextOffset() - lineStartOffset;
 		if (annotation) {
 			offset++;
 		}
-		JavaNode javaNode = codeArea.getJavaNodeAtOffset(offset);
-		if (javaNode instanceof JavaClass) {
+		JavaClass javaNode = codeArea.getClassRefAt(line, offset + 1);
+		if (javaNode != null) {
 			String name = javaNode.getName();
 			String lexeme = current.getLexeme();
 			if (annotation && lexeme.length() > 1) {
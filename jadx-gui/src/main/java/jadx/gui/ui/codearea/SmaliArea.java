@@ -95,13 +95,12 @@ public final class SmaliArea extends AbstractCodeArea {
 					setSyntaxScheme(theme.scheme);
 				}
 				setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
-				setText(node.getSmali());
+				loadTextAsync(node::getSmali);
 			} else {
 				loadV2Style();
 				setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_ASSEMBLER_6502);
-				setText(((JClass) node).getSmaliV2());
+				loadTextAsync(((JClass) node)::getSmaliV2);
 			}
-			setCaretPosition(0);
 		}
 	}
 
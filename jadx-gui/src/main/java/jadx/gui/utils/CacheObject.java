@@ -38,6 +38,9 @@ public class CacheObject {
 		settings = null;
 		decompileJob = null;
 		indexJob = null;
+		if (textIndex != null) {
+			textIndex.close();
+		}
 		textIndex = null;
 		lastSearch = null;
 		jNodeCache = new JNodeCache();
@@ -2,10 +2,11 @@ package jadx.gui.utils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,18 +22,25 @@ public class CodeUsageInfo {
 	private static final Logger LOG = LoggerFactory.getLogger(CodeUsageInfo.class);
 
 	public static class UsageInfo {
-		private final List<CodeNode> usageList = new ArrayList<>();
+		/**
+		 * Usages grouped by top level class where they are located
+		 */
+		private final Map<JavaClass, List<CodeNode>> usages = new ConcurrentHashMap<>();
 
 		public List<CodeNode> getUsageList() {
-			return usageList;
+			List<CodeNode> list = new ArrayList<>();
+			for (List<CodeNode> clsUsages : usages.values()) {
+				list.addAll(clsUsages);
+			}
+			return list;
 		}
 
-		public synchronized void addUsage(CodeNode codeNode) {
-			usageList.add(codeNode);
+		private void setUsages(JavaClass cls, List<CodeNode> clsUsages) {
+			usages.put(cls, clsUsages);
 		}
 
-		public synchronized void removeUsageIf(Predicate<? super CodeNode> filter) {
-			usageList.removeIf(filter);
+		private void removeUsages(JavaClass cls) {
+			usages.remove(cls);
 		}
 	}
 
@@ -44,28 +52,49 @@ public class CodeUsageInfo {
 
 	private final Map<JNode, UsageInfo> usageMap = new ConcurrentHashMap<>();
 
+	/**
+	 * Nodes used in top level class code, allow to remove class usages without full map scan
+	 */
+	private final Map<JavaClass, Set<JNode>> usedNodes = new ConcurrentHashMap<>();
+
+	/**
+	 * Used nodes declared in top level class
+	 */
+	private final Map<JavaClass, Set<JNode>> declaredNodes = new ConcurrentHashMap<>();
+
 	public void processClass(JavaClass javaClass, CodeLinesInfo linesInfo, List<StringRef> lines) {
 		try {
+			Map<JNode, List<CodeNode>> clsUsages = new HashMap<>();
 			Map<CodePosition, JavaNode> usage = javaClass.getUsageMap();
 			for (Map.Entry<CodePosition, JavaNode> entry : usage.entrySet()) {
 				CodePosition codePosition = entry.getKey();
-				JavaNode javaNode = entry.getValue();
-				addUsage(nodeCache.makeFrom(javaNode), javaClass, linesInfo, codePosition, lines);
+				JNode jNode = nodeCache.makeFrom(entry.getValue());
+				CodeNode codeNode = makeCodeNode(javaClass, linesInfo, codePosition, lines);
+				clsUsages.computeIfAbsent(jNode, key -> new ArrayList<>()).add(codeNode);
 			}
+			for (Map.Entry<JNode, List<CodeNode>> entry : clsUsages.entrySet()) {
+				getUsageInfo(entry.getKey()).setUsages(javaClass, entry.getValue());
+			}
+			usedNodes.put(javaClass, clsUsages.keySet());
 		} catch (Exception e) {
 			LOG.error("Code usage process failed for class: {}", javaClass, e);
 		}
 	}
 
-	private void addUsage(JNode jNode, JavaClass javaClass,
-			CodeLinesInfo linesInfo, CodePosition codePosition, List<StringRef> lines) {
-		UsageInfo usageInfo = usageMap.computeIfAbsent(jNode, key -> new UsageInfo());
+	private CodeNode makeCodeNode(JavaClass javaClass, CodeLinesInfo linesInfo, CodePosition codePosition, List<StringRef> lines) {
 		int line = codePosition.getLine();
 		JavaNode javaNodeByLine = linesInfo.getJavaNodeByLine(line);
 		StringRef codeLine = lines.get(line - 1);
 		JNode node = nodeCache.makeFrom(javaNodeByLine == null ? javaClass : javaNodeByLine);
-		CodeNode codeNode = new CodeNode(node, codeLine, line, codePosition.getPos());
-		usageInfo.addUsage(codeNode);
+		return new CodeNode(node, codeLine, line, codePosition.getPos());
+	}
+
+	private UsageInfo getUsageInfo(JNode jNode) {
+		return usageMap.computeIfAbsent(jNode, key -> {
+			JavaClass topCls = key.getJavaNode().getTopParentClass();
+			declaredNodes.computeIfAbsent(topCls, cls -> ConcurrentHashMap.newKeySet()).add(key);
+			return new UsageInfo();
+		});
 	}
 
 	public List<CodeNode> getUsageList(JNode node) {
@@ -76,13 +105,25 @@ public class CodeUsageInfo {
 		return usageInfo.getUsageList();
 	}
 
+	/**
+	 * Remove usages located in class code and usage info for nodes declared in class.
+	 * Only nodes related to this class are touched.
+	 */
 	public void remove(JavaClass cls) {
-		usageMap.entrySet().removeIf(e -> {
-			if (e.getKey().getJavaNode().getTopParentClass().equals(cls)) {
-				return true;
+		Set<JNode> used = usedNodes.remove(cls);
+		if (used != null) {
+			for (JNode node : used) {
+				UsageInfo usageInfo = usageMap.get(node);
+				if (usageInfo != null) {
+					usageInfo.removeUsages(cls);
+				}
 			}
-			e.getValue().removeUsageIf(node -> node.getJavaNode().getTopParentClass().equals(cls));
-			return false;
-		});
+		}
+		Set<JNode> declared = declaredNodes.remove(cls);
+		if (declared != null) {
+			for (JNode node : declared) {
+				usageMap.remove(node);
+			}
+		}
 	}
 }
@@ -16,11 +16,14 @@ public class JNodeCache {
 			return null;
 		}
 		JNode jNode = cache.get(javaNode);
-		if (jNode == null) {
-			jNode = convert(javaNode);
-			cache.put(javaNode, jNode);
+		if (jNode != null) {
+			return jNode;
 		}
-		return jNode;
+		// called concurrently from search threads, keep node created first
+		// (computeIfAbsent not used since convert is recursive)
+		JNode newNode = convert(javaNode);
+		JNode prevNode = cache.putIfAbsent(javaNode, newNode);
+		return prevNode != null ? prevNode : newNode;
 	}
 
 	private JNode convert(JavaNode node) {
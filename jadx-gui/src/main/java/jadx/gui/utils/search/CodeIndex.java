@@ -1,12 +1,13 @@
 package jadx.gui.utils.search;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 
 import jadx.api.JavaClass;
@@ -18,14 +19,25 @@ public class CodeIndex {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CodeIndex.class);
 
-	private final List<CodeNode> values = new ArrayList<>();
+	/**
+	 * Code lines grouped by top level class, so class can be replaced without full index scan
+	 */
+	private final Map<JavaClass, List<CodeNode>> values = new LinkedHashMap<>();
+	private int size;
 
-	public synchronized void put(CodeNode value) {
-		values.add(value);
+	public synchronized void put(JavaClass cls, List<CodeNode> clsValues) {
+		List<CodeNode> prev = values.put(cls, clsValues);
+		if (prev != null) {
+			size -= prev.size();
+		}
+		size += clsValues.size();
 	}
 
 	public synchronized void removeForCls(JavaClass cls) {
-		values.removeIf(v -> v.getJavaNode().getTopParentClass().equals(cls));
+		List<CodeNode> prev = values.remove(cls);
+		if (prev != null) {
+			size -= prev.size();
+		}
 	}
 
 	private boolean isMatched(StringRef key, SearchSettings searchSettings) {
@@ -34,26 +46,31 @@ public class CodeIndex {
 
 	public Flowable<CodeNode> search(final SearchSettings searchSettings) {
 		JClass activeCls = searchSettings.getActiveCls();
-		return Flowable.create(emitter -> {
+		return Flowable.defer(() -> {
 			LOG.debug("Code search started: {} ...", searchSettings.getSearchString());
-			for (CodeNode node : values) {
+			return ParallelSearch.search(getValues(), node -> {
 				if (activeCls == null || node.getRootClass().equals(activeCls)) {
-					int pos = searchSettings.find(node.getLineStr());
-					if (pos > -1) {
-						emitter.onNext(node);
+					if (searchSettings.find(node.getLineStr()) > -1) {
+						return node;
 					}
 				}
-				if (emitter.isCancelled()) {
-					LOG.debug("Code search canceled: {}", searchSettings.getSearchString());
-					return;
-				}
-			}
-			LOG.debug("Code search complete: {}, memory usage: {}", searchSettings.getSearchString(), UiUtils.memoryInfo());
-			emitter.onComplete();
-		}, BackpressureStrategy.BUFFER);
+				return null;
+			});
+		})
+				.doOnCancel(() -> LOG.debug("Code search canceled: {}", searchSettings.getSearchString()))
+				.doOnComplete(() -> LOG.debug("Code search complete: {}, memory usage: {}",
+						searchSettings.getSearchString(), UiUtils.memoryInfo()));
+	}
+
+	private synchronized List<CodeNode> getValues() {
+		List<CodeNode> list = new ArrayList<>(size);
+		for (List<CodeNode> clsValues : values.values()) {
+			list.addAll(clsValues);
+		}
+		return list;
 	}
 
-	public int size() {
-		return values.size();
+	public synchronized int size() {
+		return size;
 	}
 }
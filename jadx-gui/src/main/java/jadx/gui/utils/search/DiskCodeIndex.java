@@ -0,0 +1,234 @@
+package jadx.gui.utils.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
+
+import jadx.api.JavaClass;
+import jadx.api.JavaNode;
+import jadx.core.utils.files.FileUtils;
+import jadx.gui.treemodel.CodeNode;
+import jadx.gui.treemodel.JClass;
+import jadx.gui.utils.CodeLinesInfo;
+import jadx.gui.utils.JNodeCache;
+
+/**
+ * Code lines index stored in temp files and searched through memory mapping.
+ * Used instead of {@link CodeIndex} when java heap is almost full.
+ * <p>
+ * Line record: class index, line number, node index, line length and line chars (UTF-16).
+ * Only classes and nodes at lines start kept in memory, code nodes created for found lines.
+ */
+public class DiskCodeIndex {
+	private static final Logger LOG = LoggerFactory.getLogger(DiskCodeIndex.class);
+
+	private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+	private static final int RECORD_HEADER_SIZE = 4 * 4;
+
+	private static final class SpilledClass {
+		private final JavaClass cls;
+		private final JavaNode[] nodes;
+
+		private SpilledClass(JavaClass cls, JavaNode[] nodes) {
+			this.cls = cls;
+			this.nodes = nodes;
+		}
+	}
+
+	private static final class Segment {
+		private final Path file;
+		private final FileChannel channel;
+		private long size;
+
+		private Segment(Path file) throws IOException {
+			this.file = file;
+			this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		}
+	}
+
+	private final JNodeCache nodeCache;
+	private final List<SpilledClass> classes = new ArrayList<>();
+	private final Map<JavaClass, Integer> classIndexes = new HashMap<>();
+	private final List<Segment> segments = new ArrayList<>();
+	private int linesCount;
+
+	public DiskCodeIndex(JNodeCache nodeCache) {
+		this.nodeCache = nodeCache;
+	}
+
+	public void put(JavaClass cls, CodeLinesInfo linesInfo, List<StringRef> lines) throws IOException {
+		Map<JavaNode, Integer> nodesMap = new IdentityHashMap<>();
+		List<JavaNode> nodes = new ArrayList<>();
+		int count = lines.size();
+		int dataSize = 0;
+		int[] lineNodes = new int[count];
+		for (int i = 0; i < count; i++) {
+			StringRef line = lines.get(i);
+			if (skipLine(line)) {
+				lineNodes[i] = -1;
+				continue;
+			}
+			JavaNode node = linesInfo.getJavaNodeByLine(i + 1);
+			JavaNode javaNode = node == null ? cls : node;
+			Integer nodeIdx = nodesMap.get(javaNode);
+			if (nodeIdx == null) {
+				nodeIdx = nodes.size();
+				nodes.add(javaNode);
+				nodesMap.put(javaNode, nodeIdx);
+			}
+			lineNodes[i] = nodeIdx;
+			dataSize += RECORD_HEADER_SIZE + line.length() * 2;
+		}
+		if (dataSize == 0) {
+			return;
+		}
+		synchronized (this) {
+			int clsIdx = classes.size();
+			ByteBuffer buf = ByteBuffer.allocate(dataSize);
+			int written = 0;
+			for (int i = 0; i < count; i++) {
+				int nodeIdx = lineNodes[i];
+				if (nodeIdx == -1) {
+					continue;
+				}
+				StringRef line = lines.get(i);
+				int len = line.length();
+				buf.putInt(clsIdx);
+				buf.putInt(i + 1);
+				buf.putInt(nodeIdx);
+				buf.putInt(len);
+				for (int c = 0; c < len; c++) {
+					buf.putChar(line.charAt(c));
+				}
+				written++;
+			}
+			buf.flip();
+			Segment segment = getSegmentFor(dataSize);
+			long pos = segment.size;
+			while (buf.hasRemaining()) {
+				pos += segment.channel.write(buf, pos);
+			}
+			// commit size only after all records written, partial data will be overwritten by next class
+			segment.size = pos;
+			removeForCls(cls);
+			classes.add(new SpilledClass(cls, nodes.toArray(new JavaNode[0])));
+			classIndexes.put(cls, clsIdx);
+			linesCount += written;
+		}
+	}
+
+	private static boolean skipLine(StringRef line) {
+		int lineLength = line.length();
+		return lineLength == 0 || (lineLength == 1 && line.charAt(0) == '}');
+	}
+
+	private Segment getSegmentFor(int dataSize) throws IOException {
+		if (!segments.isEmpty()) {
+			Segment last = segments.get(segments.size() - 1);
+			if (last.size + dataSize <= SEGMENT_SIZE) {
+				return last;
+			}
+		}
+		Segment segment = new Segment(FileUtils.createTempFile(".jcidx"));
+		segments.add(segment);
+		return segment;
+	}
+
+	public synchronized void removeForCls(JavaClass cls) {
+		Integer clsIdx = classIndexes.remove(cls);
+		if (clsIdx != null) {
+			// lines still in file, but will be skipped in search
+			classes.set(clsIdx, null);
+		}
+	}
+
+	public Flowable<CodeNode> search(final SearchSettings searchSettings) {
+		return Flowable.defer(() -> {
+			LOG.debug("Disk code search started: {} ...", searchSettings.getSearchString());
+			return ParallelSearch.searchParts(mapSegments(),
+					buf -> Flowable.<CodeNode>create(emitter -> searchInSegment(buf, searchSettings, emitter), BackpressureStrategy.BUFFER));
+		})
+				.doOnCancel(() -> LOG.debug("Disk code search canceled: {}", searchSettings.getSearchString()))
+				.doOnComplete(() -> LOG.debug("Disk code search complete: {}", searchSettings.getSearchString()));
+	}
+
+	private void searchInSegment(MappedByteBuffer buf, SearchSettings searchSettings, FlowableEmitter<CodeNode> emitter) {
+		JClass activeCls = searchSettings.getActiveCls();
+		char[] chars = new char[256];
+		while (buf.hasRemaining()) {
+			int clsIdx = buf.getInt();
+			int lineNum = buf.getInt();
+			int nodeIdx = buf.getInt();
+			int len = buf.getInt();
+			if (chars.length < len) {
+				chars = new char[len];
+			}
+			for (int c = 0; c < len; c++) {
+				chars[c] = buf.getChar();
+			}
+			SpilledClass spilledCls = getSpilledClass(clsIdx);
+			if (spilledCls == null) {
+				continue;
+			}
+			if (activeCls != null && !nodeCache.makeFrom(spilledCls.cls).equals(activeCls)) {
+				continue;
+			}
+			String line = new String(chars, 0, len);
+			if (searchSettings.find(line) > -1) {
+				JavaNode javaNode = spilledCls.nodes[nodeIdx];
+				emitter.onNext(new CodeNode(nodeCache.makeFrom(javaNode), StringRef.fromStr(line), lineNum, javaNode.getDefPos()));
+			}
+			if (emitter.isCancelled()) {
+				return;
+			}
+		}
+		emitter.onComplete();
+	}
+
+	private synchronized SpilledClass getSpilledClass(int clsIdx) {
+		return classes.get(clsIdx);
+	}
+
+	private synchronized List<MappedByteBuffer> mapSegments() throws IOException {
+		List<MappedByteBuffer> list = new ArrayList<>(segments.size());
+		for (Segment segment : segments) {
+			list.add(segment.channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.size));
+		}
+		return list;
+	}
+
+	public synchronized int size() {
+		return linesCount;
+	}
+
+	public synchronized void close() {
+		for (Segment segment : segments) {
+			try {
+				segment.channel.close();
+				Files.deleteIfExists(segment.file);
+			} catch (Exception e) {
+				LOG.debug("Failed to delete index file: {}", segment.file, e);
+			}
+		}
+		segments.clear();
+		classes.clear();
+		classIndexes.clear();
+		linesCount = 0;
+	}
+}
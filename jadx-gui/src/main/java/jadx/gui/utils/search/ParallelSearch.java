@@ -0,0 +1,77 @@
+package jadx.gui.utils.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Split index data into chunks and scan them in parallel on computation scheduler.
+ * Results emitted in same order as in source list, cancellation checked after every item.
+ */
+public final class ParallelSearch {
+	private static final int MIN_CHUNK_SIZE = 5_000;
+	private static final int MAX_CONCURRENCY = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Check item and return search result or {@code null} if not matched
+	 */
+	public interface Matcher<T, R> {
+		@Nullable
+		R match(T item) throws Exception;
+	}
+
+	public static <T, R> Flowable<R> search(List<T> items, Matcher<T, R> matcher) {
+		int size = items.size();
+		int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (MAX_CONCURRENCY * 4) + 1);
+		if (size <= chunkSize) {
+			return scanChunk(items, matcher);
+		}
+		List<Flowable<R>> chunks = new ArrayList<>();
+		for (int start = 0; start < size; start += chunkSize) {
+			List<T> chunk = items.subList(start, Math.min(size, start + chunkSize));
+			chunks.add(scanChunk(chunk, matcher).subscribeOn(Schedulers.computation()));
+		}
+		return Flowable.concatEager(chunks, MAX_CONCURRENCY, Flowable.bufferSize());
+	}
+
+	/**
+	 * Scan several independent parts (like files) in parallel, each part produce list of results.
+	 */
+	public static <T, R> Flowable<R> searchParts(List<T> parts, Function<T, Flowable<R>> partSearch) {
+		if (parts.size() == 1) {
+			return partSearch.apply(parts.get(0));
+		}
+		List<Flowable<R>> flows = new ArrayList<>(parts.size());
+		for (T part : parts) {
+			flows.add(partSearch.apply(part).subscribeOn(Schedulers.computation()));
+		}
+		return Flowable.concatEager(flows, MAX_CONCURRENCY, Flowable.bufferSize());
+	}
+
+	private static <T, R> Flowable<R> scanChunk(List<T> items, Matcher<T, R> matcher) {
+		return Flowable.create(emitter -> scan(items, matcher, emitter), BackpressureStrategy.BUFFER);
+	}
+
+	private static <T, R> void scan(List<T> items, Matcher<T, R> matcher, FlowableEmitter<R> emitter) throws Exception {
+		for (T item : items) {
+			R result = matcher.match(item);
+			if (result != null) {
+				emitter.onNext(result);
+			}
+			if (emitter.isCancelled()) {
+				return;
+			}
+		}
+		emitter.onComplete();
+	}
+
+	private ParallelSearch() {
+	}
+}
@@ -24,6 +24,10 @@ import static jadx.core.utils.StringUtils.*;
 
 public class ResourceIndex {
 	private final List<JResource> resNodes = new ArrayList<>();
+	/**
+	 * Trigrams of decoded resources content, allow to skip resources without search string
+	 */
+	private final Map<JResource, int[]> resTrigrams = new ConcurrentHashMap<>();
 	private final Set<String> extSet = new HashSet<>();
 	private CacheObject cache;
 	private String fileExts;
@@ -78,9 +82,14 @@ public class ResourceIndex {
 		if (resNodes.size() == 0) {
 			return Flowable.empty();
 		}
+		// regex can match without any trigram from pattern string
+		int[] searchTrigrams = settings.isUseRegex() ? null : Trigrams.build(settings.getSearchString());
 		return Flowable.create(emitter -> {
 			for (JResource resNode : resNodes) {
-				if (!emitter.isCancelled()) {
+				if (emitter.isCancelled()) {
+					break;
+				}
+				if (searchTrigrams == null || mayContain(resNode, searchTrigrams)) {
 					search(resNode, emitter, settings);
 				}
 			}
@@ -88,8 +97,31 @@ public class ResourceIndex {
 		}, BackpressureStrategy.BUFFER);
 	}
 
+	private boolean mayContain(JResource resNode, int[] searchTrigrams) {
+		int[] trigrams = getTrigrams(resNode);
+		return trigrams == null || Trigrams.containsAll(trigrams, searchTrigrams);
+	}
+
+	private int[] getTrigrams(JResource resNode) {
+		return resTrigrams.computeIfAbsent(resNode, node -> {
+			try {
+				return Trigrams.build(node.getContent());
+			} catch (Exception e) {
+				// not stored, resource will be checked by full search
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Collect resources for search and build trigrams for them,
+	 * so decoding and trigrams calculation not needed on search.
+	 */
 	public void index() {
 		refreshSettings();
+		for (JResource resNode : resNodes) {
+			getTrigrams(resNode);
+		}
 	}
 
 	private void clear() {
@@ -98,6 +130,7 @@ public class ResourceIndex {
 		fileExts = "";
 		extSet.clear();
 		resNodes.clear();
+		resTrigrams.clear();
 	}
 
 	private void traverseTree(TreeNode root, ZipFile zip) {
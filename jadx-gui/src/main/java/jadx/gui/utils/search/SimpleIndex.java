@@ -1,10 +1,11 @@
 package jadx.gui.utils.search;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
-import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 
 import jadx.api.JavaClass;
@@ -12,14 +13,17 @@ import jadx.gui.treemodel.JClass;
 import jadx.gui.treemodel.JNode;
 
 public class SimpleIndex {
-	private final Map<JNode, String> data = new ConcurrentHashMap<>();
+	/**
+	 * Nodes grouped by top level class
+	 */
+	private final Map<JavaClass, Map<JNode, String>> data = new ConcurrentHashMap<>();
 
-	public void put(String str, JNode value) {
-		data.put(value, str);
+	public void put(JavaClass topCls, String str, JNode value) {
+		data.computeIfAbsent(topCls, cls -> new ConcurrentHashMap<>()).put(value, str);
 	}
 
 	public void removeForCls(JavaClass cls) {
-		data.entrySet().removeIf(e -> e.getKey().getJavaNode().getTopParentClass().equals(cls));
+		data.remove(cls);
 	}
 
 	private boolean isMatched(String str, JNode node, SearchSettings searchSettings) {
@@ -34,21 +38,23 @@ public class SimpleIndex {
 	}
 
 	public Flowable<JNode> search(final SearchSettings searchSettings) {
-		return Flowable.create(emitter -> {
-			for (Map.Entry<JNode, String> entry : data.entrySet()) {
-				JNode node = entry.getKey();
-				if (isMatched(entry.getValue(), node, searchSettings)) {
-					emitter.onNext(node);
-				}
-				if (emitter.isCancelled()) {
-					return;
-				}
+		return Flowable.defer(() -> {
+			List<Map.Entry<JNode, String>> entries = new ArrayList<>();
+			for (Map<JNode, String> clsData : data.values()) {
+				entries.addAll(clsData.entrySet());
 			}
-			emitter.onComplete();
-		}, BackpressureStrategy.BUFFER);
+			return ParallelSearch.search(entries, entry -> {
+				JNode node = entry.getKey();
+				return isMatched(entry.getValue(), node, searchSettings) ? node : null;
+			});
+		});
 	}
 
 	public int size() {
-		return data.size();
+		int size = 0;
+		for (Map<JNode, String> clsData : data.values()) {
+			size += clsData.size();
+		}
+		return size;
 	}
 }
@@ -1,5 +1,6 @@
 package jadx.gui.utils.search;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -48,6 +49,7 @@ public class TextSearchIndex {
 	private final SimpleIndex mthSignaturesIndex;
 	private final SimpleIndex fldSignaturesIndex;
 	private final CodeIndex codeIndex;
+	private final DiskCodeIndex diskCodeIndex;
 	private final ResourceIndex resIndex;
 
 	private final List<JavaClass> skippedClasses = new ArrayList<>();
@@ -61,26 +63,32 @@ public class TextSearchIndex {
 		this.mthSignaturesIndex = new SimpleIndex();
 		this.fldSignaturesIndex = new SimpleIndex();
 		this.codeIndex = new CodeIndex();
+		this.diskCodeIndex = new DiskCodeIndex(nodeCache);
 	}
 
 	public void indexNames(JavaClass cls) {
-		clsNamesIndex.put(cls.getFullName(), nodeCache.makeFrom(cls));
+		indexNames(cls, cls);
+	}
+
+	private void indexNames(JavaClass topCls, JavaClass cls) {
+		clsNamesIndex.put(topCls, cls.getFullName(), nodeCache.makeFrom(cls));
 		for (JavaMethod mth : cls.getMethods()) {
 			JNode mthNode = nodeCache.makeFrom(mth);
-			mthSignaturesIndex.put(mthNode.makeDescString(), mthNode);
+			mthSignaturesIndex.put(topCls, mthNode.makeDescString(), mthNode);
 		}
 		for (JavaField fld : cls.getFields()) {
 			JNode fldNode = nodeCache.makeFrom(fld);
-			fldSignaturesIndex.put(fldNode.makeDescString(), fldNode);
+			fldSignaturesIndex.put(topCls, fldNode.makeDescString(), fldNode);
 		}
 		for (JavaClass innerCls : cls.getInnerClasses()) {
-			indexNames(innerCls);
+			indexNames(topCls, innerCls);
 		}
 	}
 
 	public void indexCode(JavaClass cls, CodeLinesInfo linesInfo, List<StringRef> lines) {
 		try {
 			int count = lines.size();
+			List<CodeNode> clsLines = new ArrayList<>(count);
 			for (int i = 0; i < count; i++) {
 				StringRef line = lines.get(i);
 				int lineLength = line.length();
@@ -91,13 +99,21 @@ public class TextSearchIndex {
 				JavaNode node = linesInfo.getJavaNodeByLine(lineNum);
 				JavaNode javaNode = node == null ? cls : node;
 				JNode nodeAtLine = nodeCache.makeFrom(javaNode);
-				codeIndex.put(new CodeNode(nodeAtLine, line, lineNum, javaNode.getDefPos()));
+				clsLines.add(new CodeNode(nodeAtLine, line, lineNum, javaNode.getDefPos()));
 			}
+			codeIndex.put(cls, clsLines);
 		} catch (Exception e) {
 			LOG.warn("Failed to index class: {}", cls, e);
 		}
 	}
 
+	/**
+	 * Store code lines in disk index, used on low memory instead of {@link #indexCode}.
+	 */
+	public void indexCodeOnDisk(JavaClass cls, CodeLinesInfo linesInfo, List<StringRef> lines) throws IOException {
+		diskCodeIndex.put(cls, linesInfo, lines);
+	}
+
 	public void indexResource() {
 		resIndex.index();
 	}
@@ -107,6 +123,14 @@ public class TextSearchIndex {
 		this.mthSignaturesIndex.removeForCls(cls);
 		this.fldSignaturesIndex.removeForCls(cls);
 		this.codeIndex.removeForCls(cls);
+		this.diskCodeIndex.removeForCls(cls);
+	}
+
+	/**
+	 * Release resources used by disk index
+	 */
+	public void close() {
+		diskCodeIndex.close();
 	}
 
 	public Flowable<JNode> buildSearch(String text, Set<SearchDialog.SearchOptions> options) {
@@ -153,6 +177,9 @@ public class TextSearchIndex {
 			if (codeIndex.size() > 0) {
 				result = Flowable.concat(result, codeIndex.search(searchSettings));
 			}
+			if (diskCodeIndex.size() > 0) {
+				result = Flowable.concat(result, diskCodeIndex.search(searchSettings));
+			}
 			if (!skippedClasses.isEmpty()) {
 				result = Flowable.concat(result, searchInSkippedClasses(searchSettings));
 			}
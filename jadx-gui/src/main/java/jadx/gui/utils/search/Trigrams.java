@@ -0,0 +1,65 @@
+package jadx.gui.utils.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of hashed char trigrams, used to skip texts which can't contain search string.
+ * <p>
+ * Chars are case folded, so same set works for case sensitive and ignore case search.
+ * Hash is exact for chars below 1024, collisions for other chars only add false positives.
+ */
+public final class Trigrams {
+	private static final int[] EMPTY = new int[0];
+
+	public static int[] build(String str) {
+		int count = str.length() - 2;
+		if (count <= 0) {
+			return EMPTY;
+		}
+		int[] arr = new int[count];
+		int a = fold(str.charAt(0));
+		int b = fold(str.charAt(1));
+		for (int i = 0; i < count; i++) {
+			int c = fold(str.charAt(i + 2));
+			arr[i] = hash(a, b, c);
+			a = b;
+			b = c;
+		}
+		Arrays.sort(arr);
+		int k = 1;
+		for (int i = 1; i < count; i++) {
+			int v = arr[i];
+			if (v != arr[k - 1]) {
+				arr[k++] = v;
+			}
+		}
+		return k == count ? arr : Arrays.copyOf(arr, k);
+	}
+
+	/**
+	 * Check if text trigrams contains all trigrams from search string.
+	 * Search strings shorter than 3 chars matches any text.
+	 */
+	public static boolean containsAll(int[] text, int[] search) {
+		for (int v : search) {
+			if (Arrays.binarySearch(text, v) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Same folding as in {@link String#regionMatches(boolean, int, String, int, int)} with ignore case
+	 */
+	private static int fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static int hash(int a, int b, int c) {
+		return (a & 0x3FF) << 20 | (b & 0x3FF) << 10 | (c & 0x3FF);
+	}
+
+	private Trigrams() {
+	}
+}
@@ -0,0 +1,90 @@
+package jadx.gui.utils.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.Factory;
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.api.JavaClass;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.gui.treemodel.JClass;
+import jadx.gui.utils.CodeLinesInfo;
+import jadx.gui.utils.JNodeCache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DiskCodeIndexTest {
+
+	private JadxDecompiler decompiler;
+	private DiskCodeIndex index;
+
+	@BeforeEach
+	public void init() {
+		decompiler = new JadxDecompiler(new JadxArgs());
+		JNodeCache nodeCache = mock(JNodeCache.class);
+		when(nodeCache.makeFrom(any())).thenReturn(mock(JClass.class));
+		index = new DiskCodeIndex(nodeCache);
+	}
+
+	@AfterEach
+	public void close() {
+		index.close();
+		decompiler.close();
+	}
+
+	@Test
+	public void testPutAndSearch() throws Exception {
+		JavaClass cls1 = newClass();
+		JavaClass cls2 = newClass();
+		index.put(cls1, mock(CodeLinesInfo.class), lines("class A {", "int foo = 1;", "}"));
+		index.put(cls2, mock(CodeLinesInfo.class), lines("class B {", "", "String bar = \"foo\";", "}"));
+		assertThat(index.size(), is(4));
+
+		assertThat(search("foo"), contains("2: int foo = 1;", "3: String bar = \"foo\";"));
+		assertThat(search("BAR"), contains("3: String bar = \"foo\";"));
+		assertThat(search("baz"), empty());
+	}
+
+	@Test
+	public void testRemove() throws Exception {
+		JavaClass cls1 = newClass();
+		JavaClass cls2 = newClass();
+		index.put(cls1, mock(CodeLinesInfo.class), lines("int foo = 1;"));
+		index.put(cls2, mock(CodeLinesInfo.class), lines("int foo = 2;"));
+
+		index.removeForCls(cls1);
+		assertThat(search("foo"), contains("1: int foo = 2;"));
+
+		// replaced class code
+		index.put(cls2, mock(CodeLinesInfo.class), lines("long foo = 3;"));
+		assertThat(search("foo"), contains("1: long foo = 3;"));
+	}
+
+	private List<String> search(String str) {
+		SearchSettings settings = new SearchSettings(str, true, false);
+		return index.search(settings)
+				.map(node -> node.getLine() + ": " + node.getLineStr())
+				.toList()
+				.blockingGet();
+	}
+
+	private JavaClass newClass() {
+		return Factory.newClass(decompiler, mock(ClassNode.class));
+	}
+
+	private static List<StringRef> lines(String... lines) {
+		return Arrays.stream(lines).map(StringRef::fromStr).collect(Collectors.toList());
+	}
+}
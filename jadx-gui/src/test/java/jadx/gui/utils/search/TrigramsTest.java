@@ -0,0 +1,42 @@
+package jadx.gui.utils.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class TrigramsTest {
+
+	@Test
+	public void testContains() {
+		int[] text = Trigrams.build("<string name=\"app_name\">Test</string>");
+		assertThat(check(text, "app_name"), is(true));
+		assertThat(check(text, "string"), is(true));
+		assertThat(check(text, "Test</"), is(true));
+		assertThat(check(text, "app_title"), is(false));
+	}
+
+	@Test
+	public void testIgnoreCase() {
+		int[] text = Trigrams.build("android:layout_Width");
+		assertThat(check(text, "LAYOUT_width"), is(true));
+		assertThat(check(text, "Layout_Height"), is(false));
+	}
+
+	@Test
+	public void testShortStrings() {
+		int[] text = Trigrams.build("ab");
+		assertThat(text.length, is(0));
+		assertThat(check(text, "ab"), is(true));
+		assertThat(check(text, "abc"), is(false));
+	}
+
+	@Test
+	public void testDuplicates() {
+		assertThat(Trigrams.build("aaaaaa").length, is(1));
+	}
+
+	private static boolean check(int[] text, String search) {
+		return Trigrams.containsAll(text, Trigrams.build(search));
+	}
+}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -23,7 +24,8 @@ import jadx.plugins.input.dex.sections.DexConsts;
 public class DexFileLoader {
 	private static final Logger LOG = LoggerFactory.getLogger(DexFileLoader.class);
 
-	private static int dexUniqId = 1;
+	// input plugins can be executed concurrently and all of them use this loader
+	private static final AtomicInteger DEX_UNIQ_ID = new AtomicInteger(1);
 
 	public static List<DexReader> collectDexFiles(List<Path> pathsList) {
 		return pathsList.stream()
@@ -97,14 +99,10 @@ public class DexFileLoader {
 	}
 
 	private static int getNextUniqId() {
-		dexUniqId++;
-		if (dexUniqId >= 0xFFFF) {
-			resetDexUniqId();
-		}
-		return dexUniqId;
+		return DEX_UNIQ_ID.updateAndGet(id -> id + 1 >= 0xFFFF ? 1 : id + 1);
 	}
 
 	public static void resetDexUniqId() {
-		dexUniqId = 1;
+		DEX_UNIQ_ID.set(1);
 	}
 }
@@ -28,6 +28,18 @@ public class DexLoadResult implements ILoadResult {
 		}
 	}
 
+	@Nullable
+	@Override
+	public IClassData searchClass(String type) {
+		for (DexReader dexReader : dexReaders) {
+			IClassData cls = dexReader.searchClass(type);
+			if (cls != null) {
+				return cls;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public void visitResources(Consumer<IResourceData> consumer) {
 	}
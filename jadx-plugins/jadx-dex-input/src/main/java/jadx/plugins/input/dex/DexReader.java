@@ -3,8 +3,11 @@ package jadx.plugins.input.dex;
 import java.nio.ByteBuffer;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
+
 import jadx.api.plugins.input.data.IClassData;
 import jadx.plugins.input.dex.sections.DexClassData;
+import jadx.plugins.input.dex.sections.DexConsts;
 import jadx.plugins.input.dex.sections.DexHeader;
 import jadx.plugins.input.dex.sections.SectionReader;
 import jadx.plugins.input.dex.sections.annotations.AnnotationsParser;
@@ -37,6 +40,26 @@ public class DexReader {
 		}
 	}
 
+	/**
+	 * Search class by type, classes names not decoded
+	 */
+	@Nullable
+	public IClassData searchClass(String type) {
+		int typeIdx = new SectionReader(this, 0).searchTypeIdx(type);
+		if (typeIdx == DexConsts.NO_INDEX) {
+			return null;
+		}
+		int count = header.getClassDefsSize();
+		SectionReader in = new SectionReader(this, header.getClassDefsOff());
+		for (int i = 0; i < count; i++) {
+			if (in.pos(0).readInt() == typeIdx) {
+				return new DexClassData(in, new AnnotationsParser(in.copy(), in.copy()));
+			}
+			in.shiftOffset(DexClassData.SIZE);
+		}
+		return null;
+	}
+
 	public ByteBuffer getBuf() {
 		return buf;
 	}
@@ -42,6 +42,18 @@ public class DexClassData implements IClassData {
 		return clsType;
 	}
 
+	/**
+	 * Class type reference for checks without string decoding
+	 */
+	public DexStringRef getTypeRef() {
+		int typeIdx = in.pos(0).readInt();
+		DexStringRef clsType = in.getTypeRef(typeIdx);
+		if (clsType == null) {
+			throw new NullPointerException("Unknown class type");
+		}
+		return clsType;
+	}
+
 	@Override
 	public int getAccessFlags() {
 		return in.pos(4).readInt();
@@ -0,0 +1,110 @@
+package jadx.plugins.input.dex.sections;
+
+import jadx.plugins.input.dex.utils.MUtf8;
+
+/**
+ * Reference to MUTF-8 encoded string data in dex buffer.
+ * Allow to check string content without decoding into {@link String}.
+ */
+public final class DexStringRef {
+	private final byte[] data;
+	private final int start;
+	private final int length;
+
+	DexStringRef(byte[] data, int start, int length) {
+		this.data = data;
+		this.start = start;
+		this.length = length;
+	}
+
+	/**
+	 * @return string length in UTF-16 code units
+	 */
+	public int length() {
+		return length;
+	}
+
+	public boolean equalsTo(String str) {
+		return str.length() == length && compareChars(str, length) == 0;
+	}
+
+	public boolean startsWith(String prefix) {
+		int len = prefix.length();
+		return len <= length && compareChars(prefix, len) == 0;
+	}
+
+	/**
+	 * Compare by UTF-16 code units, same order used for strings sorting in dex
+	 */
+	public int compareTo(String str) {
+		int strLen = str.length();
+		int cmp = compareChars(str, Math.min(length, strLen));
+		return cmp != 0 ? cmp : length - strLen;
+	}
+
+	private int compareChars(String str, int count) {
+		byte[] bytes = data;
+		int pos = start;
+		for (int i = 0; i < count; i++) {
+			int a = bytes[pos] & 0xFF;
+			char c;
+			if (a < 0x80) {
+				c = (char) a;
+				pos++;
+			} else if ((a & 0xE0) == 0xC0) {
+				c = (char) (((a & 0x1F) << 6) | (bytes[pos + 1] & 0x3F));
+				pos += 2;
+			} else {
+				c = (char) (((a & 0x0F) << 12) | ((bytes[pos + 1] & 0x3F) << 6) | (bytes[pos + 2] & 0x3F));
+				pos += 3;
+			}
+			char strChar = str.charAt(i);
+			if (c != strChar) {
+				return c - strChar;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof DexStringRef)) {
+			return false;
+		}
+		DexStringRef other = (DexStringRef) o;
+		if (length != other.length) {
+			return false;
+		}
+		byte[] otherData = other.data;
+		int i = start;
+		int j = other.start;
+		while (true) {
+			byte b = data[i++];
+			if (b != otherData[j++]) {
+				return false;
+			}
+			if (b == 0) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 0;
+		int pos = start;
+		byte b;
+		while ((b = data[pos++]) != 0) {
+			h = 31 * h + b;
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		return MUtf8.decode(data, start, length);
+	}
+}
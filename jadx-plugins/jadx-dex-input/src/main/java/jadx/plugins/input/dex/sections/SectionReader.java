@@ -170,11 +170,92 @@ public class SectionReader {
 			return null;
 		}
 		// TODO: make string pool cache?
+		seekString(idx);
+		return MUtf8.decode(this);
+	}
+
+	/**
+	 * Same as {@link #getType(int)}, but without string decoding
+	 */
+	@Nullable
+	public DexStringRef getTypeRef(int idx) {
+		if (idx == NO_INDEX) {
+			return null;
+		}
+		int typeIdsOff = dexReader.getHeader().getTypeIdsOff();
+		absPos(typeIdsOff + idx * 4);
+		int strIdx = readInt();
+		return getStringRef(strIdx);
+	}
+
+	/**
+	 * Same as {@link #getString(int)}, but without string decoding
+	 */
+	@Nullable
+	public DexStringRef getStringRef(int idx) {
+		if (idx == NO_INDEX) {
+			return null;
+		}
+		seekString(idx);
+		int len = readUleb128();
+		return new DexStringRef(buf.array(), buf.position(), len);
+	}
+
+	/**
+	 * Search string index by content without strings decoding,
+	 * binary search used since strings in dex are sorted
+	 *
+	 * @return string index or {@link DexConsts#NO_INDEX} if not found
+	 */
+	public int searchStringIdx(String str) {
+		int low = 0;
+		int high = dexReader.getHeader().getStringIdsSize() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = getStringRef(mid).compareTo(str);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	/**
+	 * Search type index by name without strings decoding, type ids are sorted by string index
+	 *
+	 * @return type index or {@link DexConsts#NO_INDEX} if not found
+	 */
+	public int searchTypeIdx(String type) {
+		int strIdx = searchStringIdx(type);
+		if (strIdx == NO_INDEX) {
+			return NO_INDEX;
+		}
+		int typeIdsOff = dexReader.getHeader().getTypeIdsOff();
+		int low = 0;
+		int high = dexReader.getHeader().getTypeIdsSize() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midStrIdx = absPos(typeIdsOff + mid * 4).readInt();
+			if (midStrIdx < strIdx) {
+				low = mid + 1;
+			} else if (midStrIdx > strIdx) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	private void seekString(int idx) {
 		int stringIdsOff = dexReader.getHeader().getStringIdsOff();
 		absPos(stringIdsOff + idx * 4);
 		int strOff = readInt();
 		absPos(strOff);
-		return MUtf8.decode(this);
 	}
 
 	public IFieldData getFieldData(int idx) {
@@ -1,5 +1,7 @@
 package jadx.plugins.input.dex.utils;
 
+import java.nio.charset.StandardCharsets;
+
 import jadx.plugins.input.dex.DexException;
 import jadx.plugins.input.dex.sections.SectionReader;
 
@@ -7,34 +9,77 @@ public class MUtf8 {
 
 	public static String decode(SectionReader in) {
 		int len = in.readUleb128();
+		int start = in.getAbsPos();
+		byte[] data = in.getDexReader().getBuf().array();
+		String str = decode(data, start, len);
+		in.absPos(findEnd(data, start + len) + 1);
+		return str;
+	}
+
+	/**
+	 * Decode string data directly from dex buffer.
+	 *
+	 * @param start offset of first string data byte (after uleb128 length)
+	 * @param len   string length in UTF-16 code units
+	 */
+	public static String decode(byte[] data, int start, int len) {
+		if (isAscii(data, start, len)) {
+			// most strings in dex (types, names) are plain ASCII, copy them as is
+			return new String(data, start, len, StandardCharsets.ISO_8859_1);
+		}
 		char[] out = new char[len];
 		int k = 0;
+		int pos = start;
 		while (true) {
-			char a = (char) (in.readUByte() & 0xff);
+			int a = data[pos++] & 0xFF;
 			if (a == 0) {
 				return new String(out, 0, k);
 			}
-			out[k] = a;
-			if (a < '\u0080') {
-				k++;
+			if (a < 0x80) {
+				out[k++] = (char) a;
 			} else if ((a & 0xE0) == 0xC0) {
-				int b = in.readUByte();
+				int b = data[pos++] & 0xFF;
 				if ((b & 0xC0) != 0x80) {
 					throw new DexException("Bad second byte");
 				}
-				out[k] = (char) (((a & 0x1F) << 6) | (b & 0x3F));
-				k++;
+				out[k++] = (char) (((a & 0x1F) << 6) | (b & 0x3F));
 			} else if ((a & 0xF0) == 0xE0) {
-				int b = in.readUByte();
-				int c = in.readUByte();
+				int b = data[pos++] & 0xFF;
+				int c = data[pos++] & 0xFF;
 				if (((b & 0xC0) != 0x80) || ((c & 0xC0) != 0x80)) {
 					throw new DexException("Bad second or third byte");
 				}
-				out[k] = (char) (((a & 0x0F) << 12) | ((b & 0x3F) << 6) | (c & 0x3F));
-				k++;
+				out[k++] = (char) (((a & 0x0F) << 12) | ((b & 0x3F) << 6) | (c & 0x3F));
 			} else {
 				throw new DexException("Bad byte");
 			}
 		}
 	}
+
+	/**
+	 * Check that string contains only one byte chars: exactly {@code len} non-zero ASCII bytes and terminating zero.
+	 */
+	private static boolean isAscii(byte[] data, int start, int len) {
+		int end = start + len;
+		if (end >= data.length || data[end] != 0) {
+			return false;
+		}
+		for (int i = start; i < end; i++) {
+			if (data[i] <= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * MUTF-8 don't use zero byte for encode chars, so first zero byte is a string terminator
+	 */
+	private static int findEnd(byte[] data, int from) {
+		int pos = from;
+		while (data[pos] != 0) {
+			pos++;
+		}
+		return pos;
+	}
 }
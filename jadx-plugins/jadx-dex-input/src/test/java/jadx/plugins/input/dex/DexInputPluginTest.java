@@ -11,8 +11,11 @@ import org.junit.jupiter.api.Test;
 
 import jadx.api.plugins.input.data.AccessFlags;
 import jadx.api.plugins.input.data.AccessFlagsScope;
+import jadx.api.plugins.input.data.IClassData;
 import jadx.api.plugins.input.data.ICodeReader;
 import jadx.api.plugins.input.data.ILoadResult;
+import jadx.plugins.input.dex.sections.DexClassData;
+import jadx.plugins.input.dex.sections.DexStringRef;
 import jadx.plugins.input.dex.utils.SmaliTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +37,49 @@ class DexInputPluginTest {
 		processFile(SmaliTestUtils.compileSmaliFromResource("samples/test.smali"));
 	}
 
+	@Test
+	public void checkTypeRefs() throws Exception {
+		Path sample = Paths.get(ClassLoader.getSystemResource("samples/hello.dex").toURI());
+		try (ILoadResult result = new DexInputPlugin().loadFiles(Collections.singletonList(sample))) {
+			AtomicInteger count = new AtomicInteger();
+			result.visitClasses(cls -> {
+				String type = cls.getType();
+				DexStringRef typeRef = ((DexClassData) cls).getTypeRef();
+				assertThat(typeRef.length()).isEqualTo(type.length());
+				assertThat(typeRef.equalsTo(type)).isTrue();
+				assertThat(typeRef.equalsTo(type + 'a')).isFalse();
+				assertThat(typeRef.startsWith("L")).isTrue();
+				assertThat(typeRef.startsWith(type + 'a')).isFalse();
+				assertThat(typeRef.compareTo(type)).isZero();
+				assertThat(typeRef.compareTo(type + 'a')).isNegative();
+				assertThat(typeRef.compareTo("A")).isPositive();
+				assertThat(typeRef.toString()).isEqualTo(type);
+				assertThat(typeRef).isEqualTo(((DexClassData) cls).getTypeRef());
+				count.getAndIncrement();
+			});
+			assertThat(count.get()).isGreaterThan(0);
+		}
+	}
+
+	@Test
+	public void searchClass() throws Exception {
+		Path sample = Paths.get(ClassLoader.getSystemResource("samples/app-with-fake-dex.apk").toURI());
+		try (ILoadResult result = new DexInputPlugin().loadFiles(Collections.singletonList(sample))) {
+			AtomicInteger count = new AtomicInteger();
+			result.visitClasses(cls -> {
+				String type = cls.getType();
+				IClassData foundCls = result.searchClass(type);
+				assertThat(foundCls).isNotNull();
+				assertThat(foundCls.getType()).isEqualTo(type);
+				count.getAndIncrement();
+			});
+			assertThat(count.get()).isGreaterThan(0);
+			// types present in dex, but not defined as classes
+			assertThat(result.searchClass("Ljava/lang/Object;")).isNull();
+			assertThat(result.searchClass("Lnot/exist/Cls;")).isNull();
+		}
+	}
+
 	private static void processFile(Path sample) throws IOException {
 		System.out.println("Input file: " + sample.toAbsolutePath());
 		long start = System.currentTimeMillis();
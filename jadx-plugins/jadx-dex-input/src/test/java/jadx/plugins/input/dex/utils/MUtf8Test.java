@@ -0,0 +1,21 @@
+package jadx.plugins.input.dex.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MUtf8Test {
+
+	@Test
+	public void decodeAscii() {
+		byte[] data = { 5, 'a', 'b', 'c', 0, 7 };
+		assertThat(MUtf8.decode(data, 1, 3)).isEqualTo("abc");
+	}
+
+	@Test
+	public void decodeMultiByte() {
+		// two and three bytes chars and encoded zero char
+		byte[] data = { 'a', (byte) 0xC3, (byte) 0xA9, (byte) 0xE2, (byte) 0x82, (byte) 0xAC, (byte) 0xC0, (byte) 0x80, 0 };
+		assertThat(MUtf8.decode(data, 0, 4)).isEqualTo("a\u00e9\u20ac\u0000");
+	}
+}
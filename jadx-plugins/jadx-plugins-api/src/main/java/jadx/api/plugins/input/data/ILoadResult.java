@@ -3,10 +3,29 @@ package jadx.api.plugins.input.data;
 import java.io.Closeable;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
+
 public interface ILoadResult extends Closeable {
 	void visitClasses(Consumer<IClassData> consumer);
 
 	void visitResources(Consumer<IResourceData> consumer);
 
 	boolean isEmpty();
+
+	/**
+	 * Search class by type (like 'Ljava/lang/Object;').
+	 * Default implementation visits all classes, plugins can override it with faster lookup.
+	 *
+	 * @return class data or null if not found
+	 */
+	@Nullable
+	default IClassData searchClass(String type) {
+		IClassData[] result = new IClassData[1];
+		visitClasses(cls -> {
+			if (result[0] == null && cls.getType().equals(type)) {
+				result[0] = cls.copy();
+			}
+		});
+		return result[0];
+	}
 }
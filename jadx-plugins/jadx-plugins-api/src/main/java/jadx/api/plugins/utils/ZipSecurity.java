@@ -21,9 +21,21 @@ public class ZipSecurity {
 	private static final int MAX_SIZE_DIFF = 100;
 	private static final int MAX_ENTRIES_COUNT = 100_000;
 
+	// working directory can't be changed in JVM, resolve it once instead of call for every zip entry
+	private static volatile File currentDir;
+
 	private ZipSecurity() {
 	}
 
+	private static File getCurrentDir() throws IOException {
+		File dir = currentDir;
+		if (dir == null) {
+			dir = new File(".").getCanonicalFile();
+			currentDir = dir;
+		}
+		return dir;
+	}
+
 	private static boolean isInSubDirectoryInternal(File baseDir, File canonFile) {
 		if (canonFile == null) {
 			return false;
@@ -48,7 +60,7 @@ public class ZipSecurity {
 	// and prevents cases like "../classes.dex", to limit output only to the specified directory
 	public static boolean isValidZipEntryName(String entryName) {
 		try {
-			File currentPath = new File(".").getCanonicalFile();
+			File currentPath = getCurrentDir();
 			File canonical = new File(currentPath, entryName).getCanonicalFile();
 			if (isInSubDirectoryInternal(currentPath, canonical)) {
 				return true;